@@ -0,0 +1,92 @@
+package com.moviebuddies.config;
+
+import com.moviebuddies.dto.response.GenreResponse;
+import com.moviebuddies.dto.response.MovieListResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 캐시 값 직렬화 형식별 항목 크기와 직렬화/역직렬화 비용 측정
+ *
+ * 영화 목록 캐시(movies, genreTop5 등)와 같은 형태인 MovieListResponse 목록을 사용
+ * - JSON: 기존 타입 정보 포함 JSON
+ * - SMILE: 타입 정보 포함 Smile (압축 안 함)
+ * - SMILE_DEFLATE: Smile + 1KB 이상 Deflate 압축 (운영 기본 설정)
+ * 항목 크기(바이트)는 serialize 결과의 보조 지표(entryBytes)로 보고 (기본 설정인 스레드 1개 기준)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=CacheSerializerBenchmark
+ */
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    @Param({"JSON", "SMILE", "SMILE_DEFLATE"})
+    private String format;
+
+    @Param({"5", "20"})
+    private int movieCount;
+
+    private CacheValueSerializer serializer;
+    private List<MovieListResponse> value;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RedisConfig redisConfig = new RedisConfig();
+        serializer = new CacheValueSerializer(redisConfig.redisObjectMapper(),
+                "JSON".equals(format) ? CacheValueSerializer.Format.JSON : CacheValueSerializer.Format.SMILE,
+                "SMILE_DEFLATE".equals(format) ? 1024 : 0);
+
+        value = new ArrayList<>();
+        for (int i = 0; i < movieCount; i++) {
+            value.add(MovieListResponse.builder()
+                    .id((long) i)
+                    .title("Benchmark Movie " + i)
+                    .releaseDate(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .popularity(1000.0 - i)
+                    .voteCount(5000 + i)
+                    .voteAverage(7.5)
+                    .overview("A reasonably long overview text for movie " + i
+                            + " that resembles a typical TMDB synopsis with a few sentences of plot description.")
+                    .posterImageUrl("https://image.tmdb.org/t/p/w500/poster" + i + ".jpg")
+                    .runtime(120)
+                    .isNowPlaying(i % 2 == 0)
+                    .genres(List.of(
+                            GenreResponse.builder().id(28L).name("액션").tmdbId(28L).build(),
+                            GenreResponse.builder().id(18L).name("드라마").tmdbId(18L).build()))
+                    .build());
+        }
+
+        serialized = serializer.serialize(value);
+    }
+
+    /**
+     * 직렬화된 항목 크기 (Redis에 저장되는 값의 바이트 수)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EntrySize {
+
+        public long entryBytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(EntrySize size) {
+        byte[] bytes = serializer.serialize(value);
+        size.entryBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
@@ -0,0 +1,160 @@
+package com.moviebuddies.repository;
+
+import com.moviebuddies.config.SearchIndexInitializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 영화 검색 쿼리의 데이터 규모별 첫 페이지 조회 비용 측정 (목록 쿼리 + 개수 쿼리)
+ *
+ * PostgreSQL 컨테이너에 영화 100k/500k건(배우 영화 수의 1/10, 영화당 출연 3건)을 생성하고
+ * SearchIndexInitializer로 운영과 같은 트라이그램/tsvector 인덱스를 만든 뒤 측정
+ * - RANKED, RANKED_TITLE: MovieRepository의 관련도 검색 (@Query의 SQL을 그대로 읽어 실행)
+ * - LIKE: 기존 제목/배우 LIKE 통합 검색 + 인기도 정렬 (searchByTitleAndActor와 같은 조건의 SQL)
+ *
+ * 키워드는 많은 영화와 일치하는 영문 단어, 띄어쓰기가 다른 한국어 제목, 일치 항목이 없는 문자열로 비교
+ * Docker가 필요하며, 500k 데이터 생성에 수십 초가 걸림
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MovieSearchBenchmark
+ */
+@State(Scope.Benchmark)
+public class MovieSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final String LIKE_SQL = "SELECT m.* FROM movies m WHERE m.id IN (" +
+            "SELECT t.id FROM movies t WHERE lower(t.title) LIKE lower(concat('%', :pattern, '%')) ESCAPE '\\' " +
+            "UNION SELECT ma.movie_id FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+            "WHERE lower(a.name) LIKE lower(concat('%', :pattern, '%')) ESCAPE '\\') " +
+            "ORDER BY m.popularity DESC, m.id DESC";
+
+    private static final String LIKE_COUNT_SQL = "SELECT COUNT(*) FROM (" +
+            "SELECT t.id FROM movies t WHERE lower(t.title) LIKE lower(concat('%', :pattern, '%')) ESCAPE '\\' " +
+            "UNION SELECT ma.movie_id FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+            "WHERE lower(a.name) LIKE lower(concat('%', :pattern, '%')) ESCAPE '\\') matched";
+
+    @Param({"100000", "500000"})
+    private int movieCount;
+
+    @Param({"RANKED", "RANKED_TITLE", "LIKE"})
+    private String query;
+
+    @Param({"knight", "다크나이트", "zzqx"})
+    private String keyword;
+
+    private PostgreSQLContainer<?> postgres;
+    private SingleConnectionDataSource dataSource;
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private String pageSql;
+    private String countSql;
+    private MapSqlParameterSource params;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        postgres = new PostgreSQLContainer<>(DockerImageName.parse("postgres:16"));
+        postgres.start();
+        dataSource = new SingleConnectionDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword(), true);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        createSchema(jdbc);
+        generateData(jdbc);
+
+        SearchIndexInitializer indexInitializer = new SearchIndexInitializer(jdbc);
+        ReflectionTestUtils.setField(indexInitializer, "autoCreate", true);
+        indexInitializer.createSearchIndexes();
+        jdbc.execute("ANALYZE");
+
+        switch (query) {
+            case "RANKED" -> useRepositoryQuery("searchRanked");
+            case "RANKED_TITLE" -> useRepositoryQuery("searchRankedByTitle");
+            default -> {
+                pageSql = LIKE_SQL;
+                countSql = LIKE_COUNT_SQL;
+            }
+        }
+        pageSql += " LIMIT " + PAGE_SIZE;
+
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        params = new MapSqlParameterSource()
+                .addValue("keyword", keyword)
+                .addValue("pattern", MovieRepository.escapeLike(keyword))
+                .addValue("compact", MovieRepository.escapeLike(keyword.toLowerCase().replaceAll("\\s+", "")));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (dataSource != null) {
+            dataSource.destroy();
+        }
+        if (postgres != null) {
+            postgres.stop();
+        }
+    }
+
+    /**
+     * 검색 첫 페이지 (페이지 쿼리 + 전체 개수 쿼리, Page 조회와 같은 2회 왕복)
+     */
+    @Benchmark
+    public Object firstPage() {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(pageSql, params);
+        Long total = jdbcTemplate.queryForObject(countSql, params, Long.class);
+        return total + rows.size();
+    }
+
+    private void useRepositoryQuery(String methodName) throws NoSuchMethodException {
+        Query annotation = MovieRepository.class
+                .getMethod(methodName, String.class, String.class, Pageable.class)
+                .getAnnotation(Query.class);
+        pageSql = annotation.value();
+        countSql = annotation.countQuery();
+    }
+
+    /**
+     * 검색 쿼리가 참조하는 컬럼만 가진 최소 스키마
+     */
+    private static void createSchema(JdbcTemplate jdbc) {
+        jdbc.execute("CREATE TABLE movies (id BIGINT PRIMARY KEY, title TEXT NOT NULL, popularity DOUBLE PRECISION)");
+        jdbc.execute("CREATE TABLE actors (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL)");
+        jdbc.execute("CREATE TABLE movie_actors (movie_id BIGINT NOT NULL, actor_id BIGINT NOT NULL, " +
+                "PRIMARY KEY (movie_id, actor_id))");
+    }
+
+    /**
+     * 영문/한국어 단어를 조합한 제목과 이름 생성 (같은 입력이면 항상 같은 데이터)
+     */
+    private void generateData(JdbcTemplate jdbc) {
+        String words = "ARRAY['dark','knight','star','war','love','story','night','city','lost','return'," +
+                "'다크','나이트','어벤져스','엔드게임','기생충','부산행','겨울','왕국','범죄','도시']";
+        jdbc.update("INSERT INTO movies (id, title, popularity) " +
+                "SELECT i, " +
+                "       (" + words + ")[1 + i % 20] || ' ' || (" + words + ")[1 + (i / 20) % 20] || ' ' || i, " +
+                "       (i * 37 % 1000) / 10.0 " +
+                "FROM generate_series(1, ?) AS i", movieCount);
+
+        int actorCount = movieCount / 10;
+        jdbc.update("INSERT INTO actors (id, name) " +
+                "SELECT i, (" + words + ")[1 + (i * 3) % 20] || ' ' || 'actor' || i " +
+                "FROM generate_series(1, ?) AS i", actorCount);
+        jdbc.update("INSERT INTO movie_actors (movie_id, actor_id) " +
+                "SELECT DISTINCT m, 1 + (m * k * 31) % ? FROM generate_series(1, ?) AS m, generate_series(1, 3) AS k",
+                actorCount, movieCount);
+    }
+}
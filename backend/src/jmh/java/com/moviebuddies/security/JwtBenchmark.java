@@ -0,0 +1,126 @@
+package com.moviebuddies.security;
+
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * JWT 발급/검증 및 인증 필터의 요청당 비용 측정
+ *
+ * HMAC 키 길이로 서명 알고리즘을 바꿔 비교 (32바이트: HS256, 64바이트: HS512)
+ * 필터 벤치마크는 사용자 저장소를 목(mock)으로 대체하여 인증 주체 캐시 적중 경로(DB 조회 없음)를 측정
+ * (폐기 목록은 비어 있어 블룸 필터 확인만 수행)
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtBenchmark
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final String USERNAME = "benchmark-user";
+
+    @Param({"HS256", "HS512"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private UserDetailsImpl userDetails;
+    private String token;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private final FilterChain filterChain = (req, res) -> { };
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "k".repeat("HS256".equals(algorithm) ? 32 : 64));
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 604_800_000L);
+        jwtUtil.init();
+
+        User user = User.builder()
+                .id(USER_ID)
+                .username(USERNAME)
+                .password("{noop}password")
+                .email("benchmark@example.com")
+                .nickname("benchmark")
+                .isActive(true)
+                .build();
+        userDetails = UserDetailsImpl.create(user);
+        token = jwtUtil.generateToken(userDetails);
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByIdAndIsActiveTrue(anyLong())).thenReturn(Optional.of(user));
+
+        AuthenticatedPrincipalCache principalCache = new AuthenticatedPrincipalCache(userRepository,
+                mock(StringRedisTemplate.class), mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(principalCache, "maxSize", 10_000L);
+        ReflectionTestUtils.setField(principalCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(principalCache, "invalidationChannel", "auth:principal-invalidation");
+        principalCache.init();
+
+        TokenDenylist tokenDenylist = new TokenDenylist(mock(StringRedisTemplate.class),
+                mock(RedisMessageListenerContainer.class));
+        ReflectionTestUtils.setField(tokenDenylist, "expectedPerBucket", 10_000L);
+        ReflectionTestUtils.setField(tokenDenylist, "channel", "auth:token-revoked");
+        tokenDenylist.init();
+
+        filter = new JwtAuthenticationFilter(jwtUtil, principalCache, tokenDenylist);
+
+        request = new MockHttpServletRequest("GET", "/api/v1/bookmarks");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return jwtUtil.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public Claims parseToken() {
+        return jwtUtil.parseToken(token);
+    }
+
+    /**
+     * 필터 전체 경로 (토큰 추출 → 1회 파싱 → 캐시된 인증 주체 → SecurityContext 설정)
+     */
+    @Benchmark
+    public Authentication filter() throws Exception {
+        filter.doFilterInternal(request, response, filterChain);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
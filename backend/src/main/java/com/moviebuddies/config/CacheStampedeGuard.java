@@ -0,0 +1,247 @@
+package com.moviebuddies.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 만료 시점의 동시 재계산(캐시 스탬피드) 방지 정책
+ *
+ * 2단계 캐시(TwoTierCache)의 동기 로드(`@Cacheable(sync = true)`)에서 사용
+ * - 노드 간 로드 락: Redis SET NX PX로 키당 한 노드만 원본을 조회하고, 나머지 노드는 Redis에 값이 채워지기를 기다림
+ *   (대기 시간을 넘기거나 Redis 장애 시에는 직접 조회하여 응답이 막히지 않도록 함)
+ * - 조기 갱신: Redis 만료까지 남은 시간이 refresh-ahead 이내로 들어오면, 만료에 가까울수록 높은 확률로
+ *   요청 하나가 미리 재계산하고 나머지 요청은 기존 값을 그대로 응답
+ *   재계산은 크기가 제한된 전용 스레드 풀에서 실행하여 요청 스레드가 원본 조회를 기다리지 않도록 함
+ *   (풀이 포화 상태면 갱신을 건너뛰고 이후 요청이 다시 시도)
+ *
+ * 메트릭:
+ * - cache.load.duration (cache, trigger=miss|refresh): 원본 조회 시간 (TTL 경계의 지연 급증 관찰용)
+ * - cache.load.coalesced (cache, scope=local|remote): 다른 요청/노드의 조회 결과를 받아 쓴 요청 수
+ * - cache.refresh.rejected (cache): 갱신 스레드 풀 포화로 건너뛴 조기 갱신 수
+ */
+@Slf4j
+public class CacheStampedeGuard {
+
+    /**
+     * 락 보유 토큰이 일치할 때만 해제 (만료 후 다른 노드가 잡은 락을 지우지 않도록)
+     */
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final String LOCK_PREFIX = "cache:lock:";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    private static final long SHUTDOWN_WAIT_SECONDS = 5;
+
+    /**
+     * 노드 간 락을 사용하지 않거나 Redis 장애로 락 없이 진행할 때의 토큰
+     */
+    static final String NO_LOCK = "";
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long entryTtlMillis;
+    private final long refreshAheadMillis;
+    private final boolean distributedLock;
+    private final Duration lockTtl;
+    private final long lockWaitMillis;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    /**
+     * @param redisTemplate 락/만료 시간 조회용
+     * @param meterRegistry 메트릭 등록
+     * @param entryTtl Redis 캐시 항목 TTL
+     * @param refreshAhead 만료 전 조기 갱신을 시작할 구간 (0이면 조기 갱신 안 함)
+     * @param distributedLock 노드 간 로드 락 사용 여부
+     * @param lockTtl 락 보유 최대 시간 (조회 중 노드가 죽어도 락이 남지 않도록)
+     * @param lockWait 다른 노드의 조회 결과를 기다리는 최대 시간
+     * @param refreshThreads 조기 갱신 스레드 수
+     * @param refreshQueueCapacity 조기 갱신 대기열 크기
+     */
+    public CacheStampedeGuard(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Duration entryTtl,
+                              Duration refreshAhead, boolean distributedLock, Duration lockTtl, Duration lockWait,
+                              int refreshThreads, int refreshQueueCapacity) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.entryTtlMillis = entryTtl.toMillis();
+        this.refreshAheadMillis = refreshAhead.toMillis();
+        this.distributedLock = distributedLock;
+        this.lockTtl = lockTtl;
+        this.lockWaitMillis = lockWait.toMillis();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * @return 지금 저장한 항목의 Redis 만료 시각 (epoch 밀리초)
+     */
+    long expiresAtFromNow() {
+        return System.currentTimeMillis() + entryTtlMillis;
+    }
+
+    /**
+     * Redis에서 읽은 항목의 만료 시각 조회
+     * 조기 갱신을 사용하지 않거나 조회에 실패하면 조기 갱신 대상에서 제외
+     *
+     * @param redisKey Redis 캐시 키 (캐시 이름:: 접두사 포함)
+     * @return 만료 시각 (epoch 밀리초)
+     */
+    long remoteExpiresAt(String redisKey) {
+        if (refreshAheadMillis <= 0) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            Long remaining = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+            return remaining != null && remaining > 0 ? System.currentTimeMillis() + remaining : Long.MAX_VALUE;
+        } catch (Exception e) {
+            log.debug("캐시 만료 시간 조회 실패 - 키: {}, 오류: {}", redisKey, e.getMessage());
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * 조기 갱신 여부 결정
+     * 남은 시간이 refresh-ahead 구간에 들어오면 (1 - 남은 시간 / 구간) 확률로 갱신
+     * (여러 요청이 동시에 같은 시점에 갱신을 시작하지 않도록 확률적으로 분산)
+     *
+     * @param expiresAtMillis 항목 만료 시각
+     */
+    boolean shouldRefreshEarly(long expiresAtMillis) {
+        if (refreshAheadMillis <= 0 || expiresAtMillis == Long.MAX_VALUE) {
+            return false;
+        }
+        long remaining = expiresAtMillis - System.currentTimeMillis();
+        if (remaining >= refreshAheadMillis) {
+            return false;
+        }
+        double probability = 1 - Math.max(0, remaining) / (double) refreshAheadMillis;
+        return ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    /**
+     * 노드 간 로드 락 획득 시도
+     *
+     * @return 락 토큰, 다른 노드가 보유 중이면 null (락 미사용 또는 Redis 장애 시 NO_LOCK)
+     */
+    String tryLock(String cacheName, String key) {
+        if (!distributedLock) {
+            return NO_LOCK;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, lockTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("캐시 로드 락 획득 실패 (락 없이 조회) - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+            return NO_LOCK;
+        }
+    }
+
+    void unlock(String cacheName, String key, String token) {
+        if (token == null || NO_LOCK.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(cacheName, key)), token);
+        } catch (Exception e) {
+            log.warn("캐시 로드 락 해제 실패 (락 TTL 후 만료) - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 Redis에 값을 채울 때까지 대기
+     *
+     * @param remoteLookup Redis 캐시 조회
+     * @return 채워진 값, 대기 시간 내에 채워지지 않으면 null
+     */
+    Cache.ValueWrapper awaitRemote(Supplier<Cache.ValueWrapper> remoteLookup) {
+        long deadline = System.currentTimeMillis() + lockWaitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            Cache.ValueWrapper loaded = remoteLookup.get();
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 조기 갱신 작업을 갱신 스레드 풀에 제출
+     *
+     * @param cacheName 메트릭 태그로 사용할 캐시 이름
+     * @param refresh 갱신 작업
+     * @return 제출 여부 (풀이 포화 상태면 false)
+     */
+    boolean submitRefresh(String cacheName, Runnable refresh) {
+        try {
+            refreshExecutor.execute(refresh);
+            return true;
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("cache.refresh.rejected", "cache", cacheName).increment();
+            return false;
+        }
+    }
+
+    /**
+     * 조기 갱신 스레드 풀 종료
+     * 대기 중인 갱신은 버리고(기존 항목은 TTL까지 유효) 실행 중인 갱신만 잠시 기다림
+     */
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        try {
+            if (!refreshExecutor.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                log.warn("캐시 조기 갱신 스레드 종료 대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    Timer loadTimer(String cacheName, String trigger) {
+        return Timer.builder("cache.load.duration")
+                .description("캐시 미스/조기 갱신 시 원본 조회 시간")
+                .tag("cache", cacheName)
+                .tag("trigger", trigger)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    void countCoalesced(String cacheName, String scope) {
+        meterRegistry.counter("cache.load.coalesced", "cache", cacheName, "scope", scope).increment();
+    }
+
+    private static String lockKey(String cacheName, String key) {
+        return LOCK_PREFIX + cacheName + ":" + key;
+    }
+}
@@ -0,0 +1,158 @@
+package com.moviebuddies.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Redis 캐시 값 직렬화
+ *
+ * 기본 타입 정보(NON_FINAL)를 포함한 JSON은 목록의 모든 요소에 클래스 이름과 속성 이름이 반복되어
+ * Redis 메모리와 역직렬화 비용이 큼. SMILE 형식은 같은 ObjectMapper 설정(타입 정보 포함)을 Jackson Smile(바이너리 JSON)로 쓰며,
+ * 반복되는 속성 이름/클래스 이름을 앞선 항목에 대한 짧은 역참조로 기록
+ *
+ * 바이너리 값은 버전이 있는 헤더로 감싸서 저장:
+ * [MAGIC(0xFE)][버전][플래그(bit0: Deflate 압축)][본문]
+ * - 압축 임계값보다 큰 본문만 압축하고, 압축 결과가 더 작을 때만 압축본 저장
+ *
+ * 안전한 배포/롤백을 위해 읽기는 형식과 관계없이 모두 지원
+ * - 헤더가 없는 값은 기존 JSON으로 읽음 (JSON으로 되돌려도 SMILE 값을 계속 읽을 수 있음)
+ * - 알 수 없는 버전의 값은 캐시 미스로 처리하여 원본에서 다시 읽어 덮어씀
+ */
+@Slf4j
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    /**
+     * 캐시 값 쓰기 형식 (cache.serializer.format)
+     */
+    public enum Format {
+        /** 기존 타입 정보 포함 JSON (헤더 없음) */
+        JSON,
+        /** 타입 정보 포함 Smile 바이너리 (버전 헤더, 선택적 압축) */
+        SMILE
+    }
+
+    static final byte MAGIC = (byte) 0xFE;
+    static final byte VERSION = 1;
+    private static final byte FLAG_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 3;
+
+    private final GenericJackson2JsonRedisSerializer jsonSerializer;
+    private final ObjectMapper smileMapper;
+    private final Format format;
+    private final int compressThreshold;
+
+    /**
+     * @param redisObjectMapper Redis 전용 ObjectMapper (타입 정보, 날짜 설정을 Smile에도 동일하게 적용)
+     * @param format 쓰기 형식
+     * @param compressThreshold 압축을 시도할 최소 본문 크기 (바이트, 0 이하이면 압축 안 함)
+     */
+    public CacheValueSerializer(ObjectMapper redisObjectMapper, Format format, int compressThreshold) {
+        this.jsonSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        this.smileMapper = redisObjectMapper.copyWith(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        this.format = format;
+        this.compressThreshold = compressThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        // null 캐싱 표시(NullValue)는 기존 JSON 직렬화기의 전용 처리를 그대로 사용
+        if (format == Format.JSON || value == null || value instanceof NullValue) {
+            return jsonSerializer.serialize(value);
+        }
+
+        try {
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            byte flags = 0;
+            if (compressThreshold > 0 && body.length >= compressThreshold) {
+                byte[] compressed = deflate(body);
+                if (compressed.length < body.length) {
+                    body = compressed;
+                    flags |= FLAG_DEFLATE;
+                }
+            }
+
+            byte[] bytes = new byte[HEADER_SIZE + body.length];
+            bytes[0] = MAGIC;
+            bytes[1] = VERSION;
+            bytes[2] = flags;
+            System.arraycopy(body, 0, bytes, HEADER_SIZE, body.length);
+            return bytes;
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return jsonSerializer.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION) {
+            log.debug("알 수 없는 캐시 값 버전 (캐시 미스로 처리) - 버전: {}", bytes.length > 1 ? bytes[1] : -1);
+            return null;
+        }
+
+        try {
+            byte[] body = Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length);
+            if ((bytes[2] & FLAG_DEFLATE) != 0) {
+                body = inflate(body);
+            }
+            return smileMapper.readValue(body, Object.class);
+        } catch (IOException | DataFormatException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.moviebuddies.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 보관 테이블 및 인덱스 초기화
+ *
+ * 보관 테이블은 엔티티가 없으므로(조회 API에서 사용하지 않음) 애플리케이션 기동 후 직접 생성
+ * - chat_messages_archive: chat_messages와 같은 컬럼 + 보관 시각, 외래 키 없음 (채팅방/사용자 삭제와 무관하게 보관)
+ * - idx_chat_message_created: 보관/정리 작업이 채팅방과 관계없이 오래된 순으로 읽기 위한 인덱스
+ *   (기존 idx_chat_room_created는 채팅방 ID가 선두 컬럼이라 전체 기간 조건에 사용할 수 없음)
+ *
+ * 모든 구문은 IF NOT EXISTS로 반복 실행에 안전하며, 인덱스는 CONCURRENTLY로 생성하여 운영 중 테이블 잠금 방지
+ * 생성 도중 실패하여 INVALID 상태로 남은 인덱스는 다음 기동 시 삭제 후 다시 생성 (ConcurrentIndexes)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageArchiveInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE TABLE IF NOT EXISTS chat_messages_archive (" +
+                    "id BIGINT PRIMARY KEY, " +
+                    "chat_room_id BIGINT NOT NULL, " +
+                    "sender_id BIGINT NOT NULL, " +
+                    "content TEXT NOT NULL, " +
+                    "created_at TIMESTAMP NOT NULL, " +
+                    "archived_at TIMESTAMP NOT NULL DEFAULT now())",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_archive_room_created " +
+                    "ON chat_messages_archive (chat_room_id, created_at, id)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_archive_created " +
+                    "ON chat_messages_archive (created_at, id)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_message_created " +
+                    "ON chat_messages (created_at, id)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.archive.auto-create:true}")
+    private boolean autoCreate;
+
+    /**
+     * 애플리케이션 기동 완료 후 보관 테이블과 인덱스 생성
+     * 개별 구문 실패(권한 부족 등)는 경고 로그만 남기고 나머지 구문을 계속 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createArchiveTable() {
+        if (!autoCreate) {
+            log.info("채팅 메시지 보관 테이블 자동 생성이 비활성화되어 있습니다.");
+            return;
+        }
+
+        for (String statement : STATEMENTS) {
+            try {
+                ConcurrentIndexes.execute(jdbcTemplate, statement);
+            } catch (Exception e) {
+                log.warn("채팅 메시지 보관 테이블 초기화 실패 - SQL: {}, 오류: {}", statement, e.getMessage());
+            }
+        }
+
+        log.info("채팅 메시지 보관 테이블 초기화 완료");
+    }
+}
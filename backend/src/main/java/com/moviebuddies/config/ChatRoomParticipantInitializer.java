@@ -0,0 +1,51 @@
+package com.moviebuddies.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 참가자 테이블 유니크 인덱스 초기화
+ *
+ * chat_room_participants는 @JoinTable로 생성된 테이블이라 기존 스키마에는 (chat_room_id, user_id) 제약이 없음
+ * 같은 사용자의 중복 참가 행을 DB 수준에서 막기 위해 애플리케이션 기동 후 유니크 인덱스를 직접 생성
+ * (이미 중복 행이 있으면 생성에 실패하며, 경고 로그를 남기고 기동은 계속 진행)
+ *
+ * IF NOT EXISTS로 반복 실행에 안전하며, CONCURRENTLY로 생성하여 운영 중 테이블 잠금 방지
+ * 중복 행 때문에 생성이 실패하여 INVALID 인덱스가 남았으면 다음 기동 시 삭제 후 다시 생성
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomParticipantInitializer {
+
+    private static final String STATEMENT = "CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_chat_room_participant " +
+            "ON chat_room_participants (chat_room_id, user_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${chat.membership.auto-create-index:true}")
+    private boolean autoCreate;
+
+    /**
+     * 애플리케이션 기동 완료 후 유니크 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createUniqueIndex() {
+        if (!autoCreate) {
+            log.info("채팅방 참가자 유니크 인덱스 자동 생성이 비활성화되어 있습니다.");
+            return;
+        }
+
+        try {
+            ConcurrentIndexes.execute(jdbcTemplate, STATEMENT);
+            log.info("채팅방 참가자 유니크 인덱스 초기화 완료");
+        } catch (Exception e) {
+            log.warn("채팅방 참가자 유니크 인덱스 생성 실패 (중복 참가 행 확인 필요) - 오류: {}", e.getMessage());
+        }
+    }
+}
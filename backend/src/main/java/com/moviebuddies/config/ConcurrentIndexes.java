@@ -0,0 +1,50 @@
+package com.moviebuddies.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CREATE INDEX CONCURRENTLY 실행 유틸리티
+ *
+ * CONCURRENTLY 생성이 도중에 실패하면(유니크 위반, 교착, 생성 중 종료 등) INVALID 상태의 인덱스가 남고,
+ * 이후 IF NOT EXISTS는 같은 이름의 인덱스가 있으므로 건너뛰어 쿼리에 쓰이지 않는 인덱스가 계속 남음
+ * 생성 구문 실행 전에 pg_index.indisvalid를 확인하여 INVALID 인덱스를 삭제한 뒤 다시 생성
+ * (다른 노드가 지금 생성 중인 인덱스도 INVALID이므로 pg_stat_progress_create_index에 있으면 삭제하지 않음)
+ */
+@Slf4j
+final class ConcurrentIndexes {
+
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "CREATE (?:UNIQUE )?INDEX CONCURRENTLY IF NOT EXISTS (\\w+)", Pattern.CASE_INSENSITIVE);
+
+    private static final String INVALID_INDEX_SQL = "SELECT count(*) FROM pg_index i " +
+            "JOIN pg_class c ON c.oid = i.indexrelid " +
+            "JOIN pg_namespace n ON n.oid = c.relnamespace " +
+            "WHERE c.relname = ? AND n.nspname = current_schema() AND NOT i.indisvalid " +
+            "AND NOT EXISTS (SELECT 1 FROM pg_stat_progress_create_index p WHERE p.index_relid = i.indexrelid)";
+
+    private ConcurrentIndexes() {
+    }
+
+    /**
+     * 구문 실행, CREATE INDEX CONCURRENTLY IF NOT EXISTS 구문이면 같은 이름의 INVALID 인덱스를 먼저 삭제
+     *
+     * @param jdbcTemplate 실행할 JdbcTemplate
+     * @param statement 실행할 SQL
+     */
+    static void execute(JdbcTemplate jdbcTemplate, String statement) {
+        Matcher matcher = CREATE_INDEX.matcher(statement);
+        if (matcher.lookingAt()) {
+            String indexName = matcher.group(1);
+            Long invalid = jdbcTemplate.queryForObject(INVALID_INDEX_SQL, Long.class, indexName);
+            if (invalid != null && invalid > 0) {
+                log.warn("INVALID 상태의 인덱스 삭제 후 다시 생성 - 인덱스: {}", indexName);
+                jdbcTemplate.execute("DROP INDEX CONCURRENTLY IF EXISTS " + indexName);
+            }
+        }
+        jdbcTemplate.execute(statement);
+    }
+}
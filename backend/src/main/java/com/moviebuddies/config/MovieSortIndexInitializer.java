@@ -0,0 +1,71 @@
+package com.moviebuddies.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 영화 목록 커서 페이지네이션용 정렬 인덱스 초기화
+ *
+ * 인기도/개봉일/평점/투표수순 키셋 쿼리는 ORDER BY x DESC NULLS LAST, id DESC로 정렬하므로
+ * 같은 방향의 (x DESC NULLS LAST, id DESC) 인덱스가 있어야 인덱스 순서대로 읽고 바로 멈출 수 있음
+ * JPA @Index로는 NULLS LAST를 표현할 수 없으므로 ddl-auto=validate 환경에서도 생성되도록 기동 후 직접 생성
+ * (제목순, 런타임순은 오름차순 NULLS LAST로 기본 인덱스와 방향이 같아 엔티티의 @Index 사용)
+ *
+ * 모든 구문은 IF EXISTS/IF NOT EXISTS로 반복 실행에 안전하며, CONCURRENTLY로 실행하여 운영 중 테이블 잠금 방지
+ * 생성 도중 실패하여 INVALID 상태로 남은 인덱스는 다음 기동 시 삭제 후 다시 생성 (ConcurrentIndexes)
+ * 방향이 맞지 않는 이전 오름차순 인덱스는 쓰기 비용만 늘리므로 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieSortIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_popularity_desc_id " +
+                    "ON movies (popularity DESC NULLS LAST, id DESC)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_release_date_desc_id " +
+                    "ON movies (release_date DESC NULLS LAST, id DESC)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_vote_average_desc_id " +
+                    "ON movies (vote_average DESC NULLS LAST, id DESC)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_vote_count_desc_id " +
+                    "ON movies (vote_count DESC NULLS LAST, id DESC)",
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_movie_popularity_id",
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_movie_release_date_id",
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_movie_vote_average_id",
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_movie_vote_count_id"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${movie.sort-index.auto-create:true}")
+    private boolean autoCreate;
+
+    /**
+     * 애플리케이션 기동 완료 후 정렬 인덱스 생성
+     * 개별 구문 실패(권한 부족 등)는 경고 로그만 남기고 나머지 구문을 계속 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSortIndexes() {
+        if (!autoCreate) {
+            log.info("영화 정렬 인덱스 자동 생성이 비활성화되어 있습니다.");
+            return;
+        }
+
+        for (String statement : STATEMENTS) {
+            try {
+                ConcurrentIndexes.execute(jdbcTemplate, statement);
+            } catch (Exception e) {
+                log.warn("영화 정렬 인덱스 생성 실패 - SQL: {}, 오류: {}", statement, e.getMessage());
+            }
+        }
+
+        log.info("영화 정렬 인덱스 초기화 완료");
+    }
+}
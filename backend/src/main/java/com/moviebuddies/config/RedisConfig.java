@@ -3,30 +3,49 @@ package com.moviebuddies.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * Redis 연결 및 캐싱 설정
  * Spring Cache와 Redis를 연동하여 성능 최적화 제공
+ * 자주 읽히는 캐시는 로컬 L1 캐시를 앞에 두어 Redis 왕복 없이 응답
  */
 @Configuration
 @EnableCaching  // Spring Cache 기능 활성화
 public class RedisConfig {
 
+    /**
+     * L1 캐시 무효화 메시지 기본 채널
+     */
+    private static final String DEFAULT_INVALIDATION_CHANNEL = "cache:invalidation";
+
+    /**
+     * Redis 캐시 항목 만료 시간
+     */
+    private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
     /**
      * 기본 ObjectMapper (Swagger 등에서 사용)
      * activateDefaultTyping 없이 사용하여 Swagger와 충돌 방지
@@ -98,28 +117,91 @@ public class RedisConfig {
      * Spring Cache 매니저 설정
      * `@Cacheable`, `@CacheEvict` 등의 어노테이션 동작 제어
      *
+     * Redis 캐시 매니저(L2) 앞에 로컬 Caffeine 캐시(L1)를 둔 2단계 캐시 매니저
+     * cache.local.specs에 스펙이 있는 캐시만 L1을 사용하며, 나머지는 Redis 캐시를 그대로 사용
+     * cache.local.enabled가 false이면 L1 없이 Redis 캐시 매니저만 사용
+     * 캐시 값은 cache.serializer 설정에 따라 JSON 또는 Smile 바이너리(버전 헤더, 큰 값은 압축)로 저장
+     * 2단계 캐시의 동기 로드는 cache.stampede 설정에 따라 키별 단일 조회, 노드 간 락, 조기 갱신 적용
+     *
      * @param connectionFactory Redis 연결 팩토리
      * @param redisObjectMapper Redis 전용 ObjectMapper
-     * @return Redis 기반 캐시 매니저
+     * @param stringRedisTemplate L1 무효화 메시지 발행용
+     * @param environment L1 스펙 바인딩용
+     * @param meterRegistry 계층별 캐시 메트릭 등록
+     * @return 2단계 캐시 매니저
      */
     @Bean
-    public CacheManager cacheManager(
+    public TwoTierCacheManager cacheManager(
             RedisConnectionFactory connectionFactory,
-            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper) {
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            StringRedisTemplate stringRedisTemplate,
+            Environment environment,
+            MeterRegistry meterRegistry) {
 
-        // Redis 전용 ObjectMapper를 사용하는 Serializer
-        GenericJackson2JsonRedisSerializer serializer =
-                new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        // Redis 전용 ObjectMapper 설정으로 캐시 값 직렬화 (형식은 cache.serializer.format, 읽기는 두 형식 모두 지원)
+        CacheValueSerializer serializer = new CacheValueSerializer(redisObjectMapper,
+                environment.getProperty("cache.serializer.format", CacheValueSerializer.Format.class,
+                        CacheValueSerializer.Format.JSON),
+                environment.getProperty("cache.serializer.compress-threshold-bytes", Integer.class, 1024));
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))   // 캐시 만료 시간은 10분으로 설정
+                .entryTtl(CACHE_TTL)   // 캐시 만료 시간은 10분으로 설정
                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
                         .fromSerializer(serializer));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // 캐시 이름은 대소문자를 구분하므로 YAML에서 [cacheName] 형태로 지정
+        Map<String, String> localSpecs = environment.getProperty("cache.local.enabled", Boolean.class, true)
+                ? Binder.get(environment)
+                        .bind("cache.local.specs", Bindable.mapOf(String.class, String.class))
+                        .orElse(Map.of())
+                : Map.of();
+
+        CacheStampedeGuard stampedeGuard = environment.getProperty("cache.stampede.enabled", Boolean.class, true)
+                ? new CacheStampedeGuard(stringRedisTemplate, meterRegistry, CACHE_TTL,
+                        Duration.ofSeconds(environment.getProperty("cache.stampede.refresh-ahead-seconds", Long.class, 60L)),
+                        environment.getProperty("cache.stampede.distributed-lock", Boolean.class, true),
+                        Duration.ofMillis(environment.getProperty("cache.stampede.lock-ttl-ms", Long.class, 10000L)),
+                        Duration.ofMillis(environment.getProperty("cache.stampede.lock-wait-ms", Long.class, 3000L)),
+                        environment.getProperty("cache.stampede.refresh-threads", Integer.class, 2),
+                        environment.getProperty("cache.stampede.refresh-queue-capacity", Integer.class, 100))
+                : null;
+
+        return new TwoTierCacheManager(redisCacheManager, localSpecs, stringRedisTemplate,
+                environment.getProperty("cache.local.invalidation-channel", DEFAULT_INVALIDATION_CHANNEL),
+                stampedeGuard, meterRegistry);
+    }
+
+    /**
+     * Redis pub/sub 메시지 리스너 컨테이너
+     * 다른 노드가 발행한 L1 캐시 무효화 메시지를 수신
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @param cacheManager 2단계 캐시 매니저
+     * @param environment 무효화 채널 설정 조회용
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoTierCacheManager cacheManager,
+            Environment environment) {
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        String channel = environment.getProperty("cache.local.invalidation-channel", DEFAULT_INVALIDATION_CHANNEL);
+        container.addMessageListener(
+                (message, pattern) -> cacheManager.handleInvalidation(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(channel));
+
+        return container;
     }
 }
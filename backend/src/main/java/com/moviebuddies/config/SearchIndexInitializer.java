@@ -0,0 +1,73 @@
+package com.moviebuddies.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 검색용 PostgreSQL 인덱스 초기화
+ *
+ * 트라이그램(pg_trgm) GIN 인덱스와 tsvector GIN 인덱스는 JPA @Index로 표현할 수 없으므로
+ * 애플리케이션 기동 후 엔티티 테이블이 준비된 시점에 직접 생성
+ * - lower(title), lower(name): 기존 LOWER(x) LIKE '%kw%' 쿼리(자동완성, 정렬 검색) 가속
+ * - replace(lower(x), ' ', ''): 띄어쓰기를 무시하는 한국어 부분 일치 검색 가속
+ * - to_tsvector('simple', title): 단어 순서와 무관한 단어 단위 검색 가속
+ *
+ * 모든 구문은 IF NOT EXISTS로 반복 실행에 안전하며, CONCURRENTLY로 생성하여 운영 중 테이블 잠금 방지
+ * 생성 도중 실패하여 INVALID 상태로 남은 인덱스는 다음 기동 시 삭제 후 다시 생성 (ConcurrentIndexes)
+ * 한글 트라이그램 추출은 데이터베이스의 LC_CTYPE이 C가 아닌 경우에만 동작
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchIndexInitializer {
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_title_trgm " +
+                    "ON movies USING gin (lower(title) gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_title_compact_trgm " +
+                    "ON movies USING gin (replace(lower(title), ' ', '') gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_title_tsv " +
+                    "ON movies USING gin (to_tsvector('simple', title))",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_actor_name_trgm " +
+                    "ON actors USING gin (lower(name) gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_actor_name_compact_trgm " +
+                    "ON actors USING gin (replace(lower(name), ' ', '') gin_trgm_ops)",
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_movie_actors_actor " +
+                    "ON movie_actors (actor_id)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${search.index.auto-create:true}")
+    private boolean autoCreate;
+
+    /**
+     * 애플리케이션 기동 완료 후 검색 인덱스 생성
+     * 개별 구문 실패(권한 부족 등)는 경고 로그만 남기고 나머지 구문을 계속 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSearchIndexes() {
+        if (!autoCreate) {
+            log.info("검색 인덱스 자동 생성이 비활성화되어 있습니다.");
+            return;
+        }
+
+        for (String statement : STATEMENTS) {
+            try {
+                ConcurrentIndexes.execute(jdbcTemplate, statement);
+            } catch (Exception e) {
+                log.warn("검색 인덱스 생성 실패 - SQL: {}, 오류: {}", statement, e.getMessage());
+            }
+        }
+
+        log.info("검색 인덱스 초기화 완료");
+    }
+}
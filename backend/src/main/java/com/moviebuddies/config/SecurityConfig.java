@@ -2,7 +2,9 @@ package com.moviebuddies.config;
 
 import com.moviebuddies.security.JwtAuthenticationEntryPoint;
 import com.moviebuddies.security.JwtAuthenticationFilter;
+import com.moviebuddies.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -35,16 +37,19 @@ public class SecurityConfig {
 
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * 비밀번호 암호화 인코더 설정
      * BCrypt 알고리즘을 사용하여 안전한 해싱 제공
+     * 작업 계수를 올리면 기존 해시는 다음 로그인 성공 시 새 작업 계수로 다시 해싱 (UserDetailsServiceImpl)
      *
+     * @param strength BCrypt 작업 계수 (log2 반복 횟수, 1 증가 시 해싱 비용 2배)
      * @return BCryptPasswordEncoder 인스턴스
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -123,7 +128,9 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 공개 API 속도 제한 (인증 이후 실행하여 로그인 사용자는 사용자 ID 기준으로 제한)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
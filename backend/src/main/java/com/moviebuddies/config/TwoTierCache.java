@@ -0,0 +1,345 @@
+package com.moviebuddies.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 2단계 캐시 (로컬 L1 + Redis L2)
+ *
+ * 조회는 로컬 Caffeine 캐시(L1)를 먼저 확인하고, 없으면 Redis 캐시(L2)에서 읽어 L1에 채움
+ * L1 적중 시 Redis 왕복과 역직렬화를 모두 생략
+ *
+ * 쓰기/삭제는 L2에 먼저 반영한 뒤 자신의 L1을 갱신하고, 다른 노드의 L1을 무효화하도록 알림
+ * 다른 노드는 알림을 받으면 해당 키를 L1에서 제거하고 다음 조회 때 L2에서 다시 읽음
+ * 알림이 유실되더라도 L1 항목은 짧은 만료 시간(expireAfterWrite) 후 사라지므로 불일치 기간이 제한됨
+ *
+ * L1은 역직렬화된 객체를 그대로 보관하므로 캐시에서 꺼낸 객체를 호출자가 수정하지 않아야 함
+ * L1 키는 Redis 캐시 키와 같은 문자열 형태로 통일 (무효화 메시지로 전달 가능하도록)
+ *
+ * 동기 로드(`@Cacheable(sync = true)`)는 스탬피드 방지 정책(CacheStampedeGuard)이 있으면
+ * - 같은 노드의 같은 키 동시 미스는 하나의 조회 결과를 함께 사용 (single-flight)
+ * - 노드 간에는 Redis 락으로 한 노드만 조회하고, 만료가 가까운 항목은 요청 하나가 백그라운드에서 미리 갱신
+ * L1 항목에 Redis 만료 시각을 함께 보관하여 조기 갱신 판단에 Redis 조회가 필요 없도록 함
+ */
+@Slf4j
+public class TwoTierCache implements org.springframework.cache.Cache {
+
+    private final String name;
+    private final Cache<String, ValueWrapper> local;
+    private final org.springframework.cache.Cache remote;
+    private final BiConsumer<String, String> invalidationPublisher;
+    private final CacheStampedeGuard stampedeGuard;
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    /**
+     * @param name 캐시 이름
+     * @param local 로컬 L1 캐시
+     * @param remote Redis L2 캐시
+     * @param invalidationPublisher 다른 노드에 L1 무효화 알림 (캐시 이름, 키 - 전체 삭제 시 null)
+     * @param stampedeGuard 스탬피드 방지 정책 (null이면 동기 로드를 Redis 캐시에 그대로 위임)
+     * @param meterRegistry 계층별 적중/실패 메트릭 등록
+     */
+    public TwoTierCache(String name, Cache<String, ValueWrapper> local, org.springframework.cache.Cache remote,
+                        BiConsumer<String, String> invalidationPublisher, CacheStampedeGuard stampedeGuard,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+        this.stampedeGuard = stampedeGuard;
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            l1Hits.increment();
+            return cached;
+        }
+        l1Misses.increment();
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded == null) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+
+        ValueWrapper wrapper = new LocalValue(loaded.get(),
+                stampedeGuard != null ? stampedeGuard.remoteExpiresAt(redisKey(localKey)) : Long.MAX_VALUE);
+        local.put(localKey, wrapper);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값의 타입이 요청한 타입과 다릅니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (stampedeGuard == null) {
+            if (wrapper != null) {
+                return (T) wrapper.get();
+            }
+            // L2 미스: 원본 조회 후 L2에 저장 (RedisCache가 같은 키의 동시 로드를 직렬화)
+            T value = remote.get(key, valueLoader);
+            local.put(localKey(key), new SimpleValueWrapper(value));
+            return value;
+        }
+
+        if (wrapper == null) {
+            return (T) loadSingleFlight(key, valueLoader);
+        }
+        if (wrapper instanceof LocalValue cached
+                && stampedeGuard.shouldRefreshEarly(cached.expiresAtMillis)
+                && cached.refreshClaimed.compareAndSet(false, true)) {
+            refreshEarly(key, valueLoader, cached);
+        }
+        return (T) wrapper.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, newLocalValue(value));
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, newLocalValue(existing != null ? existing.get() : value));
+        if (existing == null) {
+            invalidationPublisher.accept(name, localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationPublisher.accept(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * 다른 노드의 무효화 알림 반영 (L1만 제거, L2는 이미 반영됨)
+     *
+     * @param key 무효화할 L1 키 (null이면 전체 제거)
+     */
+    void invalidateLocal(String key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    /**
+     * @return 현재 L1 항목 수 (근사값)
+     */
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    /**
+     * 캐시 미스 처리
+     * 같은 키를 조회 중인 요청이 있으면 그 결과를 기다리고, 없으면 노드 간 락을 잡고 원본 조회
+     */
+    private Object loadSingleFlight(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(localKey, flight);
+        if (existing != null) {
+            stampedeGuard.countCoalesced(name, "local");
+            return await(existing);
+        }
+
+        try {
+            Object value = loadWithLock(key, valueLoader);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(localKey, flight);
+        }
+    }
+
+    private Object loadWithLock(Object key, Callable<?> valueLoader) {
+        String localKey = localKey(key);
+        String token = stampedeGuard.tryLock(name, localKey);
+        if (token == null) {
+            // 다른 노드가 조회 중: Redis에 값이 채워지면 그 값을 사용하고, 대기 시간을 넘기면 직접 조회
+            ValueWrapper loaded = stampedeGuard.awaitRemote(() -> remote.get(key));
+            if (loaded != null) {
+                stampedeGuard.countCoalesced(name, "remote");
+                local.put(localKey, newLocalValue(loaded.get()));
+                return loaded.get();
+            }
+            return load(key, valueLoader, "miss");
+        }
+
+        try {
+            // 락 획득 직전에 다른 노드가 값을 채웠을 수 있으므로 다시 확인
+            ValueWrapper loaded = remote.get(key);
+            if (loaded != null) {
+                stampedeGuard.countCoalesced(name, "remote");
+                local.put(localKey, newLocalValue(loaded.get()));
+                return loaded.get();
+            }
+            return load(key, valueLoader, "miss");
+        } finally {
+            stampedeGuard.unlock(name, localKey, token);
+        }
+    }
+
+    /**
+     * 만료가 가까운 항목 조기 갱신 (stale-while-revalidate)
+     * 갱신은 갱신 스레드 풀에서 실행하고 요청은 기존 값으로 바로 응답
+     * 다른 노드가 이미 갱신 중이면 건너뜀 (갱신한 노드가 저장하면서 무효화 알림을 보내므로 다음 조회 때 새 값을 읽음)
+     * 풀 포화나 조회 실패 시에는 갱신 표시를 되돌려 이후 요청이 다시 시도
+     */
+    private void refreshEarly(Object key, Callable<?> valueLoader, LocalValue cached) {
+        String localKey = localKey(key);
+        boolean submitted = stampedeGuard.submitRefresh(name, () -> {
+            String token = stampedeGuard.tryLock(name, localKey);
+            if (token == null) {
+                return;
+            }
+
+            try {
+                load(key, valueLoader, "refresh");
+            } catch (RuntimeException e) {
+                log.warn("캐시 조기 갱신 실패 (기존 값 유지) - 캐시: {}, 키: {}, 오류: {}", name, localKey, e.getMessage());
+                cached.refreshClaimed.set(false);
+            } finally {
+                stampedeGuard.unlock(name, localKey, token);
+            }
+        });
+        if (!submitted) {
+            cached.refreshClaimed.set(false);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader, String trigger) {
+        Object value;
+        try {
+            value = stampedeGuard.loadTimer(name, trigger).recordCallable(valueLoader);
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private ValueWrapper newLocalValue(Object value) {
+        return new LocalValue(value, stampedeGuard != null ? stampedeGuard.expiresAtFromNow() : Long.MAX_VALUE);
+    }
+
+    /**
+     * RedisCache 기본 키 형식 (캐시 이름::키)
+     */
+    private String redisKey(String localKey) {
+        return name + "::" + localKey;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .description("캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1 항목 (값과 Redis 만료 시각)
+     */
+    private static final class LocalValue implements ValueWrapper {
+
+        private final Object value;
+        private final long expiresAtMillis;
+
+        /**
+         * 이 노드에서 조기 갱신을 한 번만 시도하도록 표시
+         */
+        private final AtomicBoolean refreshClaimed = new AtomicBoolean();
+
+        private LocalValue(Object value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        @Override
+        public Object get() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.moviebuddies.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로컬 L1 캐시를 Redis 캐시 매니저 앞에 두는 캐시 매니저
+ *
+ * L1 설정(Caffeine 스펙)이 있는 캐시만 TwoTierCache로 감싸고, 나머지는 Redis 캐시를 그대로 반환
+ * 작고 자주 읽히며 잘 바뀌지 않는 데이터(영화 목록, TOP 5, 추천 영화 등)에만 L1을 적용
+ *
+ * 노드 간 L1 무효화:
+ * - 쓰기/삭제 시 Redis pub/sub 채널로 "노드 ID, 캐시 이름, 키"를 발행
+ * - 다른 노드는 메시지를 받아 해당 L1 항목만 제거 (자신이 보낸 메시지는 무시)
+ *
+ * 메트릭:
+ * - cache.tier.gets (cache, tier=l1|l2, result=hit|miss): 계층별 적중/실패
+ * - cache.tier.l1.size (cache): L1 항목 수
+ *
+ * 빈 종료 시 스탬피드 방지 정책의 조기 갱신 스레드 풀도 함께 종료
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, DisposableBean {
+
+    /**
+     * 무효화 메시지 구분자 (캐시 이름과 키에 포함되지 않는 문자)
+     */
+    private static final char SEPARATOR = '\u001f';
+
+    /**
+     * 전체 삭제 메시지의 키 자리 표시
+     */
+    private static final String CLEAR_MARKER = "\u0000";
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, String> localSpecs;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final CacheStampedeGuard stampedeGuard;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param remoteCacheManager Redis 캐시 매니저 (L2)
+     * @param localSpecs 캐시 이름별 L1 Caffeine 스펙 (예: maximumSize=500,expireAfterWrite=60s)
+     * @param redisTemplate 무효화 메시지 발행용
+     * @param invalidationChannel 무효화 메시지 채널
+     * @param stampedeGuard 2단계 캐시 동기 로드의 스탬피드 방지 정책 (null이면 사용 안 함)
+     * @param meterRegistry 메트릭 등록
+     */
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Map<String, String> localSpecs,
+                               StringRedisTemplate redisTemplate, String invalidationChannel,
+                               CacheStampedeGuard stampedeGuard, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = Map.copyOf(localSpecs);
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.stampedeGuard = stampedeGuard;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void destroy() {
+        if (stampedeGuard != null) {
+            stampedeGuard.shutdown();
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        String spec = localSpecs.get(name);
+        if (remote == null || spec == null) {
+            return remote;
+        }
+        return twoTierCaches.computeIfAbsent(name, key -> createTwoTierCache(key, spec, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드가 발행한 무효화 메시지 처리
+     *
+     * @param message 무효화 메시지 (노드 ID, 캐시 이름, 키)
+     */
+    public void handleInvalidation(String message) {
+        String[] parts = message.split(String.valueOf(SEPARATOR), 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = twoTierCaches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(CLEAR_MARKER.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    /**
+     * 다른 노드에 L1 무효화 알림
+     * 발행 실패 시 경고 로그만 남김 (다른 노드의 L1은 만료 시간 후 자연히 갱신)
+     */
+    private void publishInvalidation(String cacheName, String key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key != null ? key : CLEAR_MARKER);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, message);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 - 캐시: {}, 키: {}, 오류: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private TwoTierCache createTwoTierCache(String name, String spec, Cache remote) {
+        TwoTierCache cache = new TwoTierCache(name, Caffeine.from(spec).build(), remote,
+                this::publishInvalidation, stampedeGuard, meterRegistry);
+        Gauge.builder("cache.tier.l1.size", cache, TwoTierCache::localSize)
+                .description("L1 캐시 항목 수")
+                .tag("cache", name)
+                .register(meterRegistry);
+
+        log.info("2단계 캐시 생성 - 캐시: {}, L1 스펙: {}", name, spec);
+        return cache;
+    }
+}
@@ -1,8 +1,11 @@
 package com.moviebuddies.config;
 
+import com.moviebuddies.websocket.ChatBrokerFanout;
 import com.moviebuddies.websocket.StompAuthChannelInterceptor;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -13,13 +16,21 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * WebSocket 설정 클래스
  * JWT 인증 기반 실시간 채팅을 위한 STOMP over WebSocket 설정
  * 간단한 채팅 시스템을 위한 메시지 브로커 및 인증 구성
+ *
+ * 브로커 방식 (chat.broker.mode):
+ * - simple: 내장 단순 브로커 (같은 노드에 연결된 구독자에게만 전달, 단일 노드/테스트용)
+ * - redis: 내장 단순 브로커 + Redis pub/sub으로 다른 노드에 브로드캐스트 전달 (ChatBrokerFanout)
+ * - relay: 외부 STOMP 브로커(ActiveMQ Artemis 등)로 중계 (chat.broker.relay.*)
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final ChatBrokerFanout chatBrokerFanout;
+    private final Environment environment;
 
     /**
      * STOMP 메시지 브로커 설정
@@ -32,7 +43,23 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
         // 서버 -> 클라이언트 브로드캐스트용 (구독 경로)
         //   `/topic/chat/{roomId}` : 채팅방별 메시지 브로드캐스트
-        config.enableSimpleBroker("/topic");
+        String mode = environment.getProperty("chat.broker.mode", "simple");
+        if ("relay".equalsIgnoreCase(mode)) {
+            config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(environment.getProperty("chat.broker.relay.host", "localhost"))
+                    .setRelayPort(environment.getProperty("chat.broker.relay.port", Integer.class, 61613))
+                    .setClientLogin(environment.getProperty("chat.broker.relay.login", "guest"))
+                    .setClientPasscode(environment.getProperty("chat.broker.relay.passcode", "guest"))
+                    .setSystemLogin(environment.getProperty("chat.broker.relay.login", "guest"))
+                    .setSystemPasscode(environment.getProperty("chat.broker.relay.passcode", "guest"));
+        } else {
+            config.enableSimpleBroker("/topic");
+            // 다른 노드로 브로드캐스트 전달 (redis 모드)
+            if (chatBrokerFanout.isEnabled()) {
+                config.configureBrokerChannel().interceptors(chatBrokerFanout);
+            }
+        }
+        log.info("STOMP 메시지 브로커 방식: {}", mode);
 
         // 클라이언트 -> 서버 메시지 전송용 (발행 경로)
         //   `/app/chat/{roomId}/send` : 메시지 전송
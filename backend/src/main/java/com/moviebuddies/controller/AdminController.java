@@ -1,7 +1,12 @@
 package com.moviebuddies.controller;
 
 import com.moviebuddies.dto.response.ApiResponse;
+import com.moviebuddies.dto.response.TmdbSyncJobResponse;
+import com.moviebuddies.service.ChatMessageArchiveService;
+import com.moviebuddies.service.MovieCounterRepairService;
 import com.moviebuddies.service.TmdbService;
+import com.moviebuddies.service.TmdbSyncJob;
+import com.moviebuddies.service.TmdbSyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -9,10 +14,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 /**
  * 관리자 전용 API 컨트롤러
  *
@@ -21,7 +30,11 @@ import org.springframework.web.bind.annotation.RestController;
  * 나중에 관리자 계정만 사용할 수 있도록 구현할 수 있음
  *
  * - TMDB 전체 데이터 동기화 (장르, 영화, 배우)
+ * - TMDB 증분 동기화 (변경된 영화만)
+ * - TMDB 동기화 작업 진행 상황 조회 및 취소 (전체/증분 동기화는 백그라운드 작업으로 실행)
  * - 장르 데이터만 개별 동기화
+ * - 영화 집계 컬럼 보정
+ * - 오래된 채팅 메시지 보관/정리
  */
 @Slf4j
 @RestController
@@ -36,40 +49,142 @@ public class AdminController {
      */
     private final TmdbService tmdbService;
 
+    /**
+     * TMDB 동기화 작업 관리 서비스
+     * 전체/증분 동기화를 백그라운드 작업으로 실행하고 진행 상황을 추적
+     */
+    private final TmdbSyncJobService tmdbSyncJobService;
+
+    /**
+     * 영화 집계 컬럼(리뷰 수, 평점 합계, 북마크 수) 보정 서비스
+     */
+    private final MovieCounterRepairService movieCounterRepairService;
+
+    /**
+     * 오래된 채팅 메시지 보관/정리 서비스
+     */
+    private final ChatMessageArchiveService chatMessageArchiveService;
+
     /**
      * TMDB 전체 데이터 동기화
      *
      * 장르, 인기 영화, 현재 상영작, 배우 정보를 순차적으로 동기화
      * 초기 데이터베이스 구축 시나 대규모 업데이트 시 사용
+     * 동기화는 백그라운드에서 실행되며, 반환된 작업 ID로 진행 상황을 조회
      *
-     * @return 동기화 완료 메시지
+     * @return 등록된 동기화 작업
      */
-    @Operation(summary = "TMDB 데이터 동기화", description = "장르, 영화, 배우 정보를 동기화합니다.")
+    @Operation(summary = "TMDB 데이터 동기화", description = "장르, 영화, 배우 정보 동기화 작업을 시작합니다.")
     @SecurityRequirement(name = "Bearer Authentication")
     @ApiResponses({
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "데이터 동기화 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "동기화 작업 등록"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "500", description = "동기화 중 오류 발생")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "진행 중인 동기화 작업 있음")
     })
     @PostMapping("/tmdb/sync-all")
-    public ResponseEntity<ApiResponse<String>> syncAllData() {
+    public ResponseEntity<ApiResponse<TmdbSyncJobResponse>> syncAllData() {
 
-        log.info("DB에 필요한 TMDB 데이터를 동기화합니다.");
+        log.info("DB에 필요한 TMDB 데이터 동기화 작업을 등록합니다.");
 
-        try {
-            tmdbService.syncAllData();
+        TmdbSyncJob job = tmdbSyncJobService.submit(TmdbSyncJob.Type.ALL);
 
-            log.info("TMDB 데이터 동기화가 완료되었습니다.");
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("데이터 동기화 작업이 시작되었습니다.", TmdbSyncJobResponse.from(job)));
+    }
 
-            return ResponseEntity.ok(ApiResponse.success("데이터 동기화가 완료되었습니다."));
+    /**
+     * TMDB 증분 동기화
+     *
+     * 마지막 동기화 이후 TMDB에서 변경된 영화와 상세 정보가 없는 영화만 다시 동기화
+     * 정기 스케줄 외에 즉시 반영이 필요할 때 사용
+     * 동기화는 백그라운드에서 실행되며, 반환된 작업 ID로 진행 상황을 조회
+     *
+     * @return 등록된 동기화 작업
+     */
+    @Operation(summary = "TMDB 증분 동기화", description = "TMDB 변경 목록을 기준으로 변경된 영화만 동기화하는 작업을 시작합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "동기화 작업 등록"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "진행 중인 동기화 작업 있음")
+    })
+    @PostMapping("/tmdb/sync-changes")
+    public ResponseEntity<ApiResponse<TmdbSyncJobResponse>> syncChangedMovies() {
 
-        } catch (Exception e) {
+        log.info("TMDB 증분 동기화 작업을 등록합니다.");
 
-            log.error("TMDB 데이터 동기화 중 오류가 발생했습니다.", e);
+        TmdbSyncJob job = tmdbSyncJobService.submit(TmdbSyncJob.Type.CHANGES);
 
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.error("데이터 동기화 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        return ResponseEntity.accepted()
+                .body(ApiResponse.success("증분 동기화 작업이 시작되었습니다.", TmdbSyncJobResponse.from(job)));
+    }
+
+    /**
+     * TMDB 동기화 작업 목록
+     *
+     * 메모리에 보관 중인 최근 동기화 작업을 최신 순으로 조회
+     *
+     * @return 최근 동기화 작업 목록
+     */
+    @Operation(summary = "TMDB 동기화 작업 목록", description = "최근 동기화 작업 목록을 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/tmdb/jobs")
+    public ResponseEntity<ApiResponse<List<TmdbSyncJobResponse>>> getSyncJobs() {
+
+        List<TmdbSyncJobResponse> jobs = tmdbSyncJobService.getRecentJobs().stream()
+                .map(TmdbSyncJobResponse::from)
+                .toList();
+
+        return ResponseEntity.ok(ApiResponse.success(jobs));
+    }
+
+    /**
+     * TMDB 동기화 작업 진행 상황 조회
+     *
+     * 단계별 수집 건수, 저장한 영화 수, 오류 수, 처리량을 반환
+     *
+     * @param jobId 작업 ID
+     * @return 동기화 작업 상태
+     */
+    @Operation(summary = "TMDB 동기화 작업 조회", description = "동기화 작업의 상태와 진행 상황을 조회합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 없음")
+    })
+    @GetMapping("/tmdb/jobs/{jobId}")
+    public ResponseEntity<ApiResponse<TmdbSyncJobResponse>> getSyncJob(@PathVariable String jobId) {
+
+        TmdbSyncJob job = tmdbSyncJobService.getJob(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success(TmdbSyncJobResponse.from(job)));
+    }
+
+    /**
+     * TMDB 동기화 작업 취소
+     *
+     * 실행 중인 작업은 진행 중인 청크 저장이 끝난 뒤 취소되며, 이미 저장된 데이터는 유지됨
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청된 동기화 작업
+     */
+    @Operation(summary = "TMDB 동기화 작업 취소", description = "대기 중이거나 실행 중인 동기화 작업을 취소합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "취소 요청 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업 없음"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 종료된 작업")
+    })
+    @PostMapping("/tmdb/jobs/{jobId}/cancel")
+    public ResponseEntity<ApiResponse<TmdbSyncJobResponse>> cancelSyncJob(@PathVariable String jobId) {
+
+        log.info("TMDB 동기화 작업 취소를 요청합니다. 작업 ID: {}", jobId);
+
+        TmdbSyncJob job = tmdbSyncJobService.cancel(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success("동기화 작업 취소를 요청했습니다.", TmdbSyncJobResponse.from(job)));
     }
 
     /**
@@ -106,4 +221,52 @@ public class AdminController {
                     .body(ApiResponse.error("장르 동기화 중 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 영화 집계 컬럼 보정
+     *
+     * 리뷰 수, 평점 합계, 북마크 수를 실제 리뷰/북마크 데이터 기준으로 일괄 재계산
+     * 정기 스케줄 외에 데이터 이관 직후 등 즉시 보정이 필요할 때 사용
+     *
+     * @return 보정된 영화 수
+     */
+    @Operation(summary = "영화 집계 컬럼 보정", description = "영화별 리뷰 수, 평점 합계, 북마크 수를 재계산합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "보정 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PostMapping("/movies/repair-counters")
+    public ResponseEntity<ApiResponse<Integer>> repairMovieCounters() {
+
+        log.info("영화 집계 컬럼 보정을 시작합니다.");
+
+        int repaired = movieCounterRepairService.repairCounters();
+
+        return ResponseEntity.ok(ApiResponse.success("영화 집계 컬럼 보정이 완료되었습니다.", repaired));
+    }
+
+    /**
+     * 오래된 채팅 메시지 보관/정리
+     *
+     * 보존 기간이 지난 채팅 메시지를 보관 테이블로 이동(또는 삭제)
+     * 정기 스케줄 외에 보존 기간 변경 직후 등 즉시 정리가 필요할 때 사용
+     *
+     * @return 이동/삭제한 메시지 수
+     */
+    @Operation(summary = "채팅 메시지 보관", description = "보존 기간이 지난 채팅 메시지를 보관 테이블로 이동하거나 삭제합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "보관 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PostMapping("/chat/archive")
+    public ResponseEntity<ApiResponse<Integer>> archiveChatMessages() {
+
+        log.info("채팅 메시지 보관을 시작합니다.");
+
+        int archived = chatMessageArchiveService.archiveOldMessages();
+
+        return ResponseEntity.ok(ApiResponse.success("채팅 메시지 보관이 완료되었습니다.", archived));
+    }
 }
@@ -169,16 +169,25 @@ public class AuthController {
      * 로그아웃 API
      * 
      * 현재 사용자 세션을 종료
-     * JWT 토큰 방식에서는 클라이언트 측에서 토큰을 삭제하는 것으로 로그아웃을 처리
+     * Authorization 헤더의 액세스 토큰과 요청 본문의 리프레시 토큰(선택)을 서버에서 폐기하여
+     * 클라이언트가 토큰을 삭제하지 않았거나 토큰이 유출된 경우에도 더 이상 사용할 수 없게 함
      *
+     * @param authorization Authorization 헤더 ("Bearer {token}")
+     * @param request 함께 폐기할 리프레시 토큰 (선택)
      * @return 로그아웃 완료 메시지
      */
-    @Operation(summary = "로그아웃", description = "현재 세션을 종료합니다.")
+    @Operation(summary = "로그아웃", description = "현재 세션을 종료하고 액세스 토큰과 리프레시 토큰을 폐기합니다.")
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        // JWT 토큰 방식에서는 클라이언트에서 토큰을 삭제하면 됨
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody(required = false) RefreshTokenRequest request) {
         log.info("로그아웃 요청");
 
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+
         return ResponseEntity.ok(ApiResponse.success("로그아웃이 완료되었습니다."));
     }
 }
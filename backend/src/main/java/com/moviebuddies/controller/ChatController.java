@@ -2,6 +2,7 @@ package com.moviebuddies.controller;
 
 import com.moviebuddies.dto.request.ChatRoomCreateRequest;
 import com.moviebuddies.dto.response.ApiResponse;
+import com.moviebuddies.dto.response.ChatMessageHistoryResponse;
 import com.moviebuddies.dto.response.ChatMessageResponse;
 import com.moviebuddies.dto.response.ChatRoomResponse;
 import com.moviebuddies.security.UserDetailsImpl;
@@ -134,6 +135,34 @@ public class ChatController {
         return ResponseEntity.ok(ApiResponse.success("채팅 메시지 목록입니다.", messages));
     }
 
+    /**
+     * 채팅방 최근 메시지 조회 (키셋 페이징)
+     * 채팅 화면 진입 시 최근 메시지를 불러오고, 스크롤 업 시 응답의 nextCursor를 cursor로(또는 nextBefore를 before로) 전달하여 이전 메시지 조회
+     * 최근 메시지는 DB 조회 없이 버퍼에서 응답하며, 저장 대기 중인 메시지도 포함
+     *
+     * @param roomId 조회할 채팅방 ID
+     * @param before 기준 메시지 ID (첫 페이지는 생략)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략, before보다 우선)
+     * @param size 페이지 크기 (최대 100)
+     * @param userDetails 인증된 사용자 정보 (권한 확인용)
+     * @return 해당 채팅방의 메시지 목록 (최신순)과 이전 메시지 조회용 기준 ID
+     */
+    @Operation(summary = "채팅방 최근 메시지 조회", description = "채팅방의 최근 메시지를 기준 메시지 ID 이전으로 조회합니다. 참가자만 조회 가능합니다.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/rooms/{roomId}/messages/recent")
+    public ResponseEntity<ApiResponse<ChatMessageHistoryResponse>> getRecentMessages(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+
+        ChatMessageHistoryResponse messages = chatService.getRecentMessages(
+                userDetails.getId(), roomId, before, cursor, size);
+
+        return ResponseEntity.ok(ApiResponse.success("채팅 메시지 목록입니다.", messages));
+    }
+
     /**
      * 채팅방 입장 처리
      * DB에 참가자로 등록하고 실시간 채팅 준비
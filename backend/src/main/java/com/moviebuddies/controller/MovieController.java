@@ -4,6 +4,7 @@ import com.moviebuddies.dto.request.MovieFilterRequest;
 import com.moviebuddies.dto.request.MovieSearchRequest;
 import com.moviebuddies.dto.response.ApiResponse;
 import com.moviebuddies.dto.response.MovieAutocompleteResponse;
+import com.moviebuddies.dto.response.MovieCursorPageResponse;
 import com.moviebuddies.dto.response.MovieListResponse;
 import com.moviebuddies.dto.response.MovieResponse;
 import com.moviebuddies.service.MovieService;
@@ -61,6 +62,40 @@ public class MovieController {
         return ResponseEntity.ok(ApiResponse.success("영화 목록을 성공적으로 조회했습니다.", movies));
     }
 
+    /**
+     * 커서 기반 영화 목록 조회 (무한 스크롤)
+     * 응답의 nextCursor를 다음 요청의 cursor로 전달하여 이어서 조회
+     * 깊은 페이지에서도 OFFSET 스캔 없이 일정한 응답 시간 보장
+     *
+     * @param sortBy 정렬 기준 (popularity, title, release_date, vote_average, vote_count, runtime)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @param includeTotal 전체 영화 수 포함 여부
+     * @return 영화 목록과 다음 페이지 커서
+     */
+    @Operation(summary = "영화 목록 커서 조회", description = "커서 기반으로 영화 목록을 조회합니다. (무한 스크롤용)")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<MovieCursorPageResponse>> getMoviesByCursor(
+            @Parameter(description = "정렬 기준 (popularity, title, release_date, vote_average, vote_count, runtime)")
+            @RequestParam(defaultValue = "popularity") String sortBy,
+            @Parameter(description = "이전 응답의 다음 페이지 커서")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 영화 수 포함 여부")
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("영화 목록 커서 조회 요청 - 정렬: {}, 크기: {}, 커서 존재: {}", sortBy, size, cursor != null);
+
+        MovieCursorPageResponse movies = movieService.getMoviesByCursor(cursor, size, sortBy, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success("영화 목록을 성공적으로 조회했습니다.", movies));
+    }
+
     /**
      * 특정 영화의 상세 정보 조회
      * 장르, 출연진, 리뷰 통계 등 모든 정보 포함
@@ -183,6 +218,7 @@ public class MovieController {
      *
      * @param keyword 검색할 키워드 (영화 제목 또는 배우 이름)
      * @param searchType 검색 범위 (title: 제목만, actor: 배우만, all: 제목+배우)
+     * @param sortBy 정렬 기준 (relevance: 관련도+인기도, 그 외 영화 목록 정렬 기준)
      * @param pageable 페이징 정보
      * @return 검색 결과와 성공 메시지
      */
@@ -191,11 +227,10 @@ public class MovieController {
     public ResponseEntity<ApiResponse<Page<MovieListResponse>>> searchMovies(
             @Parameter(description = "검색 키워드") @RequestParam String keyword,
             @Parameter(description = "검색 타입 (title, actor, all)") @RequestParam(defaultValue = "all") String searchType,
-            @RequestParam(defaultValue = "popularity") String sortBy,
+            @Parameter(description = "정렬 기준 (relevance, popularity, title, release_date, vote_average, vote_count, runtime)")
+            @RequestParam(defaultValue = "relevance") String sortBy,
             @PageableDefault(size = 20, sort = "popularity", direction = Sort.Direction.DESC) Pageable pageable) {
 
-        Pageable sortedPageable = movieService.createSortedPageable(pageable, sortBy);
-
         if (keyword == null || keyword.trim().isEmpty()) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("검색 키워드를 입력해주세요."));
@@ -211,7 +246,7 @@ public class MovieController {
                     .body(ApiResponse.error("검색 타입은 title, actor, all 중 하나여야 합니다."));
         }
 
-        Page<MovieListResponse> movies = movieService.searchMovies(searchRequest, sortedPageable);
+        Page<MovieListResponse> movies = movieService.searchMovies(searchRequest, pageable, sortBy);
         return ResponseEntity.ok(ApiResponse.success("영화 검색을 완료했습니다.", movies));
     }
 
@@ -0,0 +1,49 @@
+package com.moviebuddies.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋 기반 채팅 메시지 기록 응답 DTO
+ *
+ * 스크롤 업 시 페이지 번호 대신 현재 목록의 가장 오래된 메시지(커서 또는 ID)를 기준으로 이전 메시지를 조회
+ * 새 메시지가 계속 추가되어도 페이지 경계가 밀리지 않음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageHistoryResponse {
+
+    /**
+     * 메시지 목록 (최신순)
+     */
+    private List<ChatMessageResponse> content;
+
+    /**
+     * 이전 메시지 조회용 기준 메시지 ID (다음 요청의 before)
+     * 더 이전 메시지가 없으면 null
+     */
+    private Long nextBefore;
+
+    /**
+     * 이전 메시지 조회용 커서 (다음 요청의 cursor)
+     * 기준 메시지의 생성 시각을 포함하므로 기준 메시지가 보관된 뒤에도 이어서 조회 가능
+     * 더 이전 메시지가 없으면 null
+     */
+    private String nextCursor;
+
+    /**
+     * 이전 메시지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private Integer size;
+}
@@ -70,6 +70,25 @@ public class ChatMessageResponse {
                 .build();
     }
 
+    /**
+     * 발송자 표시명을 직접 지정하여 응답 생성
+     * 발송자/채팅방 엔티티를 읽지 않고 참가자 인덱스로 표시명을 정한 경우
+     *
+     * @param message 변환할 ChatMessage 엔티티
+     * @param senderDisplayName 발송자 익명 표시명
+     * @return 익명화된 메시지 응답 DTO
+     */
+    public static ChatMessageResponse from(ChatMessage message, String senderDisplayName) {
+        return ChatMessageResponse.builder()
+                .id(message.getId())
+                .chatRoomId(message.getChatRoom().getId())
+                .senderDisplayName(senderDisplayName)
+                .content(message.getContent())
+                .createdAt(message.getCreatedAt())
+                .isSystem(false)
+                .build();
+    }
+
     /**
      * 시스템 메시지 생성용 정적 메서드
      * 채팅방 생성 알림, 입장/퇴장 알림 등에 사용
@@ -85,4 +85,26 @@ public class ChatRoomResponse {
                 .createdAt(chatRoom.getCreatedAt())
                 .build();
     }
+
+    /**
+     * 참가자 수와 생성자 표시명을 직접 지정하여 응답 DTO 생성
+     * 참가자 컬렉션을 읽지 않고 참가자 인덱스 값을 사용하는 경우
+     *
+     * @param chatRoom 변환할 ChatRoom 엔티티
+     * @param currentParticipants 현재 참가자 수
+     * @param createdByDisplayName 생성자 익명 표시명
+     * @return 익명화된 채팅 응답 DTO
+     */
+    public static ChatRoomResponse from(ChatRoom chatRoom, int currentParticipants, String createdByDisplayName) {
+        return ChatRoomResponse.builder()
+                .id(chatRoom.getId())
+                .name(chatRoom.getName())
+                .description(chatRoom.getDescription())
+                .maxParticipants(chatRoom.getMaxParticipants())
+                .currentParticipants(currentParticipants)
+                .isActive(chatRoom.getIsActive())
+                .createdByDisplayName(createdByDisplayName)
+                .createdAt(chatRoom.getCreatedAt())
+                .build();
+    }
 }
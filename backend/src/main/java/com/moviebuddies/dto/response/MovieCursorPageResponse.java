@@ -0,0 +1,49 @@
+package com.moviebuddies.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 영화 목록 응답 DTO
+ *
+ * 무한 스크롤 클라이언트를 위한 응답 객체로, 페이지 번호 대신 다음 페이지 조회용 커서를 제공
+ * 전체 개수는 요청한 경우에만 포함되며, 요청하지 않으면 JSON에서 제외됨
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MovieCursorPageResponse {
+
+    /**
+     * 현재 페이지의 영화 목록
+     */
+    private List<MovieListResponse> content;
+
+    /**
+     * 다음 페이지 조회용 커서
+     * 마지막 페이지인 경우 null
+     */
+    private String nextCursor;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private boolean hasNext;
+
+    /**
+     * 요청한 페이지 크기
+     */
+    private Integer size;
+
+    /**
+     * 전체 영화 수 (includeTotal 요청 시에만 포함)
+     */
+    private Long totalElements;
+}
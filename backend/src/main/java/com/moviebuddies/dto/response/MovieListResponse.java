@@ -118,4 +118,32 @@ public class MovieListResponse {
                 .bookmarkCount(movie.getBookmarkCount())
                 .build();
     }
+
+    /**
+     * 미리 일괄 조회한 장르로 MovieListResponse를 생성하는 정적 팩토리 메서드
+     *
+     * 목록 조회 시 영화별 연관 컬렉션 지연 로딩(N+1)을 피하기 위해 사용
+     * 영화 엔티티에서는 기본 컬럼과 집계 컬럼만 읽고 연관 컬렉션은 초기화하지 않음
+     *
+     * @param movie 변환할 Movie 엔티티
+     * @param genres 해당 영화의 장르 목록
+     * @return 변환된 MovieListResponse DTO
+     */
+    public static MovieListResponse of(Movie movie, List<GenreResponse> genres) {
+        return MovieListResponse.builder()
+                .id(movie.getId())
+                .title(movie.getTitle())
+                .releaseDate(movie.getReleaseDate())
+                .popularity(movie.getPopularity())
+                .voteCount(movie.getVoteCount())
+                .voteAverage(movie.getVoteAverage())
+                .overview(movie.getOverview())
+                .posterImageUrl(movie.getPosterImageUrl())
+                .runtime(movie.getRuntime())
+                .isNowPlaying(movie.getIsNowPlaying())
+                .genres(genres)
+                .reviewCount(movie.getReviewCount())
+                .bookmarkCount(movie.getBookmarkCount())
+                .build();
+    }
 }
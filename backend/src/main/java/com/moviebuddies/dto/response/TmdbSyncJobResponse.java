@@ -0,0 +1,118 @@
+package com.moviebuddies.dto.response;
+
+import com.moviebuddies.service.TmdbSyncJob;
+import com.moviebuddies.service.TmdbSyncProgress;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * TMDB 동기화 작업 응답 DTO
+ *
+ * 관리자 API에서 동기화 작업의 상태와 진행 상황을 조회할 때 사용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TmdbSyncJobResponse {
+
+    /**
+     * 작업 ID (진행 상황 조회 및 취소 시 사용)
+     */
+    private String id;
+
+    /**
+     * 작업 종류 (ALL, CHANGES)
+     */
+    private TmdbSyncJob.Type type;
+
+    /**
+     * 작업 상태 (QUEUED, RUNNING, COMPLETED, FAILED, CANCELLED)
+     */
+    private TmdbSyncJob.Status status;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    /**
+     * 현재 실행 중인 단계 (popular, now-playing, details, changes)
+     */
+    private String currentStage;
+
+    /**
+     * 단계별 진행 상황 (시작 순서)
+     */
+    private List<StageProgress> stages;
+
+    /**
+     * 저장한 영화 수 (내용이 바뀌지 않아 생략한 영화 제외)
+     */
+    private long moviesUpserted;
+
+    /**
+     * 수집 또는 저장 실패 건수
+     */
+    private long errors;
+
+    /**
+     * 초당 처리 건수
+     */
+    private double throughput;
+
+    /**
+     * 실패 사유 (FAILED 상태일 때만)
+     */
+    private String errorMessage;
+
+    /**
+     * 단계별 진행 상황
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StageProgress {
+        private String name;
+        private int total;
+        private int fetched;
+        private int failed;
+    }
+
+    /**
+     * TmdbSyncJob으로부터 응답 DTO 생성
+     *
+     * @param job 동기화 작업
+     * @return 변환된 TmdbSyncJobResponse DTO
+     */
+    public static TmdbSyncJobResponse from(TmdbSyncJob job) {
+        TmdbSyncProgress progress = job.getProgress();
+
+        return TmdbSyncJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .currentStage(progress.getCurrentStage())
+                .stages(progress.getStages().stream()
+                        .map(stage -> StageProgress.builder()
+                                .name(stage.name())
+                                .total(stage.total())
+                                .fetched(stage.fetched())
+                                .failed(stage.failed())
+                                .build())
+                        .toList())
+                .moviesUpserted(progress.getMoviesUpserted())
+                .errors(progress.getErrors())
+                .throughput(Math.round(job.getThroughput() * 10) / 10.0)
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
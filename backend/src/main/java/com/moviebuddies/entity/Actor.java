@@ -117,6 +117,17 @@ public class Actor {
      * @return 프로필 이미지 URL 또는 기본 이미지 URL
      */
     public String getProfileImageUrl() {
+        return profileImageUrlOf(profilePath);
+    }
+
+    /**
+     * 프로필 경로로부터 프로필 이미지 URL 생성
+     * 엔티티를 로딩하지 않는 조회(자동완성 인덱스 등)에서도 동일한 규칙을 사용하기 위한 정적 메서드
+     *
+     * @param profilePath TMDB 프로필 경로 또는 완전한 URL
+     * @return 프로필 이미지 URL 또는 기본 이미지 URL
+     */
+    public static String profileImageUrlOf(String profilePath) {
         if (profilePath != null && !profilePath.isEmpty()) {
             return profilePath.startsWith("http") ? profilePath : "https://image.tmdb.org/t/p/w185" + profilePath;
         }
@@ -85,7 +85,9 @@ public class ChatRoom {
     @JoinTable(
             name = "chat_room_participants",
             joinColumns = @JoinColumn(name = "chat_room_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            uniqueConstraints = @UniqueConstraint(name = "uk_chat_room_participant",
+                    columnNames = {"chat_room_id", "user_id"})
     )
     @Builder.Default
     private List<User> participants = new ArrayList<>();
@@ -133,8 +135,20 @@ public class ChatRoom {
             return "Unknown";
         }
 
+        return anonymousDisplayName(user.getId(), this.id);
+    }
+
+    /**
+     * 사용자 ID와 채팅방 ID만으로 익명 표시명 생성
+     * 참가자 컬렉션을 읽지 않는 경로(참가자 인덱스로 참가 여부를 확인한 경우)에서 사용
+     *
+     * @param userId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @return "익명XXX" 형태의 문자열
+     */
+    public static String anonymousDisplayName(Long userId, Long roomId) {
         // 사용자 ID와 채팅방 ID를 조합한 해시 기반 익명 이름
-        int hash = Math.abs((user.getId().toString() + this.id.toString()).hashCode());
+        int hash = Math.abs((userId.toString() + roomId.toString()).hashCode());
         // 1-999 범위
         int displayNumber = (hash % 999) + 1;
 
@@ -2,6 +2,7 @@ package com.moviebuddies.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,9 +16,17 @@ import java.util.List;
  * 영화 엔티티
  * TMDB API와 연동하여 영화 정보를 관리
  * 장르, 배우, 북마크, 리뷰와의 관계 포함됨
+ * 정렬 기준별 (정렬 컬럼, id) 복합 인덱스로 커서 기반 페이지네이션 지원
+ * (내림차순 NULLS LAST 정렬 인덱스는 MovieSortIndexInitializer에서 생성)
+ * 리뷰 수, 평점 합계, 북마크 수는 컬렉션 로딩 없이 조회할 수 있도록 비정규화 컬럼으로 관리
+ * TMDB 증분 동기화를 위해 마지막 상세 동기화 시각과 내용 해시를 보관
  */
 @Entity
-@Table(name = "movies")
+@Table(name = "movies", indexes = {
+        @Index(name = "idx_movie_title_id", columnList = "title, id"),
+        @Index(name = "idx_movie_runtime_id", columnList = "runtime, id"),
+        @Index(name = "idx_movie_tmdb_synced_at", columnList = "tmdb_synced_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -112,6 +121,48 @@ public class Movie {
     @Column(name = "tmdb_id", unique = true)
     private Long tmdbId;
 
+    /**
+     * TMDB 상세 정보를 마지막으로 반영한 시각
+     * null이면 아직 상세 정보(런타임, 출연진)를 가져오지 않은 영화
+     * 다시 동기화했더라도 내용 해시가 같아 쓰기를 생략한 경우에는 갱신되지 않음
+     */
+    @Column(name = "tmdb_synced_at")
+    private LocalDateTime tmdbSyncedAt;
+
+    /**
+     * 마지막으로 반영한 TMDB 상세 정보의 내용 해시 (SHA-256)
+     * 동일한 내용이면 다시 동기화해도 쓰기를 생략
+     */
+    @Column(name = "tmdb_content_hash", length = 64)
+    private String tmdbContentHash;
+
+    /**
+     * 리뷰 수 (비정규화 집계 컬럼)
+     * 리뷰 작성/삭제 시 원자적 UPDATE로 갱신되며, 주기적인 보정 작업으로 실제 값과 맞춤
+     */
+    @Column(name = "review_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer reviewCount = 0;
+
+    /**
+     * 리뷰 평점 합계 (비정규화 집계 컬럼)
+     * 평균 평점 계산용 (rating_sum / review_count)
+     */
+    @Column(name = "rating_sum", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    /**
+     * 북마크 수 (비정규화 집계 컬럼)
+     * 북마크 추가/삭제 시 원자적 UPDATE로 갱신
+     */
+    @Column(name = "bookmark_count", nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Integer bookmarkCount = 0;
+
     /**
      * 엔티티 생성 시간
      * JPA Auditing으로 자동 설정
@@ -177,6 +228,17 @@ public class Movie {
      * @return 포스터 이미지 URL 또는 기본 이미지 URL
      */
     public String getPosterImageUrl() {
+        return posterImageUrlOf(posterPath);
+    }
+
+    /**
+     * 포스터 경로로부터 포스터 이미지 URL 생성
+     * 엔티티를 로딩하지 않는 조회(자동완성 인덱스 등)에서도 동일한 규칙을 사용하기 위한 정적 메서드
+     *
+     * @param posterPath TMDB 포스터 경로 또는 완전한 URL
+     * @return 포스터 이미지 URL 또는 기본 이미지 URL
+     */
+    public static String posterImageUrlOf(String posterPath) {
         if (posterPath != null && !posterPath.isEmpty()) {
             return posterPath.startsWith("http") ? posterPath : "https://image.tmdb.org/t/p/w500" + posterPath;
         }
@@ -198,36 +260,15 @@ public class Movie {
 
     /**
      * 사용자 리뷰 기반 평균 평점 계산
-     * 시스템 내 사용자들이 작성한 리뷰의 평균 평점 계산
+     * 리뷰 컬렉션을 로딩하지 않고 비정규화된 평점 합계와 리뷰 수로 계산
      *
      * @return 평균 평점 (1.0 - 5.0) 또는 0.0 (리뷰가 없는 경우)
      */
     public Double getAverageRating() {
-        if (reviews.isEmpty()) {
+        if (reviewCount == null || reviewCount == 0) {
             return 0.0;
         }
-        return reviews.stream()
-                .mapToDouble(Review::getRating)
-                .average()
-                .orElse(0.0);
-    }
-
-    /**
-     * 리뷰 개수 조회
-     * 
-     * @return 이 영화에 작성된 총 리뷰 수
-     */
-    public Integer getReviewCount() {
-        return reviews.size();
-    }
-
-    /**
-     * 북마크 개수 조회
-     * 
-     * @return 이 영화를 북마크한 사용자 수
-     */
-    public Integer getBookmarkCount() {
-        return bookmarks.size();
+        return (double) ratingSum / reviewCount;
     }
 
     /**
@@ -82,6 +82,14 @@ public class BusinessException extends RuntimeException {
         return new BusinessException("CONFLICT", message, HttpStatus.CONFLICT);
     }
 
+    /**
+     * 429 Too Many Requests 예외 생성
+     * 처리 용량을 초과하여 요청을 즉시 거부하는 경우 사용 (비밀번호 해싱 포화 등)
+     */
+    public static BusinessException tooManyRequests(String message) {
+        return new BusinessException("TOO_MANY_REQUESTS", message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     /**
      * 500 Internal Server Error 예외 생성
      * 예상하지 못한 서버 내부 오류 시 사용
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -45,7 +46,7 @@ public interface ActorRepository extends JpaRepository<Actor, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 배우 목록 (페이징)
      */
-    @Query("SELECT a FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    @Query("SELECT a FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'")
     Page<Actor> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
 
     /**
@@ -132,6 +133,24 @@ public interface ActorRepository extends JpaRepository<Actor, Long> {
      * @param pageable 조회 개수 제한용 (보통 5개)
      * @return 키워드를 포함하는 인기 배우 목록
      */
-    @Query("SELECT a FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY a.popularity DESC")
+    @Query("SELECT a FROM Actor a WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' ORDER BY a.popularity DESC")
     List<Actor> findTop5ByNameContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * 자동완성 인덱스 구축용 배우 요약 정보 전체 조회
+     *
+     * @return [배우 ID, 이름, 프로필 경로, 인기도] 배열 목록
+     */
+    @Query("SELECT a.id, a.name, a.profilePath, a.popularity FROM Actor a")
+    List<Object[]> findAutocompleteRows();
+
+    /**
+     * 자동완성 인덱스 증분 갱신용 배우 요약 정보 조회
+     *
+     * @param since 기준 시각 (이 시각 이후 생성/수정된 배우만 조회)
+     * @return [배우 ID, 이름, 프로필 경로, 인기도] 배열 목록
+     */
+    @Query("SELECT a.id, a.name, a.profilePath, a.popularity FROM Actor a " +
+            "WHERE a.lastModifiedAt >= :since OR a.createdAt >= :since")
+    List<Object[]> findAutocompleteRowsModifiedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,103 @@
+package com.moviebuddies.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 보관/정리 레포지토리
+ *
+ * 오래된 메시지를 엔티티로 읽지 않고 SQL 한 문장으로 batch-size개씩 처리
+ * - 보관: chat_messages에서 삭제한 행을 그대로 chat_messages_archive에 INSERT (DELETE ... RETURNING)
+ *   삭제한 행 수와 보관 테이블에 실제로 들어간 행 수를 함께 반환하여 어긋나면 호출한 쪽에서 확인
+ * - 정리: chat_messages 또는 chat_messages_archive에서 삭제만 수행
+ *
+ * 대상 행은 FOR UPDATE SKIP LOCKED로 잠그므로 여러 노드에서 동시에 실행되어도 같은 행을 중복 처리하지 않음
+ * 호출한 쪽에 트랜잭션이 없으면 문장마다 자동 커밋되어 한 번에 잠그는 행 수가 batch-size로 제한됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveRepository {
+
+    private static final String ARCHIVE_SQL =
+            "WITH batch AS (" +
+            "    SELECT id FROM chat_messages WHERE created_at < :cutoff " +
+            "    ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            "), moved AS (" +
+            "    DELETE FROM chat_messages m USING batch b WHERE m.id = b.id " +
+            "    RETURNING m.id, m.chat_room_id, m.sender_id, m.content, m.created_at" +
+            "), archived AS (" +
+            "    INSERT INTO chat_messages_archive (id, chat_room_id, sender_id, content, created_at, archived_at) " +
+            "    SELECT id, chat_room_id, sender_id, content, created_at, now() FROM moved " +
+            "    ON CONFLICT (id) DO NOTHING RETURNING 1" +
+            ") " +
+            "SELECT (SELECT count(*) FROM moved) AS moved, (SELECT count(*) FROM archived) AS archived";
+
+    private static final String PURGE_SQL =
+            "WITH batch AS (" +
+            "    SELECT id FROM chat_messages WHERE created_at < :cutoff " +
+            "    ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "DELETE FROM chat_messages m USING batch b WHERE m.id = b.id";
+
+    private static final String PURGE_ARCHIVE_SQL =
+            "WITH batch AS (" +
+            "    SELECT id FROM chat_messages_archive WHERE created_at < :cutoff " +
+            "    ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED" +
+            ") " +
+            "DELETE FROM chat_messages_archive a USING batch b WHERE a.id = b.id";
+
+    /**
+     * 보관 배치 결과
+     *
+     * @param moved chat_messages에서 삭제한 메시지 수
+     * @param archived chat_messages_archive에 새로 저장한 메시지 수 (같은 ID가 이미 보관되어 있으면 moved보다 적음)
+     */
+    public record ArchiveBatchResult(int moved, int archived) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 기준 시각 이전 메시지를 최대 limit개 보관 테이블로 이동
+     *
+     * @param cutoff 기준 시각 (이 시각 이전 메시지 이동)
+     * @param limit 한 번에 이동할 최대 메시지 수
+     * @return 삭제한 메시지 수와 보관 테이블에 저장한 메시지 수
+     */
+    public ArchiveBatchResult archiveBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.queryForObject(ARCHIVE_SQL, params(cutoff, limit),
+                (rs, rowNum) -> new ArchiveBatchResult(rs.getInt("moved"), rs.getInt("archived")));
+    }
+
+    /**
+     * 기준 시각 이전 메시지를 최대 limit개 삭제
+     *
+     * @param cutoff 기준 시각 (이 시각 이전 메시지 삭제)
+     * @param limit 한 번에 삭제할 최대 메시지 수
+     * @return 삭제한 메시지 수
+     */
+    public int purgeBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, params(cutoff, limit));
+    }
+
+    /**
+     * 보관 테이블에서 기준 시각 이전 메시지를 최대 limit개 삭제
+     *
+     * @param cutoff 기준 시각 (이 시각 이전 메시지 삭제)
+     * @param limit 한 번에 삭제할 최대 메시지 수
+     * @return 삭제한 메시지 수
+     */
+    public int purgeArchiveBatch(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_ARCHIVE_SQL, params(cutoff, limit));
+    }
+
+    private static MapSqlParameterSource params(LocalDateTime cutoff, int limit) {
+        return new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("limit", limit);
+    }
+}
@@ -0,0 +1,73 @@
+package com.moviebuddies.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 채팅 메시지 일괄 저장 레포지토리
+ *
+ * 메시지 쓰기 지연 저장(ChatMessageWriter)에서 모은 메시지를 JDBC 배치 INSERT 한 번으로 저장
+ * - ID와 생성 시각은 전송 시점에 이미 정해져 있으므로 그대로 저장 (JPA Auditing을 거치지 않음)
+ * - 첫 저장은 일반 INSERT로 실행하여 ID가 겹치면 제약 조건 위반으로 드러나게 함
+ * - 재시도(이전 시도가 커밋되었는지 알 수 없는 경우)에만 ON CONFLICT (id) DO NOTHING으로 중복 저장 방지
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_MESSAGE_SQL =
+            "INSERT INTO chat_messages (id, chat_room_id, sender_id, content, created_at) " +
+            "VALUES (:id, :chatRoomId, :senderId, :content, :createdAt)";
+
+    private static final String RETRY_INSERT_MESSAGE_SQL = INSERT_MESSAGE_SQL + " ON CONFLICT (id) DO NOTHING";
+
+    /**
+     * 저장할 메시지
+     *
+     * @param id 전송 시점에 발급한 메시지 ID
+     * @param chatRoomId 채팅방 ID
+     * @param senderId 발송자 ID
+     * @param content 메시지 내용
+     * @param createdAt 전송 시각
+     */
+    public record NewMessage(Long id, Long chatRoomId, Long senderId, String content, LocalDateTime createdAt) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 일괄 저장 (호출한 쪽에 트랜잭션이 없으면 JDBC 자동 커밋)
+     *
+     * @param messages 저장할 메시지 목록
+     */
+    public void insertAll(Collection<NewMessage> messages) {
+        insertAll(messages, false);
+    }
+
+    /**
+     * 메시지 일괄 저장 (호출한 쪽에 트랜잭션이 없으면 JDBC 자동 커밋)
+     *
+     * @param messages 저장할 메시지 목록
+     * @param retry 재시도 여부 (true면 이미 저장된 ID는 건너뜀)
+     */
+    public void insertAll(Collection<NewMessage> messages, boolean retry) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] params = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("id", message.id())
+                        .addValue("chatRoomId", message.chatRoomId())
+                        .addValue("senderId", message.senderId())
+                        .addValue("content", message.content())
+                        .addValue("createdAt", message.createdAt()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(retry ? RETRY_INSERT_MESSAGE_SQL : INSERT_MESSAGE_SQL, params);
+    }
+}
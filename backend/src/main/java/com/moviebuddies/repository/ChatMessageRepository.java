@@ -10,6 +10,7 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 채팅 메시지 Repository
@@ -41,12 +42,48 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Page<ChatMessage> findLatestMessageByRoomId(@Param("roomId") Long roomId, Pageable pageable);
 
     /**
-     * 특정 기간보다 오래된 메시지 조회
-     * 정기적인 메시지 정리 작업용 (배치 처리에서 사용)
+     * 채팅방의 최근 메시지 조회 (최신순)
+     * 최근 메시지 버퍼를 채울 때 사용 (전체 개수 조회 없음)
      *
-     * @param cutoffDate 기준 날짜 (이 날짜보다 오래된 메시지 조회)
-     * @return 기준 날짜보다 오래된 메시지 목록
+     * @param roomId 조회할 채팅방 ID
+     * @param limit 최대 개수
+     * @return 최근 메시지 목록 (생성일, ID 기준 내림차순)
+     */
+    @Query(value = """
+            SELECT * FROM chat_messages
+            WHERE chat_room_id = :roomId
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatMessage> findLatestByRoomId(@Param("roomId") Long roomId, @Param("limit") int limit);
+
+    /**
+     * 채팅방 안 기준 메시지의 생성일 조회 (before 파라미터를 키셋 커서로 바꾸기 위함)
+     *
+     * @param roomId 채팅방 ID
+     * @param id 기준 메시지 ID
+     * @return 기준 메시지의 생성일 (보관/삭제되었거나 아직 저장 전이면 Optional.empty())
+     */
+    @Query("SELECT cm.createdAt FROM ChatMessage cm WHERE cm.id = :id AND cm.chatRoom.id = :roomId")
+    Optional<LocalDateTime> findCreatedAtInRoom(@Param("roomId") Long roomId, @Param("id") Long id);
+
+    /**
+     * 커서 이전의 메시지 조회 (최신순, 키셋 페이징)
+     * 커서의 (생성일, ID)와 직접 비교하므로 기준 메시지를 다시 읽지 않으며, 기준 메시지가 보관/삭제되어도 동작
+     *
+     * @param roomId 조회할 채팅방 ID
+     * @param createdAt 커서 메시지의 생성일
+     * @param id 커서 메시지의 ID
+     * @param limit 최대 개수
+     * @return 커서 이전의 메시지 목록 (생성일, ID 기준 내림차순)
      */
-    @Query("SELECT cm FROM ChatMessage cm WHERE cm.createdAt < :cutoffDate")
-    List<ChatMessage> findMessagesOlderThan(@Param("cutoffDate") LocalDateTime cutoffDate);
+    @Query(value = """
+            SELECT m.* FROM chat_messages m
+            WHERE m.chat_room_id = :roomId
+              AND (m.created_at, m.id) < (:createdAt, :id)
+            ORDER BY m.created_at DESC, m.id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ChatMessage> findBeforeCursor(@Param("roomId") Long roomId, @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id, @Param("limit") int limit);
 }
@@ -4,6 +4,7 @@ import com.moviebuddies.entity.ChatRoom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -54,4 +55,58 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
      * @return 해당 이름의 채팅방 (존재하지 않으면 Optional.empty())
      */
     Optional<ChatRoom> findByName(String name);
+
+    /**
+     * 채팅방 참가자 ID 목록 조회
+     * 참가자 인덱스(RoomMembershipIndex) 적재용 (사용자 엔티티를 읽지 않음)
+     *
+     * @param roomId 채팅방 ID
+     * @return 참가자 사용자 ID 목록
+     */
+    @Query(value = "SELECT user_id FROM chat_room_participants WHERE chat_room_id = :roomId", nativeQuery = true)
+    List<Long> findParticipantIds(@Param("roomId") Long roomId);
+
+    /**
+     * 채팅방 행 잠금 (트랜잭션 종료까지 유지)
+     * 같은 채팅방의 동시 입장을 직렬화하여 addParticipant의 인원 확인이 다른 입장과 겹치지 않도록 함
+     *
+     * @param roomId 채팅방 ID
+     * @return 잠근 채팅방 ID (존재하지 않으면 Optional.empty())
+     */
+    @Query(value = "SELECT id FROM chat_rooms WHERE id = :roomId FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("roomId") Long roomId);
+
+    /**
+     * 채팅방 참가자 추가
+     * 참가자 컬렉션을 읽지 않고 한 문장으로 처리하며, 이미 참가 중이거나 최대 인원에 도달했으면 추가하지 않음
+     * READ COMMITTED에서는 동시 입장이 서로의 INSERT를 보지 못하므로 반드시 lockById로 채팅방을 잠근 뒤 호출
+     * (중복 참가는 (chat_room_id, user_id) 유니크 인덱스로도 차단)
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @param maxParticipants 최대 참가자 수
+     * @return 추가된 행 수 (0이면 입장 불가)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO chat_room_participants (chat_room_id, user_id)
+            SELECT :roomId, :userId
+            WHERE NOT EXISTS (SELECT 1 FROM chat_room_participants WHERE chat_room_id = :roomId AND user_id = :userId)
+              AND (SELECT COUNT(*) FROM chat_room_participants WHERE chat_room_id = :roomId) < :maxParticipants
+            ON CONFLICT DO NOTHING
+            """, nativeQuery = true)
+    int addParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                       @Param("maxParticipants") int maxParticipants);
+
+    /**
+     * 채팅방 참가자 제거
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @return 삭제된 행 수 (0이면 참가하지 않은 사용자)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM chat_room_participants WHERE chat_room_id = :roomId AND user_id = :userId",
+            nativeQuery = true)
+    int removeParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId);
 }
@@ -4,11 +4,14 @@ import com.moviebuddies.entity.Movie;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +19,23 @@ import java.util.Optional;
  * 영화 데이터 접근 레포지토리
  * 영화 엔티티에 대한 기본 CRUD 및 다양한 검색/조회 기능 제공
  * TMDB API와 연동하여 영화 정보를 관리하고, 복합 검색 및 추천 기능 지원
+ *
+ * 부분 일치(LIKE) 검색 파라미터는 escapeLike로 이스케이프한 값을 전달 (ESCAPE '\')
  */
 @Repository
 public interface MovieRepository extends JpaRepository<Movie, Long> {
 
+    /**
+     * LIKE 패턴용 검색어 이스케이프
+     * 검색어의 %, _가 와일드카드로 해석되지 않도록 역슬래시로 이스케이프 ("_"만 입력해도 모든 영화가 일치하지 않도록)
+     *
+     * @param keyword 검색어
+     * @return 이스케이프한 검색어
+     */
+    static String escapeLike(String keyword) {
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     /**
      * TMDB ID로 영화 조회
      * 외부 API(TMDB)와의 동기화 및 중복 방지에 사용
@@ -37,7 +53,7 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      * @param pageable 페이징 정보
      * @return 검색된 영화 목록 (페이징)
      */
-    @Query("SELECT m FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))")
+    @Query("SELECT m FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%')) ESCAPE '\\'")
     Page<Movie> findByTitleContainingIgnoreCase(@Param("title") String title, Pageable pageable);
 
     /**
@@ -220,9 +236,9 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
     @Query("SELECT DISTINCT m FROM Movie m " +
             "LEFT JOIN m.genres g " +
             "LEFT JOIN m.actors a " +
-            "WHERE (:title IS NULL OR LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%'))) " +
+            "WHERE (:title IS NULL OR LOWER(m.title) LIKE LOWER(CONCAT('%', :title, '%')) ESCAPE '\\') " +
             "AND (:genreId IS NULL OR g.id = :genreId) " +
-            "AND (:actorName IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :actorName, '%'))) " +
+            "AND (:actorName IS NULL OR LOWER(a.name) LIKE LOWER(CONCAT('%', :actorName, '%')) ESCAPE '\\') " +
             "AND (:releaseYear IS NULL OR YEAR(m.releaseDate) = :releaseYear) " +
             "AND (:minRating IS NULL OR m.voteAverage >= :minRating) " +
             "AND (:maxRating IS NULL OR m.voteAverage <= :maxRating) " +
@@ -304,7 +320,7 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      * @return 인기도 기준으로 정렬된 영화 목록
      */
     @Query("SELECT DISTINCT m FROM Movie m " +
-            "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+            "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\'")
     Page<Movie> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
 
     /**
@@ -318,7 +334,7 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      */
     @Query("SELECT DISTINCT m FROM Movie m " +
             "JOIN m.actors a " +
-            "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+            "WHERE LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\'")
     Page<Movie> searchByActor(@Param("keyword") String keyword, Pageable pageable);
 
     /**
@@ -332,10 +348,100 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      */
     @Query("SELECT DISTINCT m FROM Movie m " +
             "LEFT JOIN m.actors a " +
-            "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "   OR LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+            "WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' " +
+            "   OR LOWER(a.name) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\'")
     Page<Movie> searchByTitleAndActor(@Param("keyword") String keyword, Pageable pageable);
 
+    /**
+     * 제목 기준 관련도 검색
+     * 공백을 제거한 제목의 부분 일치(트라이그램 인덱스) 또는 단어 단위 일치(tsvector 인덱스)로 후보를 찾고
+     * 완전 일치, 접두 일치, 단어 유사도, 전문 검색 점수를 합산한 관련도에 인기도 가중치를 더해 정렬
+     * 한국어 제목의 띄어쓰기 차이("어벤져스엔드게임" / "어벤져스: 엔드게임")도 일치하도록 공백 제거 형태로 비교
+     *
+     * @param keyword 검색 키워드 (원문)
+     * @param compact 소문자 변환 후 공백을 제거하고 escapeLike로 이스케이프한 검색 키워드
+     * @param pageable 페이징 정보 (정렬은 무시됨)
+     * @return 관련도순으로 정렬된 영화 목록
+     */
+    @Query(value = "SELECT m.* FROM movies m " +
+            "WHERE replace(lower(m.title), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\' " +
+            "   OR to_tsvector('simple', m.title) @@ plainto_tsquery('simple', :keyword) " +
+            "ORDER BY (CASE WHEN lower(m.title) = lower(:keyword) THEN 1.0 " +
+            "               WHEN replace(lower(m.title), ' ', '') LIKE concat(:compact, '%') ESCAPE '\\' THEN 0.5 " +
+            "               ELSE 0 END " +
+            "          + word_similarity(lower(:keyword), lower(m.title)) " +
+            "          + ts_rank(to_tsvector('simple', m.title), plainto_tsquery('simple', :keyword)) " +
+            "          + ln(1 + greatest(m.popularity, 0)) * 0.1) DESC, m.id DESC",
+            countQuery = "SELECT COUNT(*) FROM movies m " +
+                    "WHERE replace(lower(m.title), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\' " +
+                    "   OR to_tsvector('simple', m.title) @@ plainto_tsquery('simple', :keyword)",
+            nativeQuery = true)
+    Page<Movie> searchRankedByTitle(@Param("keyword") String keyword,
+                                    @Param("compact") String compact,
+                                    Pageable pageable);
+
+    /**
+     * 배우 기준 관련도 검색
+     * 배우 이름이 일치하는 출연작을 영화별 최고 이름 유사도와 인기도 가중치로 정렬
+     *
+     * @param keyword 검색 키워드 (원문)
+     * @param compact 소문자 변환 후 공백을 제거하고 escapeLike로 이스케이프한 검색 키워드
+     * @param pageable 페이징 정보 (정렬은 무시됨)
+     * @return 관련도순으로 정렬된 영화 목록
+     */
+    @Query(value = "SELECT m.* FROM movies m " +
+            "JOIN (SELECT ma.movie_id, MAX(word_similarity(lower(:keyword), lower(a.name))) AS score " +
+            "      FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+            "      WHERE replace(lower(a.name), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\' " +
+            "      GROUP BY ma.movie_id) s ON s.movie_id = m.id " +
+            "ORDER BY (s.score + ln(1 + greatest(m.popularity, 0)) * 0.1) DESC, m.id DESC",
+            countQuery = "SELECT COUNT(DISTINCT ma.movie_id) " +
+                    "FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+                    "WHERE replace(lower(a.name), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\'",
+            nativeQuery = true)
+    Page<Movie> searchRankedByActor(@Param("keyword") String keyword,
+                                    @Param("compact") String compact,
+                                    Pageable pageable);
+
+    /**
+     * 제목과 배우 통합 관련도 검색
+     * 제목 일치와 배우 일치를 합친 뒤 영화별 최고 점수로 정렬 (배우 일치는 제목 일치보다 낮은 가중치)
+     *
+     * @param keyword 검색 키워드 (원문)
+     * @param compact 소문자 변환 후 공백을 제거하고 escapeLike로 이스케이프한 검색 키워드
+     * @param pageable 페이징 정보 (정렬은 무시됨)
+     * @return 관련도순으로 정렬된 영화 목록
+     */
+    @Query(value = "SELECT m.* FROM movies m " +
+            "JOIN (SELECT hits.movie_id, MAX(hits.score) AS score FROM (" +
+            "        SELECT t.id AS movie_id, " +
+            "               (CASE WHEN lower(t.title) = lower(:keyword) THEN 1.0 " +
+            "                     WHEN replace(lower(t.title), ' ', '') LIKE concat(:compact, '%') ESCAPE '\\' THEN 0.5 " +
+            "                     ELSE 0 END " +
+            "                + word_similarity(lower(:keyword), lower(t.title)) " +
+            "                + ts_rank(to_tsvector('simple', t.title), plainto_tsquery('simple', :keyword))) AS score " +
+            "        FROM movies t " +
+            "        WHERE replace(lower(t.title), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\' " +
+            "           OR to_tsvector('simple', t.title) @@ plainto_tsquery('simple', :keyword) " +
+            "        UNION ALL " +
+            "        SELECT ma.movie_id, word_similarity(lower(:keyword), lower(a.name)) * 0.8 AS score " +
+            "        FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+            "        WHERE replace(lower(a.name), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\'" +
+            "      ) hits GROUP BY hits.movie_id) s ON s.movie_id = m.id " +
+            "ORDER BY (s.score + ln(1 + greatest(m.popularity, 0)) * 0.1) DESC, m.id DESC",
+            countQuery = "SELECT COUNT(*) FROM (" +
+                    "SELECT t.id FROM movies t " +
+                    "WHERE replace(lower(t.title), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\' " +
+                    "   OR to_tsvector('simple', t.title) @@ plainto_tsquery('simple', :keyword) " +
+                    "UNION " +
+                    "SELECT ma.movie_id FROM actors a JOIN movie_actors ma ON ma.actor_id = a.id " +
+                    "WHERE replace(lower(a.name), ' ', '') LIKE concat('%', :compact, '%') ESCAPE '\\'" +
+                    ") matched",
+            nativeQuery = true)
+    Page<Movie> searchRanked(@Param("keyword") String keyword,
+                             @Param("compact") String compact,
+                             Pageable pageable);
+
     /**
      * 자동완성용 영화 제목 검색
      * 입력 키워드를 포함하는 영화 제목을 인기도 순으로 조회
@@ -345,6 +451,415 @@ public interface MovieRepository extends JpaRepository<Movie, Long> {
      * @param pageable 조회 개수 제한용 (보통 5개)
      * @return 키워드를 포함하는 인기 영화 목록
      */
-    @Query("SELECT m FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY m.popularity DESC")
+    @Query("SELECT m FROM Movie m WHERE LOWER(m.title) LIKE LOWER(CONCAT('%', :keyword, '%')) ESCAPE '\\' ORDER BY m.popularity DESC")
     List<Movie> findTop5ByTitleContainingIgnoreCase(@Param("keyword") String keyword, Pageable pageable);
+
+    // ===== 커서(키셋) 기반 페이지네이션 =====
+    // OFFSET 없이 (정렬 컬럼, id) 복합 인덱스를 따라 마지막 항목 다음부터 읽으므로 페이지 깊이와 무관하게 일정한 비용으로 조회
+    // 첫 페이지는 커서 없이 조회하고, 이후 페이지는 직전 페이지 마지막 영화의 정렬 값과 id를 기준으로 조회
+    // 제목 외의 정렬 값은 비어 있을 수 있으므로 값이 없는 영화는 항상 마지막에 둠(NULLS LAST)
+    // 값이 있는 구간과 없는 구간을 별도 쿼리로 나누어, 각 쿼리가 (x DESC NULLS LAST, id DESC) 인덱스의 한 구간만 순서대로 읽도록 함
+    // (OR x IS NULL 조건을 함께 쓰면 인덱스 범위 조건으로 쓸 수 없어 정렬 비용이 커짐)
+    // 값 구간이 요청 크기보다 적게 남으면 서비스에서 값 없는 구간의 처음부터 이어서 조회
+
+    /**
+     * 인기도순 커서 페이지 첫 조회 (인기도가 있는 구간)
+     *
+     * @param pageable 조회 개수 제한용 (다음 페이지 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 인기도 내림차순, id 내림차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.popularity IS NOT NULL ORDER BY m.popularity DESC NULLS LAST, m.id DESC")
+    List<Movie> findByPopularityKeyset(Pageable pageable);
+
+    /**
+     * 인기도순 커서 이후 페이지 조회 (커서의 인기도가 있는 경우)
+     * popularity <= 조건으로 인덱스 범위를 정하고 동점은 id로 구분
+     *
+     * @param popularity 직전 페이지 마지막 영화의 인기도
+     * @param id 직전 페이지 마지막 영화의 ID (동점 처리용)
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 인기도가 있는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.popularity <= :popularity AND (m.popularity < :popularity OR m.id < :id) " +
+            "ORDER BY m.popularity DESC NULLS LAST, m.id DESC")
+    List<Movie> findByPopularityKeysetAfter(@Param("popularity") Double popularity,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    /**
+     * 인기도순 값 없는 구간 첫 조회 (인기도가 있는 영화를 모두 읽은 뒤 이어서 조회)
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 인기도가 없는 영화 목록 (id 내림차순)
+     */
+    @Query("SELECT m FROM Movie m WHERE m.popularity IS NULL ORDER BY m.popularity DESC NULLS LAST, m.id DESC")
+    List<Movie> findByPopularityKeysetNull(Pageable pageable);
+
+    /**
+     * 인기도순 커서 이후 페이지 조회 (커서가 인기도 없는 구간에 있는 경우)
+     *
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 인기도가 없는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.popularity IS NULL AND m.id < :id " +
+            "ORDER BY m.popularity DESC NULLS LAST, m.id DESC")
+    List<Movie> findByPopularityKeysetAfterNull(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 제목순 커서 페이지 첫 조회
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 제목 오름차순, id 오름차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m ORDER BY m.title ASC, m.id ASC")
+    List<Movie> findByTitleKeyset(Pageable pageable);
+
+    /**
+     * 제목순 커서 이후 페이지 조회
+     *
+     * @param title 직전 페이지 마지막 영화의 제목
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.title > :title OR (m.title = :title AND m.id > :id) " +
+            "ORDER BY m.title ASC, m.id ASC")
+    List<Movie> findByTitleKeysetAfter(@Param("title") String title,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+
+    /**
+     * 개봉일순 커서 페이지 첫 조회 (개봉일이 있는 구간)
+     *
+     * @param pageable 조회 개수 제한용 (다음 페이지 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 개봉일 내림차순, id 내림차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.releaseDate IS NOT NULL ORDER BY m.releaseDate DESC NULLS LAST, m.id DESC")
+    List<Movie> findByReleaseDateKeyset(Pageable pageable);
+
+    /**
+     * 개봉일순 커서 이후 페이지 조회 (커서의 개봉일이 있는 경우)
+     * releaseDate <= 조건으로 인덱스 범위를 정하고 동점은 id로 구분
+     *
+     * @param releaseDate 직전 페이지 마지막 영화의 개봉일
+     * @param id 직전 페이지 마지막 영화의 ID (동점 처리용)
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 개봉일이 있는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.releaseDate <= :releaseDate AND (m.releaseDate < :releaseDate OR m.id < :id) " +
+            "ORDER BY m.releaseDate DESC NULLS LAST, m.id DESC")
+    List<Movie> findByReleaseDateKeysetAfter(@Param("releaseDate") LocalDate releaseDate,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    /**
+     * 개봉일순 값 없는 구간 첫 조회 (개봉일이 있는 영화를 모두 읽은 뒤 이어서 조회)
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 개봉일이 없는 영화 목록 (id 내림차순)
+     */
+    @Query("SELECT m FROM Movie m WHERE m.releaseDate IS NULL ORDER BY m.releaseDate DESC NULLS LAST, m.id DESC")
+    List<Movie> findByReleaseDateKeysetUndated(Pageable pageable);
+
+    /**
+     * 개봉일순 커서 이후 페이지 조회 (커서가 개봉일 없는 구간에 있는 경우)
+     *
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 개봉일이 없는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.releaseDate IS NULL AND m.id < :id " +
+            "ORDER BY m.releaseDate DESC NULLS LAST, m.id DESC")
+    List<Movie> findByReleaseDateKeysetAfterUndated(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 평점순 커서 페이지 첫 조회 (평점이 있는 구간)
+     *
+     * @param pageable 조회 개수 제한용 (다음 페이지 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 평점 내림차순, id 내림차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteAverage IS NOT NULL ORDER BY m.voteAverage DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteAverageKeyset(Pageable pageable);
+
+    /**
+     * 평점순 커서 이후 페이지 조회 (커서의 평점이 있는 경우)
+     * voteAverage <= 조건으로 인덱스 범위를 정하고 동점은 id로 구분
+     *
+     * @param voteAverage 직전 페이지 마지막 영화의 평점
+     * @param id 직전 페이지 마지막 영화의 ID (동점 처리용)
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 평점이 있는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.voteAverage <= :voteAverage AND (m.voteAverage < :voteAverage OR m.id < :id) " +
+            "ORDER BY m.voteAverage DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteAverageKeysetAfter(@Param("voteAverage") Double voteAverage,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    /**
+     * 평점순 값 없는 구간 첫 조회 (평점이 있는 영화를 모두 읽은 뒤 이어서 조회)
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 평점이 없는 영화 목록 (id 내림차순)
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteAverage IS NULL ORDER BY m.voteAverage DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteAverageKeysetNull(Pageable pageable);
+
+    /**
+     * 평점순 커서 이후 페이지 조회 (커서가 평점 없는 구간에 있는 경우)
+     *
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 평점이 없는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteAverage IS NULL AND m.id < :id " +
+            "ORDER BY m.voteAverage DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteAverageKeysetAfterNull(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 투표수순 커서 페이지 첫 조회 (투표수가 있는 구간)
+     *
+     * @param pageable 조회 개수 제한용 (다음 페이지 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 투표수 내림차순, id 내림차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteCount IS NOT NULL ORDER BY m.voteCount DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteCountKeyset(Pageable pageable);
+
+    /**
+     * 투표수순 커서 이후 페이지 조회 (커서의 투표수가 있는 경우)
+     * voteCount <= 조건으로 인덱스 범위를 정하고 동점은 id로 구분
+     *
+     * @param voteCount 직전 페이지 마지막 영화의 투표수
+     * @param id 직전 페이지 마지막 영화의 ID (동점 처리용)
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 투표수가 있는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.voteCount <= :voteCount AND (m.voteCount < :voteCount OR m.id < :id) " +
+            "ORDER BY m.voteCount DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteCountKeysetAfter(@Param("voteCount") Integer voteCount,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * 투표수순 값 없는 구간 첫 조회 (투표수가 있는 영화를 모두 읽은 뒤 이어서 조회)
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 투표수가 없는 영화 목록 (id 내림차순)
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteCount IS NULL ORDER BY m.voteCount DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteCountKeysetNull(Pageable pageable);
+
+    /**
+     * 투표수순 커서 이후 페이지 조회 (커서가 투표수 없는 구간에 있는 경우)
+     *
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 투표수가 없는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.voteCount IS NULL AND m.id < :id " +
+            "ORDER BY m.voteCount DESC NULLS LAST, m.id DESC")
+    List<Movie> findByVoteCountKeysetAfterNull(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 런타임순 커서 페이지 첫 조회 (런타임이 있는 구간)
+     *
+     * @param pageable 조회 개수 제한용 (다음 페이지 존재 여부 확인을 위해 요청 크기 + 1)
+     * @return 런타임 오름차순, id 오름차순으로 정렬된 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.runtime IS NOT NULL ORDER BY m.runtime ASC NULLS LAST, m.id ASC")
+    List<Movie> findByRuntimeKeyset(Pageable pageable);
+
+    /**
+     * 런타임순 커서 이후 페이지 조회 (커서의 런타임이 있는 경우)
+     * runtime >= 조건으로 인덱스 범위를 정하고 동점은 id로 구분
+     *
+     * @param runtime 직전 페이지 마지막 영화의 런타임
+     * @param id 직전 페이지 마지막 영화의 ID (동점 처리용)
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 런타임이 있는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m " +
+            "WHERE m.runtime >= :runtime AND (m.runtime > :runtime OR m.id > :id) " +
+            "ORDER BY m.runtime ASC NULLS LAST, m.id ASC")
+    List<Movie> findByRuntimeKeysetAfter(@Param("runtime") Integer runtime,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+
+    /**
+     * 런타임순 값 없는 구간 첫 조회 (런타임이 있는 영화를 모두 읽은 뒤 이어서 조회)
+     *
+     * @param pageable 조회 개수 제한용
+     * @return 런타임이 없는 영화 목록 (id 오름차순)
+     */
+    @Query("SELECT m FROM Movie m WHERE m.runtime IS NULL ORDER BY m.runtime ASC NULLS LAST, m.id ASC")
+    List<Movie> findByRuntimeKeysetNull(Pageable pageable);
+
+    /**
+     * 런타임순 커서 이후 페이지 조회 (커서가 런타임 없는 구간에 있는 경우)
+     *
+     * @param id 직전 페이지 마지막 영화의 ID
+     * @param pageable 조회 개수 제한용
+     * @return 커서 이후의 런타임이 없는 영화 목록
+     */
+    @Query("SELECT m FROM Movie m WHERE m.runtime IS NULL AND m.id > :id ORDER BY m.runtime ASC NULLS LAST, m.id ASC")
+    List<Movie> findByRuntimeKeysetAfterNull(@Param("id") Long id, Pageable pageable);
+
+    // ===== 목록 응답용 일괄 조회 (N+1 방지) =====
+
+    /**
+     * 여러 영화의 장르를 한 번에 조회
+     * 목록 페이지의 영화 ID를 모아 단일 쿼리로 장르를 가져와 영화별 지연 로딩을 방지
+     *
+     * @param movieIds 영화 ID 목록
+     * @return [영화 ID, 장르] 배열 목록
+     */
+    @Query("SELECT m.id, g FROM Movie m JOIN m.genres g WHERE m.id IN :movieIds ORDER BY g.name")
+    List<Object[]> findGenresByMovieIds(@Param("movieIds") Collection<Long> movieIds);
+
+    // ===== 비정규화 집계 컬럼 갱신 =====
+
+    /**
+     * 리뷰 작성 시 리뷰 수와 평점 합계 증가
+     * 영화 엔티티를 읽고 쓰는 대신 단일 UPDATE로 처리하여 동시 작성 시에도 값 유실 방지
+     *
+     * @param movieId 영화 ID
+     * @param rating 작성된 리뷰의 평점
+     * @return 갱신된 행 수 (영화가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.reviewCount = m.reviewCount + 1, m.ratingSum = m.ratingSum + :rating " +
+            "WHERE m.id = :movieId")
+    int incrementReviewStats(@Param("movieId") Long movieId, @Param("rating") long rating);
+
+    /**
+     * 리뷰 삭제 시 리뷰 수와 평점 합계 감소
+     *
+     * @param movieId 영화 ID
+     * @param rating 삭제된 리뷰의 평점
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.reviewCount = m.reviewCount - 1, m.ratingSum = m.ratingSum - :rating " +
+            "WHERE m.id = :movieId AND m.reviewCount > 0")
+    int decrementReviewStats(@Param("movieId") Long movieId, @Param("rating") long rating);
+
+    /**
+     * 리뷰 평점 수정 시 평점 합계 보정
+     *
+     * @param movieId 영화 ID
+     * @param delta 평점 변화량 (새 평점 - 기존 평점)
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.ratingSum = m.ratingSum + :delta WHERE m.id = :movieId")
+    int adjustRatingSum(@Param("movieId") Long movieId, @Param("delta") long delta);
+
+    /**
+     * 북마크 추가 시 북마크 수 증가
+     *
+     * @param movieId 영화 ID
+     * @return 갱신된 행 수 (영화가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.bookmarkCount = m.bookmarkCount + 1 WHERE m.id = :movieId")
+    int incrementBookmarkCount(@Param("movieId") Long movieId);
+
+    /**
+     * 북마크 삭제 시 북마크 수 감소
+     *
+     * @param movieId 영화 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Movie m SET m.bookmarkCount = m.bookmarkCount - 1 WHERE m.id = :movieId AND m.bookmarkCount > 0")
+    int decrementBookmarkCount(@Param("movieId") Long movieId);
+
+    /**
+     * 전체 영화의 집계 컬럼을 실제 리뷰/북마크 데이터 기준으로 일괄 재계산
+     * 값이 어긋난 영화만 갱신하므로 정상 상태에서는 쓰기가 발생하지 않음
+     *
+     * @return 보정된 영화 수
+     */
+    @Modifying
+    @Query(value = "UPDATE movies m SET " +
+            "review_count = s.review_count, rating_sum = s.rating_sum, bookmark_count = s.bookmark_count " +
+            "FROM (SELECT mv.id, " +
+            "             COALESCE(r.cnt, 0) AS review_count, " +
+            "             COALESCE(r.total, 0) AS rating_sum, " +
+            "             COALESCE(b.cnt, 0) AS bookmark_count " +
+            "      FROM movies mv " +
+            "      LEFT JOIN (SELECT movie_id, COUNT(*) AS cnt, SUM(rating) AS total FROM reviews GROUP BY movie_id) r " +
+            "             ON r.movie_id = mv.id " +
+            "      LEFT JOIN (SELECT movie_id, COUNT(*) AS cnt FROM bookmarks GROUP BY movie_id) b " +
+            "             ON b.movie_id = mv.id) s " +
+            "WHERE m.id = s.id " +
+            "AND (m.review_count <> s.review_count OR m.rating_sum <> s.rating_sum OR m.bookmark_count <> s.bookmark_count)",
+            nativeQuery = true)
+    int repairCounters();
+
+    // ===== 자동완성 인덱스 적재 =====
+
+    /**
+     * 자동완성 인덱스 구축용 영화 요약 정보 전체 조회
+     * 연관 컬렉션 없이 필요한 컬럼만 조회
+     *
+     * @return [영화 ID, 제목, 포스터 경로, 개봉일, 인기도] 배열 목록
+     */
+    @Query("SELECT m.id, m.title, m.posterPath, m.releaseDate, m.popularity FROM Movie m")
+    List<Object[]> findAutocompleteRows();
+
+    /**
+     * 자동완성 인덱스 증분 갱신용 영화 요약 정보 조회
+     *
+     * @param since 기준 시각 (이 시각 이후 생성/수정된 영화만 조회)
+     * @return [영화 ID, 제목, 포스터 경로, 개봉일, 인기도] 배열 목록
+     */
+    @Query("SELECT m.id, m.title, m.posterPath, m.releaseDate, m.popularity FROM Movie m " +
+            "WHERE m.lastModifiedAt >= :since OR m.createdAt >= :since")
+    List<Object[]> findAutocompleteRowsModifiedSince(@Param("since") LocalDateTime since);
+
+    // ===== TMDB 동기화 =====
+
+    /**
+     * TMDB 상세 정보 동기화 대상 조회
+     * 엔티티를 적재하지 않고 ID 쌍만 조회
+     *
+     * @return [영화 ID, TMDB ID] 배열 목록
+     */
+    @Query("SELECT m.id, m.tmdbId FROM Movie m WHERE m.tmdbId IS NOT NULL ORDER BY m.id")
+    List<Object[]> findTmdbSyncTargets();
+
+    /**
+     * 지정한 TMDB ID에 해당하는 상세 정보 동기화 대상 조회
+     * TMDB 변경 목록(/movie/changes) 중 로컬에 저장된 영화만 선별할 때 사용
+     *
+     * @param tmdbIds TMDB 영화 ID 목록
+     * @return [영화 ID, TMDB ID] 배열 목록
+     */
+    @Query("SELECT m.id, m.tmdbId FROM Movie m WHERE m.tmdbId IN :tmdbIds ORDER BY m.id")
+    List<Object[]> findTmdbSyncTargetsByTmdbIds(@Param("tmdbIds") Collection<Long> tmdbIds);
+
+    /**
+     * 상세 정보를 아직 동기화하지 않은 영화 조회
+     * 목록 동기화로 새로 추가된 영화 등
+     *
+     * @return [영화 ID, TMDB ID] 배열 목록
+     */
+    @Query("SELECT m.id, m.tmdbId FROM Movie m WHERE m.tmdbId IS NOT NULL AND m.tmdbSyncedAt IS NULL ORDER BY m.id")
+    List<Object[]> findUnsyncedTmdbSyncTargets();
+
+    /**
+     * 가장 최근의 TMDB 상세 정보 동기화 시각 조회
+     * 증분 동기화의 변경 조회 시작 시각 기준으로 사용
+     *
+     * @return 최근 동기화 시각 (동기화 이력이 없으면 null)
+     */
+    @Query("SELECT MAX(m.tmdbSyncedAt) FROM Movie m")
+    LocalDateTime findLatestTmdbSyncedAt();
 }
@@ -0,0 +1,302 @@
+package com.moviebuddies.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TMDB 동기화 전용 일괄 쓰기 레포지토리
+ *
+ * JPA의 건별 조회 후 저장(findByTmdbId + save) 대신 JDBC 배치로
+ * INSERT ... ON CONFLICT (tmdb_id) DO UPDATE 를 실행하여 왕복 횟수를 줄임
+ * - 변경된 값이 없는 행은 갱신하지 않음 (불필요한 행 버전 및 수정 시각 갱신 방지)
+ * - 생성/수정 시각은 JPA Auditing을 거치지 않으므로 직접 설정
+ * - 연결 테이블(movie_genres, movie_actors)은 기존 연결과 달라진 영화만 삭제 후 일괄 삽입
+ *
+ * 호출하는 쪽의 트랜잭션에 참여하며, 같은 트랜잭션에서 영속성 컨텍스트에 적재된 엔티티에는 반영되지 않음
+ */
+@Repository
+@RequiredArgsConstructor
+public class TmdbBulkUpsertRepository {
+
+    private static final String UPSERT_MOVIE_SQL =
+            "INSERT INTO movies (tmdb_id, title, overview, release_date, popularity, vote_average, vote_count, " +
+            "poster_path, backdrop_path, is_now_playing, runtime, review_count, rating_sum, bookmark_count, " +
+            "created_at, last_modified_at) " +
+            "VALUES (:tmdbId, :title, :overview, :releaseDate, :popularity, :voteAverage, :voteCount, " +
+            ":posterPath, :backdropPath, :isNowPlaying, 0, 0, 0, 0, now(), now()) " +
+            "ON CONFLICT (tmdb_id) DO UPDATE SET " +
+            "title = EXCLUDED.title, " +
+            "overview = EXCLUDED.overview, " +
+            "release_date = EXCLUDED.release_date, " +
+            "popularity = EXCLUDED.popularity, " +
+            "vote_average = EXCLUDED.vote_average, " +
+            "vote_count = EXCLUDED.vote_count, " +
+            "poster_path = COALESCE(EXCLUDED.poster_path, movies.poster_path), " +
+            "backdrop_path = COALESCE(EXCLUDED.backdrop_path, movies.backdrop_path), " +
+            "is_now_playing = EXCLUDED.is_now_playing, " +
+            "last_modified_at = now() " +
+            "WHERE (movies.title, movies.overview, movies.release_date, movies.popularity, movies.vote_average, " +
+            "movies.vote_count, movies.poster_path, movies.backdrop_path, movies.is_now_playing) " +
+            "IS DISTINCT FROM (EXCLUDED.title, EXCLUDED.overview, EXCLUDED.release_date, EXCLUDED.popularity, " +
+            "EXCLUDED.vote_average, EXCLUDED.vote_count, COALESCE(EXCLUDED.poster_path, movies.poster_path), " +
+            "COALESCE(EXCLUDED.backdrop_path, movies.backdrop_path), EXCLUDED.is_now_playing)";
+
+    private static final String UPSERT_ACTOR_SQL =
+            "INSERT INTO actors (tmdb_id, name, profile_path, popularity, created_at, last_modified_at) " +
+            "VALUES (:tmdbId, :name, :profilePath, :popularity, now(), now()) " +
+            "ON CONFLICT (tmdb_id) DO UPDATE SET " +
+            "name = EXCLUDED.name, " +
+            "profile_path = COALESCE(EXCLUDED.profile_path, actors.profile_path), " +
+            "popularity = EXCLUDED.popularity, " +
+            "last_modified_at = now() " +
+            "WHERE (actors.name, actors.profile_path, actors.popularity) " +
+            "IS DISTINCT FROM (EXCLUDED.name, COALESCE(EXCLUDED.profile_path, actors.profile_path), EXCLUDED.popularity)";
+
+    private static final String UPDATE_MOVIE_DETAILS_SQL =
+            "UPDATE movies SET " +
+            "title = :title, " +
+            "overview = :overview, " +
+            "release_date = :releaseDate, " +
+            "popularity = :popularity, " +
+            "vote_average = :voteAverage, " +
+            "vote_count = :voteCount, " +
+            "poster_path = COALESCE(:posterPath, poster_path), " +
+            "backdrop_path = COALESCE(:backdropPath, backdrop_path), " +
+            "runtime = COALESCE(:runtime, runtime), " +
+            "tmdb_content_hash = :contentHash, " +
+            "tmdb_synced_at = now(), " +
+            "last_modified_at = now() " +
+            "WHERE id = :movieId";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 영화 기본 정보 (TMDB 목록 API 기준)
+     * posterPath, backdropPath가 null이면 기존 값 유지
+     */
+    public record MovieRow(Long tmdbId, String title, String overview, LocalDate releaseDate,
+                           Double popularity, Double voteAverage, Integer voteCount,
+                           String posterPath, String backdropPath, Boolean isNowPlaying) {
+    }
+
+    /**
+     * 영화 상세 정보 (TMDB 상세 API 기준)
+     * 현재 상영 여부(movie.isNowPlaying)는 목록 API에서만 알 수 있으므로 반영하지 않음
+     *
+     * @param movieId 로컬 영화 ID
+     * @param movie 영화 기본 정보
+     * @param runtime 상영 시간 (null이면 기존 값 유지)
+     * @param contentHash 상세 정보 내용 해시
+     */
+    public record MovieDetailsRow(Long movieId, MovieRow movie, Integer runtime, String contentHash) {
+    }
+
+    /**
+     * 배우 기본 정보 (TMDB 출연진 API 기준)
+     */
+    public record ActorRow(Long tmdbId, String name, String profilePath, Double popularity) {
+    }
+
+    /**
+     * 전체 장르의 TMDB ID → 로컬 ID 매핑 조회
+     * 동기화 시작 시 한 번 조회하여 영화별 장르 조회를 대체
+     *
+     * @return TMDB 장르 ID를 키로 하는 로컬 장르 ID 맵
+     */
+    public Map<Long, Long> findGenreIdsByTmdbId() {
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, tmdb_id FROM genres WHERE tmdb_id IS NOT NULL",
+                rs -> {
+                    ids.put(rs.getLong("tmdb_id"), rs.getLong("id"));
+                });
+        return ids;
+    }
+
+    /**
+     * 영화 일괄 업서트
+     *
+     * @param rows 영화 기본 정보 목록
+     * @return TMDB 영화 ID를 키로 하는 로컬 영화 ID 맵
+     */
+    public Map<Long, Long> upsertMovies(List<MovieRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("tmdbId", row.tmdbId())
+                        .addValue("title", row.title())
+                        .addValue("overview", row.overview(), Types.VARCHAR)
+                        .addValue("releaseDate", row.releaseDate(), Types.DATE)
+                        .addValue("popularity", row.popularity(), Types.DOUBLE)
+                        .addValue("voteAverage", row.voteAverage(), Types.DOUBLE)
+                        .addValue("voteCount", row.voteCount(), Types.INTEGER)
+                        .addValue("posterPath", row.posterPath(), Types.VARCHAR)
+                        .addValue("backdropPath", row.backdropPath(), Types.VARCHAR)
+                        .addValue("isNowPlaying", row.isNowPlaying(), Types.BOOLEAN))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_MOVIE_SQL, batch);
+
+        return findIdsByTmdbId("movies", rows.stream().map(MovieRow::tmdbId).toList());
+    }
+
+    /**
+     * 배우 일괄 업서트
+     *
+     * @param rows 배우 기본 정보 목록
+     * @return TMDB 배우 ID를 키로 하는 로컬 배우 ID 맵
+     */
+    public Map<Long, Long> upsertActors(Collection<ActorRow> rows) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("tmdbId", row.tmdbId())
+                        .addValue("name", row.name())
+                        .addValue("profilePath", row.profilePath(), Types.VARCHAR)
+                        .addValue("popularity", row.popularity(), Types.DOUBLE))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_ACTOR_SQL, batch);
+
+        return findIdsByTmdbId("actors", rows.stream().map(ActorRow::tmdbId).toList());
+    }
+
+    /**
+     * 영화 상세 정보 일괄 갱신
+     * 동기화 시각과 내용 해시를 함께 기록
+     *
+     * @param rows 영화 상세 정보 목록
+     */
+    public void updateMovieDetails(List<MovieDetailsRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("movieId", row.movieId())
+                        .addValue("title", row.movie().title())
+                        .addValue("overview", row.movie().overview(), Types.VARCHAR)
+                        .addValue("releaseDate", row.movie().releaseDate(), Types.DATE)
+                        .addValue("popularity", row.movie().popularity(), Types.DOUBLE)
+                        .addValue("voteAverage", row.movie().voteAverage(), Types.DOUBLE)
+                        .addValue("voteCount", row.movie().voteCount(), Types.INTEGER)
+                        .addValue("posterPath", row.movie().posterPath(), Types.VARCHAR)
+                        .addValue("backdropPath", row.movie().backdropPath(), Types.VARCHAR)
+                        .addValue("runtime", row.runtime(), Types.INTEGER)
+                        .addValue("contentHash", row.contentHash()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPDATE_MOVIE_DETAILS_SQL, batch);
+    }
+
+    /**
+     * 영화별 마지막으로 반영한 상세 정보 내용 해시 조회
+     *
+     * @param movieIds 로컬 영화 ID 목록
+     * @return 로컬 영화 ID를 키로 하는 내용 해시 맵 (해시가 없는 영화는 제외)
+     */
+    public Map<Long, String> findContentHashes(Collection<Long> movieIds) {
+        Map<Long, String> hashes = new HashMap<>();
+        if (movieIds.isEmpty()) {
+            return hashes;
+        }
+
+        jdbcTemplate.query("SELECT id, tmdb_content_hash FROM movies " +
+                        "WHERE id IN (:movieIds) AND tmdb_content_hash IS NOT NULL",
+                new MapSqlParameterSource("movieIds", Set.copyOf(movieIds)),
+                rs -> {
+                    hashes.put(rs.getLong("id"), rs.getString("tmdb_content_hash"));
+                });
+        return hashes;
+    }
+
+    /**
+     * 영화-장르 연결 교체 (기존 연결과 같은 영화는 생략)
+     *
+     * @param genreIdsByMovieId 로컬 영화 ID를 키로 하는 로컬 장르 ID 집합
+     * @return 삽입된 연결 수
+     */
+    public int replaceMovieGenres(Map<Long, ? extends Set<Long>> genreIdsByMovieId) {
+        return replaceLinks("movie_genres", "genre_id", genreIdsByMovieId);
+    }
+
+    /**
+     * 영화-배우 연결 교체 (기존 연결과 같은 영화는 생략)
+     *
+     * @param actorIdsByMovieId 로컬 영화 ID를 키로 하는 로컬 배우 ID 집합
+     * @return 삽입된 연결 수
+     */
+    public int replaceMovieActors(Map<Long, ? extends Set<Long>> actorIdsByMovieId) {
+        return replaceLinks("movie_actors", "actor_id", actorIdsByMovieId);
+    }
+
+    private int replaceLinks(String table, String targetColumn, Map<Long, ? extends Set<Long>> targetIdsByMovieId) {
+        if (targetIdsByMovieId.isEmpty()) {
+            return 0;
+        }
+
+        // 현재 연결 조회 후 달라진 영화만 교체
+        Map<Long, Set<Long>> existing = new HashMap<>();
+        jdbcTemplate.query("SELECT movie_id, " + targetColumn + " FROM " + table + " WHERE movie_id IN (:movieIds)",
+                new MapSqlParameterSource("movieIds", targetIdsByMovieId.keySet()),
+                rs -> {
+                    existing.computeIfAbsent(rs.getLong("movie_id"), key -> new HashSet<>()).add(rs.getLong(targetColumn));
+                });
+
+        Map<Long, Set<Long>> changed = new HashMap<>();
+        targetIdsByMovieId.forEach((movieId, targetIds) -> {
+            if (!targetIds.equals(existing.getOrDefault(movieId, Set.of()))) {
+                changed.put(movieId, targetIds);
+            }
+        });
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE movie_id IN (:movieIds)",
+                new MapSqlParameterSource("movieIds", changed.keySet()));
+
+        List<SqlParameterSource> batch = new ArrayList<>();
+        changed.forEach((movieId, targetIds) -> {
+            for (Long targetId : targetIds) {
+                batch.add(new MapSqlParameterSource()
+                        .addValue("movieId", movieId)
+                        .addValue("targetId", targetId));
+            }
+        });
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO " + table + " (movie_id, " + targetColumn + ") VALUES (:movieId, :targetId)",
+                batch.toArray(SqlParameterSource[]::new));
+        return batch.size();
+    }
+
+    private Map<Long, Long> findIdsByTmdbId(String table, Collection<Long> tmdbIds) {
+        Map<Long, Long> ids = new HashMap<>();
+        jdbcTemplate.query("SELECT id, tmdb_id FROM " + table + " WHERE tmdb_id IN (:tmdbIds)",
+                new MapSqlParameterSource("tmdbIds", Set.copyOf(tmdbIds)),
+                rs -> {
+                    ids.put(rs.getLong("tmdb_id"), rs.getLong("id"));
+                });
+        return ids;
+    }
+}
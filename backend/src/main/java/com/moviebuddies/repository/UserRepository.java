@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -80,6 +81,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByUsernameAndIsActiveTrue(String username);
 
+    /**
+     * 활성 상태인 사용자를 ID로 조회
+     * JWT 인증 시 토큰의 사용자 ID로 인증 주체를 로드할 때 사용
+     *
+     * @param id 사용자 ID
+     * @return 활성 사용자 정보 (Optional)
+     */
+    Optional<User> findByIdAndIsActiveTrue(Long id);
+
     /**
      * 사용자 검색 (통합 검색)
      * 닉네임, 사용자명, 이메일로 부분 일치 검색
@@ -123,4 +133,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.isActive = true AND u.id != :excludeUserId")
     Page<User> findAllActiveUsersExcludingUser(@Param("excludeUserId") Long excludeUserId, Pageable pageable);
+
+    /**
+     * 가입 가능 여부 인덱스(블룸 필터) 구축용 식별 정보 전체 조회
+     * 비활성 사용자도 중복 검사 대상이므로 포함하며, 엔티티 대신 필요한 컬럼만 조회
+     *
+     * @return [사용자명, 이메일, 닉네임] 배열 목록
+     */
+    @Query("SELECT u.username, u.email, u.nickname FROM User u")
+    List<Object[]> findAvailabilityIndexRows();
 }
@@ -0,0 +1,124 @@
+package com.moviebuddies.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.UserAccountChangedEvent;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * JWT 인증 주체 캐시
+ *
+ * 인증 필터가 요청마다 사용자를 DB에서 조회하지 않도록 사용자 ID별 UserDetailsImpl을 메모리에 보관
+ * 크기와 만료 시간이 제한되어 있어 캐시가 무한히 커지지 않으며, 오래된 정보는 만료 후 다시 조회
+ *
+ * 무효화:
+ * - 비밀번호 변경, 계정 삭제 시 UserAccountChangedEvent를 받아 커밋 이후 제거
+ * - 다른 노드에도 Redis pub/sub으로 알려 같은 사용자 항목을 제거
+ * - 알림이 유실되더라도 만료 시간(jwt.principal-cache.ttl-seconds) 후에는 DB에서 다시 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthenticatedPrincipalCache {
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${jwt.principal-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${jwt.principal-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Value("${jwt.principal-cache.invalidation-channel:auth:principal-invalidation}")
+    private String invalidationChannel;
+
+    private Cache<Long, UserDetailsImpl> principals;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String userId = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                principals.invalidate(Long.valueOf(userId));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 인증 주체 무효화 메시지: {}", userId);
+            }
+        }, new ChannelTopic(invalidationChannel));
+    }
+
+    /**
+     * 검증된 토큰 클레임으로 인증 주체 조회
+     * 사용자 ID 클레임이 있으면 캐시에서 조회하고, 없으면(이전 버전 토큰) 사용자명으로 DB에서 조회한 뒤 캐시에 저장
+     *
+     * @param claims 서명과 만료 시간이 검증된 클레임
+     * @return 활성 사용자의 인증 주체 (사용자가 없거나 비활성화되었거나 사용자명이 토큰과 다르면 null)
+     */
+    public UserDetailsImpl get(Claims claims) {
+        String username = claims.getSubject();
+        Long userId = claims.get(JwtUtil.USER_ID_CLAIM, Long.class);
+
+        UserDetailsImpl principal;
+        if (userId != null) {
+            principal = principals.get(userId, id -> userRepository.findByIdAndIsActiveTrue(id)
+                    .map(UserDetailsImpl::create)
+                    .orElse(null));
+        } else {
+            principal = userRepository.findByUsernameAndIsActiveTrue(username)
+                    .map(UserDetailsImpl::create)
+                    .orElse(null);
+            if (principal != null) {
+                principals.put(principal.getId(), principal);
+            }
+        }
+
+        if (principal == null || !principal.isEnabled() || !principal.getUsername().equals(username)) {
+            return null;
+        }
+        return principal;
+    }
+
+    /**
+     * 사용자 계정 변경 커밋 후 인증 주체 캐시 무효화
+     * 트랜잭션 밖에서 발행된 경우 즉시 실행
+     *
+     * @param event 사용자 계정 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        invalidate(event.userId());
+    }
+
+    /**
+     * 사용자의 인증 주체를 이 노드와 다른 노드의 캐시에서 제거
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        principals.invalidate(userId);
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("인증 주체 무효화 메시지 발행 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+}
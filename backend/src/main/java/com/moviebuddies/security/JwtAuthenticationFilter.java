@@ -1,5 +1,6 @@
 package com.moviebuddies.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,8 +9,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -29,10 +28,9 @@ import java.io.IOException;
  * +
  * 필터 실행 순서:
  * 1. HTTP 요청에서 JWT 토큰 추출
- * 2. 토큰 유효성 검증
- * 3. 토큰에서 사용자명 추출
- * 4. 사용자 정보 로드
- * 5. Security Context에 인증 정보 설정
+ * 2. 토큰을 한 번 파싱하여 서명/만료 검증 및 클레임 추출 (폐기된 토큰 제외)
+ * 3. 인증 주체 캐시에서 사용자 정보 조회 (캐시 미스 시에만 DB 조회)
+ * 4. Security Context에 인증 정보 설정
  */
 @Slf4j
 @Component
@@ -41,20 +39,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     // JWT 토큰 생성/검증을 담당하는 유틸리티
     private final JwtUtil jwtUtil;
-    // 사용자 정보를 로드하는 서비스
-    private final UserDetailsService userDetailsService;
+    // 사용자 ID별 인증 주체 캐시 (요청마다 DB 조회 방지)
+    private final AuthenticatedPrincipalCache principalCache;
+    // 로그아웃 등으로 폐기된 토큰 목록 (로컬 블룸 필터로 대부분 Redis 조회 없이 판정)
+    private final TokenDenylist tokenDenylist;
 
     /**
      * 모든 HTTP 요청에 대해 JWT 인증을 수행하는 메인 필터 메서드
      * +
      * 처리 과정:
      * 1. 요청에서 JWT 토큰 추출
-     * 2. 토큰이 존재하고 유효한지 검증
-     * 3. 토큰에서 사용자명 추출
-     * 4. 데이터베이스에서 사용자 정보 로드
-     * 5. 토큰과 사용자 정보 재검증
-     * 6. Security Context에 인증 정보 설정
-     * 7. 다음 필터로 요청 전달
+     * 2. 토큰을 한 번 파싱하여 서명과 만료 시간 검증, 폐기 여부 확인
+     * 3. 클레임의 사용자 ID로 인증 주체 조회 (캐시 적중 시 DB 조회 없음)
+     * 4. 활성 사용자이고 사용자명이 토큰과 일치하면 Security Context에 인증 정보 설정
+     * 5. 다음 필터로 요청 전달
      *
      * @param request HTTP 요청 객체
      * @param response HTTP 응답 객체
@@ -68,31 +66,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 요청에서 JWT 토큰 추출
         String jwt = getJwtFromRequest(request);
 
-        // 2. 토큰이 존재하고 기본적으로 유효한지 확인
-        if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-            // 3. 토큰에서 사용자명 추출
-            String username = jwtUtil.getUsernameFromToken(jwt);
+        // 2. 토큰을 한 번만 파싱하여 서명과 만료 시간 검증
+        Claims claims = StringUtils.hasText(jwt) ? jwtUtil.parseToken(jwt) : null;
 
-            // 4. 사용자명으로 데이터베이스에서 사용자 상세 정보 로드
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (claims != null && !tokenDenylist.isRevoked(claims)) {
+            // 3. 인증 주체 조회 (비활성 사용자이거나 사용자명이 다르면 null)
+            UserDetailsImpl userDetails = principalCache.get(claims);
 
-            // 5. 토큰과 사용자 정보를 함께 재검증 (보안 강화)
-            if (jwtUtil.validateToken(jwt, userDetails)) {
-                // 6. Spring Security 인증 토큰 생성
+            if (userDetails != null) {
+                // 4. Spring Security 인증 토큰 생성
                 // userDetails: 인증된 사용자 정보
                 // null: 비밀번호 (JWT에서는 사용하지 않음)
                 // userDetails.getAuthorities(): 사용자 권한 목록
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                // 7. 요청 세부 정보 설정 (IP 주소, 세션 ID 등)
+                // 요청 세부 정보 설정 (IP 주소, 세션 ID 등)
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                // 8. Security Context에 인증 정보 저장
+                // Security Context에 인증 정보 저장
                 // 이후 @AuthenticationPrincipal, SecurityContextHolder 등으로 접근 가능
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Security context set for user: {}", username);
+                log.debug("Security context set for user: {}", userDetails.getUsername());
             }
         }
-        // 9. 다음 필터로 요청 전달 (필터 체인 계속 실행)
+        // 5. 다음 필터로 요청 전달 (필터 체인 계속 실행)
         filterChain.doFilter(request, response);
     }
 
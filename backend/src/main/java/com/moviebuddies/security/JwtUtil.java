@@ -2,6 +2,7 @@ package com.moviebuddies.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,6 +12,7 @@ import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 /**
@@ -22,6 +24,9 @@ import java.util.function.Function;
  * - 토큰에서 사용자 정보 추출
  * - 토큰 만료 여부 확인
  * - HMAC-SHA 알고리즘을 이용한 서명/검증
+ * +
+ * 서명 키와 파서는 기동 시 한 번만 생성하여 재사용 (JwtParser는 불변이며 스레드 안전)
+ * 요청 인증 경로는 parseToken으로 토큰을 한 번만 파싱하고 검증된 클레임을 재사용
  */
 
 @Slf4j
@@ -41,13 +46,54 @@ public class JwtUtil {
     private Long refreshExpiration;
 
     /**
-     * JWT 서명용 SecretKey 생성
+     * 사용자 ID 클레임 이름
+     * 인증 시 사용자명 대신 ID로 인증 주체 캐시를 조회하기 위해 토큰에 포함
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    // JWT 서명/검증용 키 (기동 시 한 번 생성)
+    private SecretKey signingKey;
+
+    // 서명 검증 파서 (기동 시 한 번 생성)
+    private JwtParser parser;
+
+    /**
+     * JWT 서명용 SecretKey와 검증 파서 생성
      * HMAC-SHA 알고리즘을 사용하여 시크릿 키를 바이트 배열로 변환
+     * 요청마다 키와 파서를 다시 만들지 않도록 기동 시 한 번만 생성
+     */
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)    // 서명 검증
+                .build();
+    }
+
+    /**
+     * JWT 토큰을 한 번 파싱하여 서명과 만료 시간을 검증하고 클레임 반환
+     * 인증 필터 등 요청마다 호출되는 경로에서 validateToken + getUsernameFromToken 대신 사용
      *
-     * @return SecretKey JWT 서명/검증용 키
+     * @param token JWT 토큰 문자열
+     * @return Claims 검증된 클레임 정보 (유효하지 않으면 null)
      */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
+    public Claims parseToken(String token) {
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.error("JWT token validation failed: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 리프레시 토큰 여부 확인
+     *
+     * @param claims 검증된 클레임 정보
+     * @return boolean true: 리프레시 토큰, false: 액세스 토큰
+     */
+    public boolean isRefreshToken(Claims claims) {
+        return "refresh".equals(claims.get("type"));
     }
 
     /**
@@ -91,10 +137,7 @@ public class JwtUtil {
      * @throws JwtException 토큰이 유효하지 않거나 서명 검증 실패시
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())    // 서명 검증
-                .build()
-                .parseSignedClaims(token)   //토큰 파싱 및 검증
+        return parser.parseSignedClaims(token)   //토큰 파싱 및 검증
                 .getPayload();  // 클레임 정보 반환
     }
 
@@ -122,6 +165,9 @@ public class JwtUtil {
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof UserDetailsImpl user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+        }
         return createToken(claims, userDetails.getUsername(), expiration);
     }
 
@@ -153,9 +199,10 @@ public class JwtUtil {
         return Jwts.builder()
                 .claims(claims) // 커스텀 클레임 추가
                 .subject(subject)   // 토큰 주체 (사용자명)
+                .id(UUID.randomUUID().toString())   // 토큰 고유 ID
                 .issuedAt(now)  // 토큰 발급 시간
                 .expiration(expiryDate) // 토큰 만료 시간
-                .signWith(getSigningKey())  // 서명 알고리즘 및 키 설정
+                .signWith(signingKey)  // 서명 알고리즘 및 키 설정
                 .compact(); // 토큰 문자열로 변환
     }
 
@@ -168,8 +215,9 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
+            // 파서가 서명과 만료 시간을 함께 검증하므로 한 번만 파싱
             final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return username.equals(userDetails.getUsername());
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT token validation failed(userDetails): {}", e.getMessage());
             return false;
@@ -184,10 +232,7 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("JWT token validation failed: {}", e.getMessage());
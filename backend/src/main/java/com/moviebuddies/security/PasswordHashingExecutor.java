@@ -0,0 +1,142 @@
+package com.moviebuddies.security;
+
+import com.moviebuddies.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱 전용 실행기
+ *
+ * BCrypt 해싱/비교(호출당 약 100ms CPU)를 크기가 제한된 전용 스레드 풀에서 실행하여
+ * 로그인이 몰려도 해싱이 사용하는 CPU 코어 수를 제한하고 나머지 API(영화 조회 등)의 응답 시간을 보호
+ *
+ * 백프레셔:
+ * - 대기열(password.hashing.queue-capacity)이 가득 차면 대기하지 않고 즉시 429 응답
+ * - 대기열에서 오래 기다린 요청도 password.hashing.timeout-ms 후 429 응답 (요청 스레드 무한 대기 방지)
+ *
+ * 메트릭:
+ * - password.hashing.queue.size / password.hashing.active: 대기 중 / 실행 중 작업 수
+ * - password.hashing.rejected: 포화로 거부된 요청 수
+ * - password.hashing.duration: 작업 종류별 대기 포함 처리 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 스레드 수 (0 이하면 CPU 코어 수의 절반, 최소 1)
+     */
+    @Value("${password.hashing.pool-size:0}")
+    private int poolSize;
+
+    @Value("${password.hashing.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${password.hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해싱 실행 중 작업 수")
+                .register(meterRegistry);
+        rejected = Counter.builder("password.hashing.rejected")
+                .description("포화로 거부된 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 실행기 초기화 - 스레드: {}, 대기열: {}", threads, queueCapacity);
+    }
+
+    /**
+     * 해싱 작업을 전용 스레드 풀에서 실행하고 결과를 기다림
+     * 작업에서 발생한 런타임 예외(인증 실패 등)는 그대로 다시 던짐
+     *
+     * @param operation 메트릭 태그로 사용할 작업 이름 (signup, login 등)
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws BusinessException 풀이 포화 상태이거나 대기 시간을 초과한 경우 (429)
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Future<T> future;
+        try {
+            future = executor.submit(task::get);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            sample.stop(timer(operation, "rejected"));
+            throw BusinessException.tooManyRequests("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            sample.stop(timer(operation, "success"));
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            sample.stop(timer(operation, "timeout"));
+            throw BusinessException.tooManyRequests("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (ExecutionException e) {
+            sample.stop(timer(operation, "error"));
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            sample.stop(timer(operation, "error"));
+            throw BusinessException.internalServerError("비밀번호 처리 중 인터럽트되었습니다.");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private Timer timer(String operation, String outcome) {
+        return Timer.builder("password.hashing.duration")
+                .description("비밀번호 해싱 작업 처리 시간 (대기 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
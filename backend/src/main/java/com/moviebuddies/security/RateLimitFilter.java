@@ -0,0 +1,282 @@
+package com.moviebuddies.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebuddies.dto.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 API 요청 속도 제한 필터
+ *
+ * 인증 없이 호출할 수 있는 영화/인증 API를 경로 등급별 토큰 버킷으로 제한하여
+ * 한 클라이언트가 비싼 검색/필터 조회로 DB 커넥션 풀을 고갈시키지 못하게 함
+ *
+ * 버킷 단위: 경로 등급 + 클라이언트 (로그인 사용자는 사용자 ID, 그 외에는 IP)
+ * - 프록시 뒤에서는 server.forward-headers-strategy 설정으로 원본 IP가 반영되어야 함
+ *
+ * 처리 방식:
+ * - 버킷 상태는 Redis에 두고 Lua 스크립트로 원자적으로 보충/차감 (모든 노드가 같은 버킷 공유)
+ * - 노드마다 Redis에서 토큰을 몇 개씩 미리 받아 두는 로컬 버킷으로 요청마다 Redis를 호출하지 않음
+ *   (받아 둔 토큰은 1초 후 폐기하여 노드 간 편차 제한)
+ * - 거부된 클라이언트는 Retry-After 시간 동안 Redis 조회 없이 로컬에서 바로 거부
+ * - Redis 장애 시에는 요청을 허용 (속도 제한 때문에 서비스 전체가 중단되지 않도록)
+ *
+ * 초과 시 429 응답과 Retry-After(초) 헤더 반환
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String KEY_PREFIX = "rate:";
+    private static final long LEASE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * 토큰 버킷 보충/차감 스크립트
+     * KEYS[1]: 버킷 키, ARGV: 최대 토큰 수, 밀리초당 보충량, 요청 토큰 수
+     * 반환: [지급한 토큰 수, 지급하지 못한 경우 다음 토큰까지 남은 밀리초]
+     */
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local refill = tonumber(ARGV[2])
+            local requested = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill)
+            local granted = math.min(requested, math.floor(tokens))
+            tokens = tokens - granted
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / refill) + 1000)
+            local retry = 0
+            if granted == 0 then
+                retry = math.ceil((1 - tokens) / refill)
+            end
+            return {granted, retry}
+            """, List.class);
+
+    /**
+     * 속도 제한 경로 등급 (기본값은 rate-limit.routes.{등급}.* 설정으로 변경)
+     */
+    enum Route {
+        /** 로그인, 회원가입, 토큰 갱신 등 인증 쓰기 요청 (BCrypt 해싱 비용) */
+        AUTH(10, 0.2),
+        /** 영화 검색/필터 (DB 부하가 큰 조회) */
+        SEARCH(20, 2),
+        /** 그 밖의 공개 영화 조회와 가입 정보 중복 확인 */
+        PUBLIC(100, 20);
+
+        private final int defaultCapacity;
+        private final double defaultRefillPerSecond;
+
+        Route(int defaultCapacity, double defaultRefillPerSecond) {
+            this.defaultCapacity = defaultCapacity;
+            this.defaultRefillPerSecond = defaultRefillPerSecond;
+        }
+    }
+
+    /**
+     * 경로 등급별 버킷 설정
+     *
+     * @param capacity 최대 토큰 수 (순간 버스트 크기)
+     * @param refillPerSecond 초당 보충 토큰 수
+     * @param leaseSize 노드가 Redis에서 한 번에 받아 두는 토큰 수
+     */
+    private record Limit(int capacity, double refillPerSecond, int leaseSize) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 로컬 버킷이 한 번에 받아 두는 최대 토큰 수 (등급별 최대 토큰 수의 10%를 넘지 않음)
+     */
+    @Value("${rate-limit.local-lease-size:5}")
+    private int localLeaseSize;
+
+    private final Map<Route, Limit> limits = new EnumMap<>(Route.class);
+
+    private final Cache<String, LocalBucket> localBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(1))
+            .build();
+
+    @PostConstruct
+    void init() {
+        for (Route route : Route.values()) {
+            String prefix = "rate-limit.routes." + route.name().toLowerCase() + ".";
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class, route.defaultCapacity);
+            double refillPerSecond = environment.getProperty(prefix + "refill-per-second", Double.class,
+                    route.defaultRefillPerSecond);
+            int leaseSize = Math.max(1, Math.min(localLeaseSize, capacity / 10));
+            limits.put(route, new Limit(capacity, refillPerSecond, leaseSize));
+        }
+        log.info("요청 속도 제한 설정 - 활성화: {}, 등급별 설정: {}", enabled, limits);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        Route route = enabled ? resolveRoute(request) : null;
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterMillis = tryAcquire(route, KEY_PREFIX + route.name().toLowerCase() + ":" + clientKey(request));
+        if (retryAfterMillis > 0) {
+            reject(response, retryAfterMillis);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 버킷에서 토큰 1개 획득
+     *
+     * @return 허용되면 0, 거부되면 다음 요청까지 기다려야 하는 밀리초
+     */
+    private long tryAcquire(Route route, String key) {
+        LocalBucket bucket = localBuckets.get(key, k -> new LocalBucket());
+        Limit limit = limits.get(route);
+
+        // 같은 클라이언트의 동시 요청은 Redis 호출 하나로 합쳐짐
+        synchronized (bucket) {
+            long now = System.nanoTime();
+            if (now < bucket.blockedUntilNanos) {
+                count(route, "rejected", "local");
+                return Math.max(1, TimeUnit.NANOSECONDS.toMillis(bucket.blockedUntilNanos - now));
+            }
+            if (bucket.leasedTokens > 0 && now < bucket.leaseExpiresAtNanos) {
+                bucket.leasedTokens--;
+                count(route, "allowed", "local");
+                return 0;
+            }
+
+            List<?> result;
+            try {
+                result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                        String.valueOf(limit.capacity()),
+                        String.valueOf(limit.refillPerSecond() / 1000),
+                        String.valueOf(limit.leaseSize()));
+            } catch (Exception e) {
+                log.warn("요청 속도 제한 확인 실패 (요청 허용) - 키: {}, 오류: {}", key, e.getMessage());
+                count(route, "error", "redis");
+                return 0;
+            }
+
+            long granted = ((Number) result.get(0)).longValue();
+            if (granted > 0) {
+                bucket.leasedTokens = granted - 1;
+                bucket.leaseExpiresAtNanos = now + LEASE_NANOS;
+                count(route, "allowed", "redis");
+                return 0;
+            }
+
+            long retryAfterMillis = Math.max(1, ((Number) result.get(1)).longValue());
+            bucket.leasedTokens = 0;
+            bucket.blockedUntilNanos = now + TimeUnit.MILLISECONDS.toNanos(retryAfterMillis);
+            count(route, "rejected", "redis");
+            return retryAfterMillis;
+        }
+    }
+
+    /**
+     * 요청 경로의 속도 제한 등급 결정
+     *
+     * @return 제한 대상이 아니면 null
+     */
+    private Route resolveRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        if (path.startsWith("/auth/")) {
+            if (HttpMethod.POST.matches(request.getMethod()) && !path.equals("/auth/logout")) {
+                return Route.AUTH;
+            }
+            return path.startsWith("/auth/check/") ? Route.PUBLIC : null;
+        }
+
+        if (path.equals("/movies") || path.startsWith("/movies/")) {
+            if (path.equals("/movies/search") || path.equals("/movies/filter")) {
+                return Route.SEARCH;
+            }
+            return Route.PUBLIC;
+        }
+
+        return null;
+    }
+
+    /**
+     * 버킷을 구분할 클라이언트 식별자 (JWT 인증 필터 이후 실행되므로 로그인 사용자는 사용자 ID 사용)
+     */
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return "u:" + userDetails.getId();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMillis) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((retryAfterMillis + 999) / 1000));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(ApiResponse.error(
+                "TOO_MANY_REQUESTS", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.")));
+    }
+
+    private void count(Route route, String outcome, String source) {
+        meterRegistry.counter("rate.limit.requests",
+                "route", route.name().toLowerCase(), "outcome", outcome, "source", source).increment();
+    }
+
+    /**
+     * 노드 로컬 버킷 상태 (해당 버킷 객체로 동기화)
+     */
+    private static final class LocalBucket {
+        private long leasedTokens;
+        private long leaseExpiresAtNanos;
+        private long blockedUntilNanos;
+    }
+}
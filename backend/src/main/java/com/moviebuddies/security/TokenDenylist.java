@@ -0,0 +1,201 @@
+package com.moviebuddies.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 폐기된 JWT 목록 (jti 기준)
+ *
+ * 로그아웃한 토큰과 재발급에 사용된 리프레시 토큰의 jti를 기록하여 이후 요청을 거부
+ *
+ * 저장 구조:
+ * - Redis: auth:revoked:{jti} = 토큰 만료 시각(epoch 초), TTL = 토큰 남은 수명 → 토큰 만료 시 자동 삭제
+ * - 로컬: 토큰 만료 시각 1시간 단위 구간별 블룸 필터 → 만료 구간이 지나면 구간째 삭제하여 메모리 사용량 제한
+ *
+ * 조회 경로:
+ * - 토큰의 만료 시각으로 구간 하나만 확인하며, 블룸 필터가 "없음"이면 Redis 조회 없이 통과 (대부분의 요청)
+ * - "있을 수 있음"이면 Redis에서 확인 (오탐인 경우에만 Redis 왕복 1회)
+ *
+ * 노드 간 동기화:
+ * - 폐기 시 Redis pub/sub으로 다른 노드의 블룸 필터에 추가
+ * - 기동 시와 주기적으로 Redis의 폐기 목록을 다시 읽어 유실된 메시지를 보완
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenDenylist {
+
+    private static final String KEY_PREFIX = "auth:revoked:";
+    private static final long BUCKET_SECONDS = 3600;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 토큰 만료 시각 구간(epoch 시) → 해당 구간에 만료되는 폐기 토큰의 블룸 필터
+     */
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+
+    @Value("${jwt.denylist.expected-per-bucket:10000}")
+    private long expectedPerBucket;
+
+    @Value("${jwt.denylist.channel:auth:token-revoked}")
+    private String channel;
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf('|');
+            try {
+                addLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                log.warn("잘못된 토큰 폐기 메시지: {}", body);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    /**
+     * 토큰 폐기
+     * Redis에 토큰 남은 수명만큼 기록하고, 로컬 및 다른 노드의 블룸 필터에 추가
+     *
+     * @param claims 서명이 검증된 토큰 클레임
+     * @return 이번 호출로 새로 폐기되었으면 true, 이미 폐기된 토큰이면 false
+     */
+    public boolean revoke(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            // jti가 없는 이전 버전 토큰은 개별 폐기 불가 (만료 시까지 유효)
+            return true;
+        }
+
+        long expiresAt = claims.getExpiration().toInstant().getEpochSecond();
+        Duration ttl = Duration.ofSeconds(expiresAt - Instant.now().getEpochSecond() + 1);
+        if (ttl.isNegative() || ttl.isZero()) {
+            return true;
+        }
+
+        Boolean created = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + jti, String.valueOf(expiresAt), ttl);
+        addLocal(jti, expiresAt);
+
+        try {
+            redisTemplate.convertAndSend(channel, jti + "|" + expiresAt);
+        } catch (Exception e) {
+            log.warn("토큰 폐기 메시지 발행 실패 - jti: {}, 오류: {}", jti, e.getMessage());
+        }
+
+        return Boolean.TRUE.equals(created);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     * Redis 장애 시 블룸 필터가 "있을 수 있음"으로 판정한 토큰은 폐기된 것으로 간주
+     *
+     * @param claims 서명이 검증된 토큰 클레임
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return false;
+        }
+
+        BloomFilter bucket = buckets.get(bucketOf(claims.getExpiration().toInstant().getEpochSecond()));
+        if (bucket == null || !bucket.mightContain(jti)) {
+            return false;
+        }
+
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+        } catch (Exception e) {
+            log.warn("토큰 폐기 여부 확인 실패 (폐기로 간주) - jti: {}, 오류: {}", jti, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * Redis의 폐기 목록을 로컬 블룸 필터에 다시 반영하고 만료된 구간 제거
+     * 기동 직후와 주기적으로 실행하여 유실된 pub/sub 메시지를 보완
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${jwt.denylist.resync-interval-ms:300000}", initialDelayString = "${jwt.denylist.resync-interval-ms:300000}")
+    public void resync() {
+        purgeExpiredBuckets();
+
+        int loaded = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            List<String> keys = new ArrayList<>();
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() >= 1000 || !cursor.hasNext()) {
+                    loaded += loadBatch(keys);
+                    keys.clear();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("폐기 토큰 목록 동기화 실패: {}", e.getMessage());
+            return;
+        }
+
+        log.debug("폐기 토큰 목록 동기화 완료 - {}건, 구간 {}개", loaded, buckets.size());
+    }
+
+    private int loadBatch(List<String> keys) {
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+
+        int loaded = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value != null) {
+                addLocal(keys.get(i).substring(KEY_PREFIX.length()), Long.parseLong(value));
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private void addLocal(String jti, long expiresAt) {
+        if (expiresAt <= Instant.now().getEpochSecond()) {
+            return;
+        }
+        buckets.computeIfAbsent(bucketOf(expiresAt), key -> new BloomFilter(expectedPerBucket, FALSE_POSITIVE_RATE))
+                .put(jti);
+    }
+
+    /**
+     * 만료 시각 구간이 이미 지난 블룸 필터 제거 (해당 구간의 토큰은 모두 만료되어 검증 단계에서 거부됨)
+     */
+    private void purgeExpiredBuckets() {
+        ConcurrentNavigableMap<Long, BloomFilter> expired = buckets.headMap(bucketOf(Instant.now().getEpochSecond()));
+        expired.clear();
+    }
+
+    private static long bucketOf(long epochSecond) {
+        return epochSecond / BUCKET_SECONDS;
+    }
+}
@@ -3,7 +3,9 @@ package com.moviebuddies.security;
 import com.moviebuddies.entity.User;
 import com.moviebuddies.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -14,10 +16,14 @@ import org.springframework.transaction.annotation.Transactional;
  * 사용자명을 기반으로 데이터베이스에서 사용자 정보를 조회하고, Spring Security가 사용할 수 있는 UserDetails 객체로 변환
  * +
  * 로그인 과정에서 Spring Security가 자동으로 호출하는 서비스
+ * +
+ * 저장된 해시의 BCrypt 작업 계수가 설정값(password.bcrypt-strength)보다 낮으면
+ * 로그인 성공 시 입력된 비밀번호로 다시 해싱하여 저장 (UserDetailsPasswordService)
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -46,4 +52,24 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         // User 엔티티를 Spring Security가 사용할 수 있는 UserDetails로 변환
         return UserDetailsImpl.create(user);
     }
+
+    /**
+     * 로그인 성공 후 비밀번호 해시 갱신 (작업 계수 상향)
+     * Spring Security가 저장된 해시의 작업 계수가 낮다고 판단한 경우에만 호출
+     *
+     * @param user 인증된 사용자
+     * @param newPassword 현재 설정의 작업 계수로 다시 해싱한 비밀번호
+     * @return 갱신된 해시를 담은 UserDetails
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByUsernameAndIsActiveTrue(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException(user.getUsername() + " 사용자를 찾을 수 없습니다"));
+        entity.changePassword(newPassword);
+        userRepository.save(entity);
+
+        log.info("비밀번호 해시 작업 계수 갱신 - 사용자: {}", entity.getUsername());
+        return UserDetailsImpl.create(entity);
+    }
 }
@@ -8,16 +8,22 @@ import com.moviebuddies.entity.User;
 import com.moviebuddies.exception.BusinessException;
 import com.moviebuddies.repository.UserRepository;
 import com.moviebuddies.security.JwtUtil;
+import com.moviebuddies.security.PasswordHashingExecutor;
+import com.moviebuddies.security.TokenDenylist;
 import com.moviebuddies.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
@@ -30,7 +36,8 @@ import java.time.LocalDateTime;
  * 주요 기능:
  * - 회원가입 및 중복 검증
  * - 로그인 및 JWT 토큰 발급
- * - 리프레시 토큰을 통한 액세스 토큰 갱신
+ * - 리프레시 토큰을 통한 액세스 토큰 갱신 (리프레시 토큰 1회 사용 후 교체)
+ * - 로그아웃 시 토큰 폐기
  * - 사용자명/이메일/닉네임 중복 확인
  */
 @Slf4j
@@ -43,35 +50,53 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final TokenDenylist tokenDenylist;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final UserAvailabilityIndex availabilityIndex;
 
     /**
      * 사용자 회원가입 처리
      *
      * 입력된 사용자 정보의 중복 여부를 검사한 후 새로운 사용자를 생성
      * 비밀번호를 BCrypt로 안전하게 암호화되어 저장
+     * 해싱은 전용 실행기에서 트랜잭션 밖에서 수행 (대기 중 DB 커넥션 점유 방지)
      *
      * @param request 회원가입 요청 정보 (사용자명, 비밀번호, 이메일, 닉네임)
      * @return 생성된 사용자 정보 DTO
-     * @throws BusinessException 중복된 사용자명/이메일/닉네임이 존재하는 경우
+     * @throws BusinessException 중복된 사용자명/이메일/닉네임이 존재하는 경우, 해싱 실행기가 포화 상태인 경우 (429)
      */
-    @Transactional  // 쓰기 작업이므로 트랜잭션 적용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponse signup(SignupRequest request) {
 
         log.info("회원가입 요청: {}", request.getUsername());
         
         // 중복 검사 수행 (사용자명, 이메일, 닉네임)
         validateSignupRequest(request);
-        
+
+        String encodedPassword = passwordHashingExecutor.execute("signup",
+                () -> passwordEncoder.encode(request.getPassword()));
+
         // 새로운 사용자 엔티티 생성
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .email(request.getEmail())
                 .nickname(request.getNickname())
                 .isActive(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = transactionTemplate.execute(status -> userRepository.save(user));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사 이후 다른 요청이 먼저 가입한 경우 (사용자명/이메일 유니크 제약)
+            throw BusinessException.conflict("이미 사용 중인 사용자명 또는 이메일입니다.");
+        }
+
+        availabilityIndex.add(UserAvailabilityIndex.Field.USERNAME, savedUser.getUsername());
+        availabilityIndex.add(UserAvailabilityIndex.Field.EMAIL, savedUser.getEmail());
+        availabilityIndex.add(UserAvailabilityIndex.Field.NICKNAME, savedUser.getNickname());
         log.info("회원가입 완료: {}", savedUser.getUsername());
 
         return UserResponse.from(savedUser);
@@ -82,23 +107,25 @@ public class AuthService {
      *
      * Spring Security의 AuthenticationManager를 통해 사용자 인증을 수행하고, 성공 시 JWT 액세스 토큰과 리프레시 토큰을 발급
      * 마지막 로그인 시간도 함께 업데이트
+     * 비밀번호 비교(BCrypt)는 전용 실행기에서 트랜잭션 밖에서 수행 (대기 중 DB 커넥션 점유 방지)
      *
      * @param request 로그인 요청 정보 (사용자명, 비밀번호)
      * @return JWT 토큰과 사용자 정보를 포함한 응답 DTO
-     * @throws BusinessException 인증 실패 또는 사용자를 찾을 수 없는 경우
+     * @throws BusinessException 인증 실패 또는 사용자를 찾을 수 없는 경우, 해싱 실행기가 포화 상태인 경우 (429)
      */
-    @Transactional  // 마지막 로그인 시간 업데이트를 위한 트랜잭션
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public JwtResponse login(LoginRequest request) {
 
         log.info("로그인 요청: {}", request.getUsername());
 
-        // Spring Security를 통한 사용자 인증 처리
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getUsername(),
-                        request.getPassword()
-                )
-        );
+        // Spring Security를 통한 사용자 인증 처리 (비밀번호 해싱 전용 실행기에서 실행)
+        Authentication authentication = passwordHashingExecutor.execute("login",
+                () -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                request.getUsername(),
+                                request.getPassword()
+                        )
+                ));
 
         // 인증 성공 시 Security Context에 인증 정보 설정
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -109,9 +136,12 @@ public class AuthService {
         String refreshToken = jwtUtil.generateRefreshToken(userDetails);
 
         // 마지막 로그인 시간 업데이트
-        User user = userRepository.findById(userDetails.getId())
-                .orElseThrow(() -> BusinessException.notFound("사용자를 찾을 수 없습니다."));
-        user.updateLastLoginAt();
+        User user = transactionTemplate.execute(status -> {
+            User loggedIn = userRepository.findById(userDetails.getId())
+                    .orElseThrow(() -> BusinessException.notFound("사용자를 찾을 수 없습니다."));
+            loggedIn.updateLastLoginAt();
+            return loggedIn;
+        });
 
         log.info("로그인 성공: {}", request.getUsername());
 
@@ -127,41 +157,80 @@ public class AuthService {
      * 리프레시 토큰을 사용한 액세스 토큰 갱신
      *
      * 만료된 액세스 토큰을 새로 발급받기 위해 리프레시 토큰을 검증하고, 유효한 경우 새로운 액세스 토큰을 생성하여 반환
+     * 리프레시 토큰은 한 번만 사용할 수 있으며, 사용한 토큰은 폐기하고 새 리프레시 토큰을 함께 발급 (토큰 교체)
+     * 이미 사용된 리프레시 토큰이 다시 제출되면 탈취된 것으로 보고 거부
      *
      * @param refreshToken 클라이언트에서 전송한 리프레시 토큰
-     * @return 새로운 액세스 토큰과 사용자 정보를 포함한 응답 DTO
-     * @throws BusinessException 리프레시 토큰이 유효하지 않거나 사용자를 찾을 수 없는 경우
+     * @return 새로운 액세스 토큰, 리프레시 토큰과 사용자 정보를 포함한 응답 DTO
+     * @throws BusinessException 리프레시 토큰이 유효하지 않거나 이미 사용되었거나 사용자를 찾을 수 없는 경우
      */
     public JwtResponse refreshToken(String refreshToken) {
 
         log.info("토큰 새로고침 요청");
 
-        // 리프레시 토큰 유효성 검증
-        if (!jwtUtil.validateToken(refreshToken)) {
+        // 리프레시 토큰 유효성 검증 (한 번만 파싱)
+        Claims claims = jwtUtil.parseToken(refreshToken);
+        if (claims == null || !jwtUtil.isRefreshToken(claims)) {
             throw BusinessException.unauthorized("유효하지 않은 리프레시 토큰입니다.");
         }
 
+        // 사용한 리프레시 토큰 폐기 (동시에 같은 토큰으로 요청하면 먼저 도착한 요청만 성공)
+        if (tokenDenylist.isRevoked(claims) || !tokenDenylist.revoke(claims)) {
+            log.warn("이미 사용되었거나 폐기된 리프레시 토큰으로 갱신 요청 - 사용자: {}", claims.getSubject());
+            throw BusinessException.unauthorized("이미 사용되었거나 폐기된 리프레시 토큰입니다.");
+        }
+
         // 리프레시 토큰에서 사용자명 추출
-        String username = jwtUtil.getUsernameFromToken(refreshToken);
+        String username = claims.getSubject();
         User user = userRepository.findByUsernameAndIsActiveTrue(username)
                 .orElseThrow(() -> BusinessException.notFound("사용자를 찾을 수 없습니다."));
 
-        // 새로운 액세스 토큰 생성
+        // 새로운 액세스 토큰과 리프레시 토큰 생성
         UserDetailsImpl userDetails = UserDetailsImpl.create(user);
         String newAccessToken = jwtUtil.generateToken(userDetails);
-    
+        String newRefreshToken = jwtUtil.generateRefreshToken(userDetails);
+
         return JwtResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(refreshToken) // 기존 리프레시 토큰 재사용
+                .refreshToken(newRefreshToken) // 리프레시 토큰 교체
                 .tokenType("Bearer")
                 .user(UserResponse.from(user))
                 .build();
     }
 
+    /**
+     * 로그아웃 처리
+     *
+     * 전달된 액세스 토큰과 리프레시 토큰을 폐기하여 만료 전이라도 더 이상 사용할 수 없게 함
+     * 유효하지 않거나 이미 만료된 토큰은 무시
+     *
+     * @param accessToken 현재 액세스 토큰 (없으면 null)
+     * @param refreshToken 함께 폐기할 리프레시 토큰 (없으면 null)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        revokeIfValid(accessToken);
+        revokeIfValid(refreshToken);
+    }
+
+    private void revokeIfValid(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+
+        Claims claims = jwtUtil.parseToken(token);
+        if (claims != null) {
+            tokenDenylist.revoke(claims);
+            log.info("토큰 폐기 - 사용자: {}, 종류: {}", claims.getSubject(),
+                    jwtUtil.isRefreshToken(claims) ? "refresh" : "access");
+        }
+    }
+
     /**
      * 회원가입 요청 유효성 검사
      *
      * 사용자명, 이메일, 닉네임의 중복 여부를 확인하여 중복된 정보가 있으면 예외를 발생
+     * 쓰기 경로이므로 블룸 필터를 거치지 않고 항상 데이터베이스에서 확인
+     * (필터는 기동 후 적재 전이나 다른 노드의 가입을 반영하지 못할 수 있고, 닉네임은 유니크 제약이 없음)
      * 
      * @param request 회원가입 요청 정보
      * @throws BusinessException 중복된 정보가 존재하는 경우
@@ -183,12 +252,15 @@ public class AuthService {
 
     /**
      * 사용자명 사용 가능 여부 확인
+     * 메모리 인덱스(블룸 필터)에 없으면 바로 사용 가능으로 응답하고, 있을 수 있을 때만 데이터베이스에서 확인
+     * 입력 중 확인(/check) 응답용 빠른 경로이며, 가입/수정 시에는 항상 데이터베이스에서 다시 확인
      * 
      * @param username 확인할 사용자명
      * @return 사용 가능하면 true, 이미 사용 중이면 false
      */
     public boolean isUsernameAvailable(String username) {
-        return !userRepository.existsByUsername(username);
+        return !availabilityIndex.mightExist(UserAvailabilityIndex.Field.USERNAME, username)
+                || !userRepository.existsByUsername(username);
     }
 
     /**
@@ -198,7 +270,8 @@ public class AuthService {
      * @return 사용 가능하면 true, 이미 사용 중이면 false
      */
     public boolean isEmailAvailable(String email) {
-        return !userRepository.existsByEmail(email);
+        return !availabilityIndex.mightExist(UserAvailabilityIndex.Field.EMAIL, email)
+                || !userRepository.existsByEmail(email);
     }
 
     /**
@@ -208,6 +281,7 @@ public class AuthService {
      * @return 사용 가능하면 true, 이미 사용 중이면 false
      */
     public boolean isNicknameAvailable(String nickname) {
-        return !userRepository.existsByNickname(nickname);
+        return !availabilityIndex.mightExist(UserAvailabilityIndex.Field.NICKNAME, nickname)
+                || !userRepository.existsByNickname(nickname);
     }
 }
@@ -0,0 +1,278 @@
+package com.moviebuddies.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 자동완성용 불변 접두 검색 인덱스
+ *
+ * 항목을 인기도 내림차순으로 정렬하여 순위(rank)를 부여하고, 항목별 검색 키를 정렬된 배열에 저장
+ * 검색 시 이진 탐색으로 접두 범위를 찾은 뒤, 키별 항목 순위에 대한 세그먼트 트리로
+ * 범위 내 가장 인기 있는 항목부터 꺼내므로 범위 크기와 관계없이 O(k log n)으로 응답
+ *
+ * 검색 키 (항목당):
+ * - 각 단어 시작 위치부터의 공백 제거 문자열을 자모 분해한 키 ("다크나이트", "나이트")
+ * - 한글이 포함된 경우 동일 위치의 초성 키 ("ㄷㅋㄴㅇㅌ", "ㄴㅇㅌ")
+ *
+ * 메모리 예산을 초과하면 인기도가 낮은 항목부터 인덱스에서 제외
+ */
+final class AutocompleteIndex {
+
+    /**
+     * 항목당 키를 생성할 최대 단어 시작 위치 수
+     */
+    private static final int MAX_WORD_KEYS = 6;
+
+    /**
+     * 검색 키 최대 길이 (자모 기준)
+     */
+    static final int MAX_KEY_LENGTH = 48;
+
+    /**
+     * 객체/배열 참조 오버헤드 추정치 (바이트)
+     */
+    private static final int ITEM_OVERHEAD_BYTES = 64;
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int KEY_SLOT_BYTES = 20;
+
+    /**
+     * 인덱스 항목 (영화 또는 배우)
+     *
+     * @param id 엔티티 ID
+     * @param label 표시 문자열 (영화 제목 또는 배우 이름)
+     * @param imageUrl 포스터 또는 프로필 이미지 URL
+     * @param year 개봉 연도 (배우는 null)
+     * @param popularity 인기도 (순위 결정용)
+     */
+    record Item(long id, String label, String imageUrl, Integer year, double popularity) {
+    }
+
+    private final Item[] items;
+    private final String[] keys;
+    private final int[] ranks;
+    private final int[] tree;
+    private final int leafOffset;
+    private final long estimatedBytes;
+
+    private AutocompleteIndex(Item[] items, String[] keys, int[] ranks, long estimatedBytes) {
+        this.items = items;
+        this.keys = keys;
+        this.ranks = ranks;
+        this.estimatedBytes = estimatedBytes;
+
+        int size = 1;
+        while (size < Math.max(keys.length, 1)) {
+            size <<= 1;
+        }
+        this.leafOffset = size;
+        this.tree = new int[size * 2];
+        Arrays.fill(tree, -1);
+        for (int i = 0; i < keys.length; i++) {
+            tree[size + i] = i;
+        }
+        for (int node = size - 1; node > 0; node--) {
+            tree[node] = better(tree[node * 2], tree[node * 2 + 1]);
+        }
+    }
+
+    /**
+     * 항목 목록으로 인덱스 구축
+     *
+     * @param source 인덱싱할 항목 (순서 무관)
+     * @param memoryBudgetBytes 인덱스 메모리 예산
+     * @return 구축된 인덱스
+     */
+    static AutocompleteIndex build(Collection<Item> source, long memoryBudgetBytes) {
+        List<Item> sorted = new ArrayList<>(source);
+        sorted.sort(Comparator.comparingDouble(Item::popularity).reversed().thenComparingLong(Item::id));
+
+        List<Item> accepted = new ArrayList<>();
+        List<String> keyList = new ArrayList<>();
+        List<Integer> rankList = new ArrayList<>();
+        long used = 0;
+
+        for (Item item : sorted) {
+            Set<String> itemKeys = keysOf(item.label());
+            if (itemKeys.isEmpty()) {
+                continue;
+            }
+
+            long cost = ITEM_OVERHEAD_BYTES
+                    + STRING_OVERHEAD_BYTES + 2L * item.label().length()
+                    + STRING_OVERHEAD_BYTES + (item.imageUrl() != null ? item.imageUrl().length() : 0);
+            for (String key : itemKeys) {
+                cost += KEY_SLOT_BYTES + STRING_OVERHEAD_BYTES + 2L * key.length();
+            }
+            if (used + cost > memoryBudgetBytes) {
+                break;
+            }
+            used += cost;
+
+            int rank = accepted.size();
+            accepted.add(item);
+            for (String key : itemKeys) {
+                keyList.add(key);
+                rankList.add(rank);
+            }
+        }
+
+        Integer[] order = new Integer[keyList.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer, String>comparing(keyList::get).thenComparing(rankList::get));
+
+        String[] keys = new String[order.length];
+        int[] ranks = new int[order.length];
+        for (int i = 0; i < order.length; i++) {
+            keys[i] = keyList.get(order[i]);
+            ranks[i] = rankList.get(order[i]);
+        }
+
+        return new AutocompleteIndex(accepted.toArray(new Item[0]), keys, ranks, used);
+    }
+
+    /**
+     * 빈 인덱스 생성
+     *
+     * @return 항목이 없는 인덱스
+     */
+    static AutocompleteIndex empty() {
+        return new AutocompleteIndex(new Item[0], new String[0], new int[0], 0);
+    }
+
+    /**
+     * 접두 검색
+     *
+     * @param query 사용자 입력 검색어
+     * @param limit 최대 결과 수
+     * @return 인기도순 검색 결과
+     */
+    List<Item> search(String query, int limit) {
+        String prefix = HangulNormalizer.normalizeQuery(query);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_KEY_LENGTH) {
+            prefix = prefix.substring(0, MAX_KEY_LENGTH);
+        }
+
+        int from = lowerBound(prefix);
+        int to = lowerBound(prefix + Character.MAX_VALUE);
+        if (from >= to) {
+            return List.of();
+        }
+
+        // 범위를 최상위 항목 기준으로 분할하며 인기 순으로 꺼냄 (같은 항목의 여러 키는 중복 제거)
+        PriorityQueue<int[]> ranges = new PriorityQueue<>(Comparator.comparingInt(range -> ranks[range[2]]));
+        ranges.add(new int[]{from, to - 1, queryBest(from, to - 1)});
+
+        List<Item> result = new ArrayList<>(limit);
+        Set<Integer> seen = new HashSet<>();
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (seen.add(ranks[best])) {
+                result.add(items[ranks[best]]);
+            }
+            if (range[0] <= best - 1) {
+                ranges.add(new int[]{range[0], best - 1, queryBest(range[0], best - 1)});
+            }
+            if (best + 1 <= range[1]) {
+                ranges.add(new int[]{best + 1, range[1], queryBest(best + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 인덱싱된 전체 항목 (인기도순)
+     *
+     * @return 항목 목록
+     */
+    List<Item> items() {
+        return Arrays.asList(items);
+    }
+
+    int size() {
+        return items.length;
+    }
+
+    int keyCount() {
+        return keys.length;
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * 항목 표시 문자열로부터 검색 키 생성
+     */
+    private static Set<String> keysOf(String label) {
+        List<String> words = HangulNormalizer.words(label);
+        Set<String> keys = new LinkedHashSet<>();
+
+        for (int i = 0; i < Math.min(words.size(), MAX_WORD_KEYS); i++) {
+            String suffix = String.join("", words.subList(i, words.size()));
+            keys.add(truncate(HangulNormalizer.decompose(suffix)));
+
+            String chosung = HangulNormalizer.chosung(suffix);
+            if (chosung != null) {
+                keys.add(truncate(chosung));
+            }
+        }
+        return keys;
+    }
+
+    private static String truncate(String key) {
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    private int lowerBound(String target) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(target) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * [left, right] 구간에서 가장 인기 있는 항목의 키 위치 조회
+     */
+    private int queryBest(int left, int right) {
+        int best = -1;
+        for (int l = left + leafOffset, r = right + leafOffset + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                best = better(best, tree[l++]);
+            }
+            if ((r & 1) == 1) {
+                best = better(best, tree[--r]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        return ranks[a] <= ranks[b] ? a : b;
+    }
+}
@@ -0,0 +1,261 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.dto.response.MovieAutocompleteResponse;
+import com.moviebuddies.entity.Actor;
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.repository.ActorRepository;
+import com.moviebuddies.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 자동완성 인덱스 관리 서비스
+ *
+ * 영화 제목과 배우 이름에 대한 메모리 내 접두 검색 인덱스를 유지하여
+ * 자동완성 요청을 데이터베이스 조회 없이 처리
+ *
+ * - 애플리케이션 기동 완료 후 비동기로 전체 구축
+ * - TMDB 동기화 커밋 후 변경된 영화/배우만 조회하여 기존 인덱스와 병합 (증분 갱신)
+ * - 주기적으로 전체 재구축하여 삭제된 영화/배우, 증분 갱신으로 잡히지 않는 변경,
+ *   메모리 예산 때문에 제외되었다가 인기도가 오른 항목을 반영
+ *   (증분 갱신마다 전체 ID를 읽어 삭제를 확인하면 갱신 비용이 전체 행 수에 비례하므로 재구축에서만 처리)
+ * - 인덱스 교체는 불변 스냅샷의 참조 교체로 처리하여 조회 시 잠금 없음
+ * - 구축 전에는 빈 결과 대신 기존 데이터베이스 조회로 대체
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutocompleteIndexService {
+
+    /**
+     * 증분 갱신 시 기준 시각에 더하는 여유 시간 (동기화 트랜잭션과의 시간차 보정)
+     */
+    private static final long REFRESH_OVERLAP_SECONDS = 60;
+
+    private final MovieRepository movieRepository;
+    private final ActorRepository actorRepository;
+
+    @Value("${autocomplete.memory-budget-mb:128}")
+    private long memoryBudgetMb;
+
+    private volatile Snapshot snapshot;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private final AtomicBoolean refreshPending = new AtomicBoolean(false);
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean(false);
+
+    /**
+     * 영화/배우 인덱스와 구축 시각을 묶은 불변 스냅샷
+     */
+    private record Snapshot(AutocompleteIndex movies, AutocompleteIndex actors, LocalDateTime builtAt) {
+    }
+
+    /**
+     * 애플리케이션 기동 후 인덱스 전체 구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        refresh();
+    }
+
+    /**
+     * TMDB 동기화 커밋 후 인덱스 증분 갱신
+     *
+     * @param event 동기화 완료 이벤트
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTmdbSyncCompleted(TmdbSyncCompletedEvent event) {
+        log.info("TMDB 동기화 완료 - 자동완성 인덱스 갱신 요청 (동기화: {})", event.source());
+        refresh();
+    }
+
+    /**
+     * 인덱스 전체 재구축 (정기 실행)
+     * 갱신 중이면 진행 중인 갱신이 끝난 뒤 전체 재구축으로 이어서 실행
+     */
+    @Scheduled(fixedDelayString = "${autocomplete.rebuild-interval-ms:21600000}",
+            initialDelayString = "${autocomplete.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        rebuildRequested.set(true);
+        refresh();
+    }
+
+    /**
+     * 인덱스 갱신
+     * 이미 갱신 중이면 요청만 기록하고 반환하며, 진행 중인 갱신이 끝난 뒤 한 번 더 갱신하여 요청을 병합
+     */
+    public void refresh() {
+        refreshPending.set(true);
+        while (refreshPending.get() && refreshing.compareAndSet(false, true)) {
+            try {
+                refreshPending.set(false);
+                if (snapshot == null || rebuildRequested.getAndSet(false)) {
+                    rebuild();
+                } else {
+                    refreshIncrementally(snapshot);
+                }
+            } catch (Exception e) {
+                log.error("자동완성 인덱스 갱신 실패", e);
+            } finally {
+                refreshing.set(false);
+            }
+        }
+    }
+
+    /**
+     * 인덱스 구축 완료 여부
+     *
+     * @return 인덱스로 자동완성을 처리할 수 있으면 true
+     */
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 인덱스 기반 자동완성 조회
+     *
+     * @param keyword 검색 키워드
+     * @param limit 영화/배우 각각의 최대 결과 수
+     * @return 자동완성 결과 (인덱스가 아직 구축되지 않았으면 empty)
+     */
+    public Optional<MovieAutocompleteResponse> suggest(String keyword, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        List<MovieAutocompleteResponse.MovieSuggestion> movies = current.movies().search(keyword, limit).stream()
+                .map(item -> MovieAutocompleteResponse.MovieSuggestion.builder()
+                        .id(item.id())
+                        .title(item.label())
+                        .posterImageUrl(item.imageUrl())
+                        .releaseYear(item.year())
+                        .build())
+                .collect(Collectors.toList());
+
+        List<MovieAutocompleteResponse.ActorSuggestion> actors = current.actors().search(keyword, limit).stream()
+                .map(item -> MovieAutocompleteResponse.ActorSuggestion.builder()
+                        .id(item.id())
+                        .name(item.label())
+                        .profileImageUrl(item.imageUrl())
+                        .build())
+                .collect(Collectors.toList());
+
+        return Optional.of(MovieAutocompleteResponse.builder()
+                .movies(movies)
+                .actors(actors)
+                .build());
+    }
+
+    /**
+     * 전체 영화/배우를 조회하여 인덱스 구축
+     */
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime builtAt = LocalDateTime.now();
+
+        AutocompleteIndex movies = AutocompleteIndex.build(
+                toMovieItems(movieRepository.findAutocompleteRows()).values(), sectionBudgetBytes());
+        AutocompleteIndex actors = AutocompleteIndex.build(
+                toActorItems(actorRepository.findAutocompleteRows()).values(), sectionBudgetBytes());
+
+        snapshot = new Snapshot(movies, actors, builtAt);
+        logBuilt("전체 구축", movies, actors, start);
+    }
+
+    /**
+     * 마지막 구축 이후 변경된 영화/배우만 조회하여 기존 항목과 병합
+     * 삭제된 영화/배우는 다음 전체 재구축에서 제거
+     */
+    private void refreshIncrementally(Snapshot previous) {
+        long start = System.currentTimeMillis();
+        LocalDateTime builtAt = LocalDateTime.now();
+        LocalDateTime since = previous.builtAt().minusSeconds(REFRESH_OVERLAP_SECONDS);
+
+        Map<Long, AutocompleteIndex.Item> changedMovies = toMovieItems(movieRepository.findAutocompleteRowsModifiedSince(since));
+        Map<Long, AutocompleteIndex.Item> changedActors = toActorItems(actorRepository.findAutocompleteRowsModifiedSince(since));
+
+        if (changedMovies.isEmpty() && changedActors.isEmpty()) {
+            snapshot = new Snapshot(previous.movies(), previous.actors(), builtAt);
+            return;
+        }
+
+        AutocompleteIndex movies = changedMovies.isEmpty() ? previous.movies() : merge(previous.movies(), changedMovies);
+        AutocompleteIndex actors = changedActors.isEmpty() ? previous.actors() : merge(previous.actors(), changedActors);
+
+        snapshot = new Snapshot(movies, actors, builtAt);
+        logBuilt("증분 갱신 (영화 " + changedMovies.size() + "건, 배우 " + changedActors.size() + "건)", movies, actors, start);
+    }
+
+    private AutocompleteIndex merge(AutocompleteIndex previous, Map<Long, AutocompleteIndex.Item> changed) {
+        Map<Long, AutocompleteIndex.Item> merged = new LinkedHashMap<>();
+        for (AutocompleteIndex.Item item : previous.items()) {
+            merged.put(item.id(), item);
+        }
+        merged.putAll(changed);
+        return AutocompleteIndex.build(merged.values(), sectionBudgetBytes());
+    }
+
+    private Map<Long, AutocompleteIndex.Item> toMovieItems(List<Object[]> rows) {
+        Map<Long, AutocompleteIndex.Item> items = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            LocalDate releaseDate = (LocalDate) row[3];
+            items.put(id, new AutocompleteIndex.Item(
+                    id,
+                    (String) row[1],
+                    Movie.posterImageUrlOf((String) row[2]),
+                    releaseDate != null ? releaseDate.getYear() : null,
+                    row[4] != null ? (Double) row[4] : 0.0));
+        }
+        return items;
+    }
+
+    private Map<Long, AutocompleteIndex.Item> toActorItems(List<Object[]> rows) {
+        Map<Long, AutocompleteIndex.Item> items = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            Long id = (Long) row[0];
+            items.put(id, new AutocompleteIndex.Item(
+                    id,
+                    (String) row[1],
+                    Actor.profileImageUrlOf((String) row[2]),
+                    null,
+                    row[3] != null ? (Double) row[3] : 0.0));
+        }
+        return items;
+    }
+
+    /**
+     * 영화/배우 인덱스 각각에 할당되는 메모리 예산 (전체 예산의 절반)
+     */
+    private long sectionBudgetBytes() {
+        return memoryBudgetMb * 1024 * 1024 / 2;
+    }
+
+    private void logBuilt(String type, AutocompleteIndex movies, AutocompleteIndex actors, long start) {
+        log.info("자동완성 인덱스 {} 완료 - 영화: {}건/{}키, 배우: {}건/{}키, 추정 메모리: {}KB, 소요 시간: {}ms",
+                type,
+                movies.size(), movies.keyCount(),
+                actors.size(), actors.keyCount(),
+                (movies.estimatedBytes() + actors.estimatedBytes()) / 1024,
+                System.currentTimeMillis() - start);
+    }
+}
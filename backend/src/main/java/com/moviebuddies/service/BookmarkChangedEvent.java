@@ -0,0 +1,11 @@
+package com.moviebuddies.service;
+
+/**
+ * 북마크 추가/삭제 이벤트
+ * 커밋 이후 해당 영화의 상세 정보 캐시(북마크 수) 무효화 등에 사용
+ *
+ * @param movieId 북마크 대상 영화 ID
+ * @param userId 북마크한 사용자 ID
+ */
+public record BookmarkChangedEvent(Long movieId, Long userId) {
+}
@@ -12,8 +12,8 @@ import com.moviebuddies.repository.MovieRepository;
 import com.moviebuddies.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +37,8 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final MovieRepository movieRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheKeyIndex cacheKeyIndex;
 
     /**
      * 새로운 북마크 추가
@@ -49,7 +51,6 @@ public class BookmarkService {
      * @throws BusinessException 이미 북마크된 영화인 경우
      */
     @Transactional
-    @CacheEvict(value = {"userBookmarks", "movieDetail"}, allEntries = true)
     public BookmarkResponse addBookmark(Long userId, Long movieId) {
 
         log.info("북마크 추가 - 사용자 ID: {}, 영화 ID: {}", userId, movieId);
@@ -57,20 +58,27 @@ public class BookmarkService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
 
-        Movie movie = movieRepository.findById(movieId)
-                .orElseThrow(() -> new ResourceNotFoundException("영화", movieId));
-
         // 중복 북마크 확인
         if (bookmarkRepository.existsByUserIdAndMovieId(userId, movieId)) {
             throw BusinessException.conflict("이미 북마크된 영화입니다.");
         }
 
+        // 영화 북마크 수 집계 컬럼 갱신 (갱신된 행이 없으면 존재하지 않는 영화)
+        // 영화 조회 전에 갱신하여 응답에 증가된 북마크 수가 반영되도록 함
+        if (movieRepository.incrementBookmarkCount(movieId) == 0) {
+            throw new ResourceNotFoundException("영화", movieId);
+        }
+
+        Movie movie = movieRepository.findById(movieId)
+                .orElseThrow(() -> new ResourceNotFoundException("영화", movieId));
+
         Bookmark bookmark = Bookmark.builder()
                 .user(user)
                 .movie(movie)
                 .build();
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+        eventPublisher.publishEvent(new BookmarkChangedEvent(movieId, userId));
         log.info("북마크 추가 완료 - 북마크 ID: {}", savedBookmark.getId());
 
         return BookmarkResponse.from(savedBookmark);
@@ -85,7 +93,6 @@ public class BookmarkService {
      * @throws  ResourceNotFoundException 북마크를 찾을 수 없는 경우
      */
     @Transactional
-    @CacheEvict(value = {"userBookmarks", "movieDetail"}, allEntries = true)
     public void removeBookmark(Long userId, Long movieId) {
 
         log.info("북마크 삭제 - 사용자 ID: {}, 영화 ID: {}", userId, movieId);
@@ -94,12 +101,18 @@ public class BookmarkService {
                 .orElseThrow(() -> new ResourceNotFoundException("북마크를 찾을 수 없습니다."));
 
         bookmarkRepository.delete(bookmark);
+
+        // 영화 북마크 수 집계 컬럼 갱신
+        movieRepository.decrementBookmarkCount(movieId);
+        eventPublisher.publishEvent(new BookmarkChangedEvent(movieId, userId));
+
         log.info("북마크 삭제 완료 - 북마크 ID: {}", bookmark.getId());
     }
 
     /**
      * 사용자의 북마크 목록 조회 (페이징 지원)
      * 최신 북마크부터 정렬하여 반환하여 반환하며 경과를 캐싱
+     * 페이지별 캐시 키는 사용자 ID별로 기록하여 북마크 변경 시 해당 사용자의 페이지만 무효화
      *
      * @param username 사용자명
      * @param pageable 페이징 정보
@@ -114,6 +127,9 @@ public class BookmarkService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("사용자", "username", username));
 
+        cacheKeyIndex.track(ScopedCacheInvalidator.USER_BOOKMARKS_CACHE, user.getId(),
+                username + "_" + pageable.getPageNumber() + "_" + pageable.getPageSize());
+
         Page<Bookmark> bookmarks = bookmarkRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable);
         return bookmarks.map(BookmarkResponse::from);
     }
@@ -0,0 +1,97 @@
+package com.moviebuddies.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 소유자별 캐시 키 목록
+ *
+ * 페이지 번호/크기가 키에 포함되는 캐시(예: 사용자 북마크 목록)는 키 하나로 무효화할 수 없으므로,
+ * 값을 캐싱할 때 키를 소유자(사용자 ID 등)별 Redis Set에 기록해 두고 무효화 시 기록된 키만 제거
+ * (KEYS/SCAN 패턴 조회나 allEntries 전체 삭제 없이 해당 소유자의 항목만 제거)
+ *
+ * Redis 키: cache:keys:{캐시 이름}:{소유자}
+ * - 기록할 때마다 만료 시간을 캐시 TTL(10분)보다 길게 갱신하여 목록이 캐시 항목보다 먼저 사라지지 않도록 함
+ *
+ * 메트릭:
+ * - cache.scoped.evictions (cache): 소유자 단위 무효화로 제거한 키 수
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheKeyIndex {
+
+    private static final String KEY_PREFIX = "cache:keys:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${cache.key-index.ttl-seconds:660}")
+    private long ttlSeconds;
+
+    /**
+     * 캐시 키를 소유자 목록에 기록
+     * 캐시 미스로 값을 조회하는 메서드 안에서 호출 (적중 시에는 Redis 호출 없음)
+     * 기록 실패 시 경고 로그만 남김 (해당 항목은 캐시 TTL 후 만료)
+     *
+     * @param cacheName 캐시 이름
+     * @param owner 소유자 (사용자 ID, 채팅방 ID 등)
+     * @param key 캐시 키
+     */
+    public void track(String cacheName, Object owner, String key) {
+        String indexKey = indexKey(cacheName, owner);
+        try {
+            redisTemplate.opsForSet().add(indexKey, key);
+            redisTemplate.expire(indexKey, Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.warn("캐시 키 기록 실패 - 캐시: {}, 소유자: {}, 오류: {}", cacheName, owner, e.getMessage());
+        }
+    }
+
+    /**
+     * 소유자 목록에 기록된 캐시 키를 모두 제거
+     * 캐시 매니저를 통해 제거하므로 2단계 캐시의 다른 노드 L1 항목도 함께 제거됨
+     *
+     * @param cacheName 캐시 이름
+     * @param owner 소유자
+     */
+    public void evictTracked(String cacheName, Object owner) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null || owner == null) {
+            return;
+        }
+
+        String indexKey = indexKey(cacheName, owner);
+        try {
+            Long size = redisTemplate.opsForSet().size(indexKey);
+            if (size == null || size == 0) {
+                return;
+            }
+            // SPOP으로 꺼낸 키만 제거하여, 조회와 삭제 사이에 새로 기록된 키가 목록에서 유실되지 않도록 함
+            List<String> keys = redisTemplate.opsForSet().pop(indexKey, size);
+            if (keys == null || keys.isEmpty()) {
+                return;
+            }
+            keys.forEach(cache::evict);
+
+            meterRegistry.counter("cache.scoped.evictions", "cache", cacheName).increment(keys.size());
+            log.debug("캐시 키 무효화 - 캐시: {}, 소유자: {}, {}건", cacheName, owner, keys.size());
+        } catch (Exception e) {
+            log.warn("캐시 키 무효화 실패 - 캐시: {}, 소유자: {}, 오류: {}", cacheName, owner, e.getMessage());
+        }
+    }
+
+    private String indexKey(String cacheName, Object owner) {
+        return KEY_PREFIX + cacheName + ":" + owner;
+    }
+}
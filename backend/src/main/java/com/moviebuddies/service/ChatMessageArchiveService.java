@@ -0,0 +1,174 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.repository.ChatMessageArchiveRepository;
+import com.moviebuddies.repository.ChatMessageArchiveRepository.ArchiveBatchResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntSupplier;
+
+/**
+ * 채팅 메시지 보관/정리 서비스
+ *
+ * 보존 기간(retention-days)이 지난 메시지를 chat_messages에서 빼내 대화 기록 조회 테이블이 계속 커지지 않도록 함
+ * - archive 모드: 보관 테이블(chat_messages_archive)로 이동
+ * - purge 모드: 삭제
+ * 보관 테이블도 archive-retention-days가 지나면 삭제 (0이면 계속 보관)
+ *
+ * 오래된 순으로 batch-size개씩 문장 하나로 처리하고 바로 커밋하므로 메모리 사용량과 잠금 범위가 일정하며,
+ * 배치 사이에 pause-ms만큼 쉬어 운영 중 DB 부하를 제한
+ * 매일 새벽 스케줄로 실행되며, 관리자 API로 즉시 실행 가능
+ *
+ * 보관 시 chat_messages에서 삭제한 수와 보관 테이블에 저장한 수를 비교하여,
+ * 같은 ID가 이미 보관되어 있어 새로 저장되지 않은 메시지는 오류 로그와 메트릭으로 남김
+ *
+ * 메트릭:
+ * - chat.archive.messages (action=archived|purged|archive_purged|archive_conflict): 처리한 메시지 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageArchiveService {
+
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.archive.mode:archive}")
+    private String mode;
+
+    @Value("${chat.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${chat.archive.archive-retention-days:0}")
+    private int archiveRetentionDays;
+
+    @Value("${chat.archive.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${chat.archive.max-batches-per-run:1000}")
+    private int maxBatchesPerRun;
+
+    @Value("${chat.archive.pause-ms:50}")
+    private long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private Counter archived;
+    private Counter purged;
+    private Counter archivePurged;
+    private Counter archiveConflicts;
+
+    @PostConstruct
+    void init() {
+        archived = counter("archived");
+        purged = counter("purged");
+        archivePurged = counter("archive_purged");
+        archiveConflicts = counter("archive_conflict");
+    }
+
+    /**
+     * 보관/정리 (정기 실행)
+     */
+    @Scheduled(cron = "${chat.archive.cron:0 0 5 * * *}")
+    public void scheduledArchive() {
+        if (!enabled) {
+            return;
+        }
+        archiveOldMessages();
+    }
+
+    /**
+     * 보존 기간이 지난 메시지 보관/정리
+     * 같은 노드에서 이미 실행 중이면 바로 종료 (다른 노드와는 SKIP LOCKED로 나누어 처리)
+     *
+     * @return chat_messages에서 이동/삭제한 메시지 수
+     */
+    public int archiveOldMessages() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("채팅 메시지 보관 작업이 이미 실행 중입니다.");
+            return 0;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+            boolean purgeOnly = "purge".equalsIgnoreCase(mode);
+            int processed = purgeOnly
+                    ? runBatches(() -> count(purged, chatMessageArchiveRepository.purgeBatch(cutoff, batchSize)))
+                    : runBatches(() -> archiveBatch(cutoff));
+
+            int expired = 0;
+            if (archiveRetentionDays > 0) {
+                LocalDateTime archiveCutoff = LocalDateTime.now().minusDays(archiveRetentionDays);
+                expired = runBatches(() -> count(archivePurged,
+                        chatMessageArchiveRepository.purgeArchiveBatch(archiveCutoff, batchSize)));
+            }
+
+            log.info("채팅 메시지 보관 작업 완료 - 모드: {}, 기준 시각: {}, 처리: {}건, 보관 테이블 삭제: {}건, 소요 시간: {}ms",
+                    purgeOnly ? "purge" : "archive", cutoff, processed, expired, System.currentTimeMillis() - start);
+            return processed;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보관 배치 하나 실행
+     *
+     * @return chat_messages에서 이동한 메시지 수 (보관 테이블에 새로 저장된 수가 다르면 오류 로그)
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        ArchiveBatchResult result = chatMessageArchiveRepository.archiveBatch(cutoff, batchSize);
+        archived.increment(result.archived());
+        int conflicts = result.moved() - result.archived();
+        if (conflicts > 0) {
+            archiveConflicts.increment(conflicts);
+            log.error("채팅 메시지 보관 불일치 - 이동: {}건, 보관 테이블 저장: {}건 (같은 ID가 이미 보관되어 있음)",
+                    result.moved(), result.archived());
+        }
+        return result.moved();
+    }
+
+    /**
+     * 처리할 행이 batch-size보다 적게 남을 때까지(또는 max-batches-per-run까지) 배치 반복
+     */
+    private int runBatches(IntSupplier batch) {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            int count = batch.getAsInt();
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static int count(Counter counter, int count) {
+        counter.increment(count);
+        return count;
+    }
+
+    private Counter counter(String action) {
+        return Counter.builder("chat.archive.messages")
+                .description("보관/정리한 채팅 메시지 수")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+}
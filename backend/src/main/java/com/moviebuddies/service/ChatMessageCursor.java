@@ -0,0 +1,76 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 채팅 메시지 기록 키셋 페이지네이션용 커서
+ * 직전 페이지 마지막(가장 오래된) 메시지의 생성 시각과 동점 처리를 위한 메시지 ID를 하나의 불투명한 문자열로 인코딩
+ * 기준 메시지를 다시 조회하지 않으므로 기준 메시지가 보관/삭제된 뒤에도 이어서 조회 가능
+ *
+ * 인코딩 형식: Base64URL("메시지ID|생성시각(ISO-8601)")
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class ChatMessageCursor {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 직전 페이지 마지막 메시지의 ID
+     */
+    private final Long id;
+
+    /**
+     * 직전 페이지 마지막 메시지의 생성 시각
+     */
+    private final LocalDateTime createdAt;
+
+    /**
+     * 페이지의 마지막 메시지로부터 다음 페이지용 커서 생성
+     *
+     * @param message 페이지의 마지막 메시지
+     * @return 다음 페이지 커서
+     */
+    static ChatMessageCursor of(RecentMessageBuffer.RecentMessage message) {
+        return new ChatMessageCursor(message.id(), message.createdAt());
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열 해석
+     *
+     * @param encoded Base64URL로 인코딩된 커서
+     * @return 해석된 커서
+     * @throws BusinessException 유효하지 않은 커서인 경우
+     */
+    static ChatMessageCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 2);
+            if (parts.length != 2) {
+                throw BusinessException.badRequest("유효하지 않은 커서입니다.");
+            }
+            return new ChatMessageCursor(Long.parseLong(parts[0]), LocalDateTime.parse(parts[1]));
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.badRequest("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     *
+     * @return Base64URL 인코딩된 커서
+     */
+    String encode() {
+        String raw = id + DELIMITER + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
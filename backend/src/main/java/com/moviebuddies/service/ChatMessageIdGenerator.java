@@ -0,0 +1,161 @@
+package com.moviebuddies.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채팅 메시지 ID 발급기
+ *
+ * 메시지를 DB에 저장하기 전에 브로드캐스트하므로 전송 시점에 노드 로컬에서 ID를 발급
+ * 구성 (53비트, 브라우저 JavaScript Number로 손실 없이 표현 가능):
+ * [2025-01-01 기준 경과 밀리초 41비트][노드 번호 5비트][밀리초 내 순번 7비트]
+ * - 시간 순으로 증가하여 기존 IDENTITY 값(작은 정수)과 겹치지 않음
+ * - 밀리초당 128개를 넘거나 시계가 뒤로 가면 다음 밀리초 값을 미리 사용하여 단조 증가 유지
+ *
+ * 노드 번호 임대:
+ * - 기동 시 chat:message:node:{n} 키를 SET NX + TTL로 선점하여 비어 있는 번호를 사용
+ *   (동시에 실행 중인 두 노드가 같은 번호를 쓰면 ID가 겹쳐 메시지가 저장되지 않으므로)
+ * - 비어 있는 번호가 없거나 Redis에 연결할 수 없으면 기동 실패
+ * - 실행 중에는 주기적으로 TTL을 연장하며, 임대를 잃으면(Redis 장애로 만료 등) 다른 빈 번호를 다시 선점
+ * - 종료 시 임대 반납
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageIdGenerator {
+
+    private static final long EPOCH_MILLIS = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 5;
+    private static final int SEQUENCE_BITS = 7;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final String NODE_LEASE_PREFIX = "chat:message:node:";
+
+    /**
+     * 임대 토큰이 일치할 때만 TTL 연장 (만료 후 다른 노드가 선점한 번호를 연장하지 않도록)
+     */
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    /**
+     * 임대 토큰이 일치할 때만 반납
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${chat.message.node-lease.ttl-ms:60000}")
+    private long leaseTtlMs;
+
+    private final String leaseToken = UUID.randomUUID().toString();
+
+    private long nodeId;
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    @PostConstruct
+    void init() {
+        Long leased = acquireNode();
+        if (leased == null) {
+            throw new IllegalStateException("메시지 ID 노드 번호를 할당할 수 없습니다 (" + (MAX_NODE + 1) + "개 모두 사용 중)");
+        }
+        nodeId = leased;
+        log.info("메시지 ID 발급기 초기화 - 노드 번호: {}", nodeId);
+    }
+
+    /**
+     * 노드 번호 임대 연장 (임대를 잃었으면 다른 빈 번호 선점)
+     */
+    @Scheduled(fixedDelayString = "${chat.message.node-lease.renew-interval-ms:10000}",
+            initialDelayString = "${chat.message.node-lease.renew-interval-ms:10000}")
+    public void renewLease() {
+        long current = currentNodeId();
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(leaseKey(current)),
+                    leaseToken, String.valueOf(leaseTtlMs));
+            if (renewed != null && renewed == 1) {
+                return;
+            }
+
+            Long leased = acquireNode();
+            if (leased == null) {
+                log.error("메시지 ID 노드 번호 임대 상실, 빈 번호 없음 - 기존 번호 {} 계속 사용 (ID 충돌 가능)", current);
+                return;
+            }
+            synchronized (this) {
+                nodeId = leased;
+            }
+            log.warn("메시지 ID 노드 번호 임대 상실 - 새 노드 번호: {} (이전: {})", leased, current);
+        } catch (Exception e) {
+            log.warn("메시지 ID 노드 번호 임대 연장 실패 - 노드 번호: {}, 오류: {}", current, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey(currentNodeId())), leaseToken);
+        } catch (Exception e) {
+            log.warn("메시지 ID 노드 번호 반납 실패 (TTL 후 만료) - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 새 메시지 ID
+     */
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        if (now > lastTimestamp) {
+            lastTimestamp = now;
+            sequence = 0;
+        } else if (++sequence > MAX_SEQUENCE) {
+            lastTimestamp++;
+            sequence = 0;
+        }
+        return (lastTimestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * 0번부터 비어 있는 노드 번호를 찾아 선점
+     *
+     * @return 선점한 노드 번호 (모두 사용 중이면 null)
+     */
+    private Long acquireNode() {
+        Duration ttl = Duration.ofMillis(leaseTtlMs);
+        for (long candidate = 0; candidate <= MAX_NODE; candidate++) {
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey(candidate), leaseToken, ttl))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private synchronized long currentNodeId() {
+        return nodeId;
+    }
+
+    private static String leaseKey(long node) {
+        return NODE_LEASE_PREFIX + node;
+    }
+}
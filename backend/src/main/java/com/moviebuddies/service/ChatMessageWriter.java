@@ -0,0 +1,264 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.repository.ChatMessageBatchRepository;
+import com.moviebuddies.repository.ChatMessageBatchRepository.NewMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 쓰기 지연 저장
+ *
+ * 메시지마다 INSERT 한 번을 실행하는 대신 대기열에 넣고 바로 브로드캐스트하며,
+ * 전용 스레드가 batch-size개가 모이거나 flush-interval-ms가 지나면 JDBC 배치 INSERT로 저장
+ *
+ * 백프레셔:
+ * - 대기열(queue-capacity)이 가득 차면 enqueue-timeout-ms 동안 기다린 뒤 429 응답 (DB 지연 시 전송 속도 제한)
+ * - DB 오류 시 같은 배치를 지수 백오프로 재시도하며, 그동안 대기열이 차서 새 메시지가 제한됨
+ * - 제약 조건 위반(삭제된 채팅방 등)은 건별로 다시 저장하여 해당 메시지만 버리고,
+ *   건별 저장 중 일시적인 오류로 실패한 메시지는 다시 재시도 대상으로 남김
+ *
+ * 종료 시 새 메시지를 거부하고 대기열에 남은 메시지를 모두 저장한 뒤 종료 (최대 shutdown-timeout-ms)
+ * 프로세스가 비정상 종료되면 저장 전인 메시지(최대 flush-interval-ms 분량)는 유실될 수 있음
+ *
+ * 메트릭:
+ * - chat.message.write.queue.size: 저장 대기 메시지 수
+ * - chat.message.write.messages (outcome=persisted|dropped|rejected): 메시지 처리 결과
+ * - chat.message.write.batch.size / chat.message.write.flush: 배치 크기와 저장 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatMessageWriter {
+
+    private static final long MAX_RETRY_BACKOFF_MILLIS = 5000;
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.message.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${chat.message.write-behind.batch-size:500}")
+    private int batchSize;
+
+    @Value("${chat.message.write-behind.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    @Value("${chat.message.write-behind.enqueue-timeout-ms:200}")
+    private long enqueueTimeoutMs;
+
+    @Value("${chat.message.write-behind.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private BlockingQueue<NewMessage> queue;
+    private Thread writerThread;
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private volatile long shutdownDeadline;
+
+    private Counter persisted;
+    private Counter dropped;
+    private Counter rejected;
+    private DistributionSummary batchSizes;
+    private Timer flushTimer;
+
+    @PostConstruct
+    void init() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.message.write.queue.size", queue, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        persisted = counter("persisted");
+        dropped = counter("dropped");
+        rejected = counter("rejected");
+        batchSizes = DistributionSummary.builder("chat.message.write.batch.size")
+                .description("채팅 메시지 배치 저장 크기")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("chat.message.write.flush")
+                .description("채팅 메시지 배치 저장 시간")
+                .register(meterRegistry);
+
+        accepting = true;
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-message-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        log.info("채팅 메시지 쓰기 지연 저장 시작 - 대기열: {}, 배치 크기: {}, 저장 주기: {}ms",
+                queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 저장 대기열에 메시지 추가
+     *
+     * @param message 저장할 메시지
+     * @throws BusinessException 대기열이 가득 찼거나 종료 중인 경우 (429)
+     */
+    public void enqueue(NewMessage message) {
+        boolean queued = false;
+        if (accepting) {
+            try {
+                queued = queue.offer(message, enqueueTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!queued) {
+            rejected.increment();
+            throw BusinessException.tooManyRequests("메시지가 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * 새 메시지를 거부하고 남은 메시지를 모두 저장한 뒤 종료
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        accepting = false;
+        shutdownDeadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        running = false;
+
+        writerThread.join(shutdownTimeoutMs);
+        if (writerThread.isAlive()) {
+            writerThread.interrupt();
+            log.error("채팅 메시지 저장 종료 시간 초과 - 저장하지 못한 메시지: {}건", queue.size());
+        } else {
+            log.info("채팅 메시지 쓰기 지연 저장 종료 - 남은 메시지 없음");
+        }
+    }
+
+    private void runWriter() {
+        List<NewMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collectBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 메시지를 받은 뒤 batch-size개가 모이거나 flush-interval-ms가 지날 때까지 수집
+     */
+    private void collectBatch(List<NewMessage> batch) throws InterruptedException {
+        NewMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            NewMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 배치 저장 (DB 오류 시 성공할 때까지 재시도, 종료 중에는 종료 제한 시간까지만 재시도)
+     *
+     * 제약 조건 위반 시 건별로 다시 저장하고, 그중 일시적인 오류로 실패한 메시지만 모아 재시도
+     */
+    private void flush(List<NewMessage> batch) {
+        List<NewMessage> pending = batch;
+        boolean retry = false;
+        long backoff = flushIntervalMs;
+        while (true) {
+            String error;
+            try {
+                List<NewMessage> current = pending;
+                boolean retrying = retry;
+                flushTimer.record(() -> chatMessageBatchRepository.insertAll(current, retrying));
+                batchSizes.record(pending.size());
+                persisted.increment(pending.size());
+                return;
+            } catch (DataIntegrityViolationException e) {
+                pending = insertIndividually(pending, retry);
+                if (pending.isEmpty()) {
+                    return;
+                }
+                error = "건별 저장 중 일시적 오류";
+            } catch (Exception e) {
+                error = e.getMessage();
+            }
+
+            // 실패한 시도가 커밋되었을 수 있으므로 이후에는 이미 저장된 ID를 건너뜀
+            retry = true;
+            if (!running && System.currentTimeMillis() >= shutdownDeadline) {
+                dropped.increment(pending.size());
+                log.error("채팅 메시지 저장 실패 (종료 중, 재시도 중단) - {}건, 오류: {}", pending.size(), error);
+                return;
+            }
+            log.warn("채팅 메시지 저장 실패 ({}ms 후 재시도) - {}건, 오류: {}", backoff, pending.size(), error);
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                dropped.increment(pending.size());
+                return;
+            }
+            backoff = Math.min(backoff * 2, MAX_RETRY_BACKOFF_MILLIS);
+        }
+    }
+
+    /**
+     * 건별 저장 (제약 조건 위반 메시지만 버림)
+     *
+     * @return 일시적인 오류로 저장하지 못해 다시 시도할 메시지
+     */
+    private List<NewMessage> insertIndividually(List<NewMessage> batch, boolean retry) {
+        List<NewMessage> failed = new ArrayList<>();
+        for (NewMessage message : batch) {
+            try {
+                chatMessageBatchRepository.insertAll(List.of(message), retry);
+                persisted.increment();
+            } catch (DataIntegrityViolationException e) {
+                dropped.increment();
+                log.error("채팅 메시지 저장 불가 (버림) - 메시지 ID: {}, 방 ID: {}, 오류: {}",
+                        message.id(), message.chatRoomId(), e.getMessage());
+            } catch (Exception e) {
+                failed.add(message);
+            }
+        }
+        return failed;
+    }
+
+    private Counter counter(String outcome) {
+        return Counter.builder("chat.message.write.messages")
+                .description("채팅 메시지 쓰기 지연 저장 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
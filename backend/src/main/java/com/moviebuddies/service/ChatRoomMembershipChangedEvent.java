@@ -0,0 +1,16 @@
+package com.moviebuddies.service;
+
+import java.util.Collection;
+
+/**
+ * 채팅방 입장/퇴장 이벤트
+ * 커밋 이후 참가자 인덱스(RoomMembershipIndex) 갱신과, 해당 채팅방의 상세 정보 캐시 및
+ * 참가자 수가 바뀐 사용자들의 참여 채팅방 목록 캐시 무효화에 사용
+ *
+ * @param roomId 채팅방 ID
+ * @param userId 입장/퇴장한 사용자 ID
+ * @param joined 입장이면 true, 퇴장이면 false
+ * @param userIds 입장/퇴장한 사용자와 현재 참가자 ID 목록
+ */
+public record ChatRoomMembershipChangedEvent(Long roomId, Long userId, boolean joined, Collection<Long> userIds) {
+}
@@ -2,6 +2,7 @@ package com.moviebuddies.service;
 
 import com.moviebuddies.dto.request.ChatMessageRequest;
 import com.moviebuddies.dto.request.ChatRoomCreateRequest;
+import com.moviebuddies.dto.response.ChatMessageHistoryResponse;
 import com.moviebuddies.dto.response.ChatMessageResponse;
 import com.moviebuddies.dto.response.ChatRoomResponse;
 import com.moviebuddies.entity.ChatMessage;
@@ -9,19 +10,24 @@ import com.moviebuddies.entity.ChatRoom;
 import com.moviebuddies.entity.User;
 import com.moviebuddies.exception.BusinessException;
 import com.moviebuddies.exception.ResourceNotFoundException;
+import com.moviebuddies.repository.ChatMessageBatchRepository;
 import com.moviebuddies.repository.ChatMessageRepository;
 import com.moviebuddies.repository.ChatRoomRepository;
 import com.moviebuddies.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +48,11 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RoomMembershipIndex roomMembershipIndex;
+    private final RecentMessageBuffer recentMessageBuffer;
 
     /**
      * Redis 키 패턴: 채팅방별 활성 사용자 목록 저장
@@ -49,6 +60,11 @@ public class ChatService {
      */
     private static final String ACTIVE_USERS_KEY = "chat:active_users";
 
+    /**
+     * 키셋 기반 메시지 기록 조회 최대 페이지 크기
+     */
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     /**
      * 새로운 채팅방 생성
      * 생성자는 자동으로 해당 채팅방에 참가하게 됨
@@ -83,6 +99,7 @@ public class ChatService {
         chatRoom.joinRoom(creator);
 
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(savedRoom.getId(), userId, true, Set.of(userId)));
         log.info("채팅방 생성 완료 - 방 ID: {}", savedRoom.getId());
 
         return ChatRoomResponse.from(savedRoom);
@@ -102,7 +119,7 @@ public class ChatService {
 
         Page<ChatRoom> chatRooms = chatRoomRepository.findByIsActiveTrueOrderByCreatedAtDesc(pageable);
 
-        return chatRooms.map(ChatRoomResponse::from);
+        return chatRooms.map(this::toResponse);
     }
 
     /**
@@ -119,7 +136,7 @@ public class ChatService {
 
         List<ChatRoom> chatRooms = chatRoomRepository.findByParticipantsIdAndIsActiveTrue(userId);
         return chatRooms.stream()
-                .map(ChatRoomResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -139,13 +156,15 @@ public class ChatService {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("채팅방", roomId));
 
-        return ChatRoomResponse.from(chatRoom);
+        return toResponse(chatRoom);
     }
 
     /**
      * 채팅방 입장 처리
      * 참가자 목록에 추가하고 Redis에 활성 사용자로 등록
-     * 캐시 무효화로 실시간 참가자 수 업데이트
+     * 참가 여부/인원 확인은 참가자 인덱스로 하고, 참가자 추가는 참가자 컬렉션을 읽지 않는 단일 INSERT로 처리
+     * (동시 입장으로 인덱스가 뒤처진 경우에도 INSERT 조건이 중복 참가와 최대 인원 초과를 막음)
+     * 해당 채팅방과 참가자 캐시만 무효화하여 실시간 참가자 수 업데이트
      *
      * @param userId 입장할 사용자 ID
      * @param roomId 입장할 채팅방 ID
@@ -153,26 +172,33 @@ public class ChatService {
      * @throws BusinessException 입장 조건을 만족하지 않는 경우
      */
     @Transactional
-    @CacheEvict(value = {"chatRoomDetail", "userChatRooms"}, allEntries = true)
     public void joinRoom(Long userId, Long roomId) {
 
         log.info("채팅방 입장 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자", userId);
+        }
 
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("채팅방", roomId));
 
         // 입장 가능 여부 확인 (최대 인원 제한, 중복 참가 제한 등)
-        if (!chatRoom.joinRoom(user)) {
+        // 인덱스로 명백한 거절을 먼저 걸러내고, 최종 확인은 채팅방 행을 잠근 뒤 DB에서 수행
+        if (!chatRoom.getIsActive()
+                || roomMembershipIndex.isMember(roomId, userId)
+                || roomMembershipIndex.count(roomId) >= chatRoom.getMaxParticipants()) {
+            throw BusinessException.badRequest("채팅방에 입장할 수 없습니다.");
+        }
+
+        chatRoomRepository.lockById(roomId);
+        if (chatRoomRepository.addParticipant(roomId, userId, chatRoom.getMaxParticipants()) == 0) {
             throw BusinessException.badRequest("채팅방에 입장할 수 없습니다.");
         }
 
-        chatRoomRepository.save(chatRoom);
-        
         // Redis에 활성 사용자로 등록
         addActiveUser(roomId, userId);
+        publishMembershipChanged(roomId, userId, true);
 
         log.info("채팅방 입장 완료 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
     }
@@ -180,7 +206,8 @@ public class ChatService {
     /**
      * 채팅방 퇴장 처리
      * 참가자 목록에서 제거하고 Redis에서 활성 사용자 해제
-     * 캐시 무효화로 실시간 참가자 수 업데이트
+     * 참가 여부는 참가자 인덱스로 확인하고, 참가자 제거는 단일 DELETE로 처리
+     * 해당 채팅방과 참가자 캐시만 무효화하여 실시간 참가자 수 업데이트
      * 
      * @param userId 퇴장할 사용자 ID
      * @param roomId 퇴장할 채팅방 ID
@@ -188,75 +215,74 @@ public class ChatService {
      * @throws BusinessException 퇴장할 수 없는 경우 (참가하지 않은 채팅방)
      */
     @Transactional
-    @CacheEvict(value = {"chatRoomDetail", "userChatRooms"}, allEntries = true)
     public void leaveRoom(Long userId, Long roomId) {
 
         log.info("채팅방 퇴장 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("채팅방", roomId));
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자", userId);
+        }
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new ResourceNotFoundException("채팅방", roomId);
+        }
 
         // 퇴장 가능 여부 확인 (사용자가 기존에 참가했는지)
-        if (!chatRoom.leaveRoom(user)) {
+        if (!roomMembershipIndex.isMember(roomId, userId)
+                || chatRoomRepository.removeParticipant(roomId, userId) == 0) {
             throw BusinessException.badRequest("채팅방에 퇴장할 수 없습니다.");
         }
 
-        chatRoomRepository.save(chatRoom);
-
         // Redis에서 활성 사용자 제거
         removeActiveUser(roomId, userId);
+        publishMembershipChanged(roomId, userId, false);
 
         log.info("채팅방 퇴장 완료 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
     }
 
     /**
      * 채팅 메시지 전송 처리
-     * 참가자 권한 확인 후 메시지를 데이터베이스에 저장
-     * 실시간 WebSocket 전송은 별도 컨트롤러에서 처리
+     * 참가자 권한 확인 후 메시지 ID를 발급하고 쓰기 지연 저장 대기열에 추가 (DB 저장은 ChatMessageWriter가 일괄 처리)
+     * 참가자 권한은 참가자 인덱스로 확인하여 사용자/채팅방 조회 없이 처리 (비참가자인 경우에만 존재 여부 확인)
+     * 최근 메시지 버퍼에도 바로 추가하여 DB 저장 전에도 대화 기록 조회에 포함
+     * 실시간 WebSocket 전송은 별도 컨트롤러에서 처리하며 DB 저장을 기다리지 않음
      *
      * @param userId 메시지 발송자 ID
      * @param roomId 메시지를 보낼 채팅방 ID
      * @param request 메시지 내용
-     * @return 저장된 메시지 정보 (익명화된 형태)
+     * @return 전송된 메시지 정보 (익명화된 형태)
      * @throws ResourceNotFoundException 존재하지 않는 사용자/채팅방인 경우
-     * @throws BusinessException 메시지 전송 권한이 없는 경우 (비참가자)
+     * @throws BusinessException 메시지 전송 권한이 없는 경우 (비참가자), 저장 대기열이 가득 찬 경우 (429)
      */
-    @Transactional
     public ChatMessageResponse sendMessage(Long userId, Long roomId, ChatMessageRequest request) {
 
         log.info("메시지 전송 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
 
-        User sender = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
-
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("채팅방", roomId));
-
         // 참가자 권한 확인 (참가자만 메시지 전송 가능)
-        if (!chatRoom.isParticipant(sender)) {
-            throw BusinessException.forbidden("채팅방 참가자만 메시지를 보낼 수 있습니다.");
-        }
-
-        ChatMessage message = ChatMessage.builder()
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .content(request.getContent())
+        requireParticipant(userId, roomId, "채팅방 참가자만 메시지를 보낼 수 있습니다.");
+
+        ChatMessageBatchRepository.NewMessage message = new ChatMessageBatchRepository.NewMessage(
+                chatMessageIdGenerator.nextId(), roomId, userId, request.getContent(), LocalDateTime.now());
+        chatMessageWriter.enqueue(message);
+        recentMessageBuffer.append(roomId, new RecentMessageBuffer.RecentMessage(
+                message.id(), userId, message.content(), message.createdAt()));
+
+        log.info("메시지 전송 완료 - 메시지 ID: {}", message.id());
+
+        return ChatMessageResponse.builder()
+                .id(message.id())
+                .chatRoomId(roomId)
+                .senderDisplayName(ChatRoom.anonymousDisplayName(userId, roomId))
+                .content(message.content())
+                .createdAt(message.createdAt())
+                .isSystem(false)
                 .build();
-
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-
-        log.info("메시지 전송 완료 - 메시지 ID: {}", savedMessage.getId());
-
-        return ChatMessageResponse.from(savedMessage);
     }
 
     /**
-     * 채팅방 메시지 히스토리 조회
+     * 채팅방 메시지 히스토리 조회 (페이지 번호 방식)
      * 실시간 채팅 화면 진입 시 이전 대화 내용 로드용
      * 참가자만 조회 가능하도록 권한 확인
+     * 새 메시지가 바로 반영되도록 캐싱하지 않음 (최근 메시지는 getRecentMessages가 버퍼에서 응답)
      *
      * @param roomId 조회할 채팅방 ID
      * @param pageable 페이징 정보 (최근 50개)
@@ -264,25 +290,96 @@ public class ChatService {
      * @throws ResourceNotFoundException 존재하지 않는 채팅방인 경우
      * @throws BusinessException 메시지 조회 권한이 없는 경우 (비참가자)
      */
-    @Cacheable(value = "chatMessages", key = "#userId + '_' + #roomId + '_' + #pageable.pageNumber + '_' + #pageable.pageSize")
     public Page<ChatMessageResponse> getChatMessages(Long userId, Long roomId, Pageable pageable) {
 
         log.info("채팅방 메시지 조회 - 사용자 ID: {}, 방 ID: {}", userId, roomId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+        // 참가자 권한 확인 (참가자만 메시지 조회 가능)
+        requireParticipant(userId, roomId, "채팅방 참가자만 대화 기록을 조회할 수 있습니다.");
 
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ResourceNotFoundException("채팅방", roomId));
+        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(roomId, pageable);
 
-        // 참가자 권한 확인 (참가자만 메시지 조회 가능)
-        if (!chatRoom.isParticipant(user)) {
-            throw BusinessException.forbidden("채팅방 참가자만 대화 기록을 조회할 수 있습니다.");
+        // 발송자 ID만 사용하여 발송자/채팅방 참가자 목록을 읽지 않음 (퇴장한 발송자는 기존과 같이 "Unknown")
+        return messages.map(message ->
+                ChatMessageResponse.from(message, senderDisplayName(roomId, message.getSender().getId())));
+    }
+
+    /**
+     * 채팅방 메시지 기록 조회 (키셋 방식)
+     * 커서(또는 기준 메시지 before) 이전의 메시지를 최신순으로 조회하며, 둘 다 생략하면 가장 최근 메시지부터 조회
+     * 최근 메시지 버퍼 범위 안이면 DB 조회 없이 응답하고, 버퍼보다 오래된 부분만 DB에서
+     * (생성일, ID) 키셋으로 조회 (idx_chat_room_created 인덱스 범위 스캔, OFFSET 없음)
+     *
+     * @param userId 조회하는 사용자 ID
+     * @param roomId 조회할 채팅방 ID
+     * @param before 기준 메시지 ID (첫 페이지는 null, cursor가 있으면 무시)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 - 100)
+     * @return 메시지 목록과 이전 메시지 조회용 커서
+     * @throws ResourceNotFoundException 존재하지 않는 사용자/채팅방인 경우
+     * @throws BusinessException 메시지 조회 권한이 없는 경우 (비참가자), 커서가 유효하지 않은 경우,
+     *                           기준 메시지를 찾을 수 없는 경우 (보관/삭제되었거나 아직 저장 전)
+     */
+    public ChatMessageHistoryResponse getRecentMessages(Long userId, Long roomId, Long before, String cursor, int size) {
+
+        log.info("채팅방 최근 메시지 조회 - 사용자 ID: {}, 방 ID: {}, 기준 메시지: {}, 커서 존재: {}",
+                userId, roomId, before, cursor != null);
+
+        requireParticipant(userId, roomId, "채팅방 참가자만 대화 기록을 조회할 수 있습니다.");
+
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        ChatMessageCursor after = (cursor != null && !cursor.isBlank()) ? ChatMessageCursor.decode(cursor) : null;
+        Long beforeId = after != null ? after.getId() : before;
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<RecentMessageBuffer.RecentMessage> messages = new ArrayList<>(pageSize + 1);
+        RecentMessageBuffer.Window window = recentMessageBuffer.read(roomId, beforeId, pageSize + 1);
+        boolean needsDatabase = window == null;
+        if (window != null) {
+            messages.addAll(window.messages());
+            needsDatabase = messages.size() <= pageSize && window.truncated();
         }
 
-        Page<ChatMessage> messages = chatMessageRepository.findByChatRoomIdOrderByCreatedAtDesc(roomId, pageable);
+        if (needsDatabase) {
+            // 버퍼에서 일부를 읽었으면 그 마지막 메시지부터 이어서 조회
+            ChatMessageCursor from = messages.isEmpty() ? after : ChatMessageCursor.of(messages.get(messages.size() - 1));
+            int remaining = pageSize + 1 - messages.size();
+            List<ChatMessage> older;
+            if (from != null) {
+                older = chatMessageRepository.findBeforeCursor(roomId, from.getCreatedAt(), from.getId(), remaining);
+            } else if (beforeId != null) {
+                // 기준 메시지가 보관/삭제되었거나 아직 저장 전이면 이전 메시지가 없는 것처럼 끝나지 않도록 400
+                LocalDateTime anchorCreatedAt = chatMessageRepository.findCreatedAtInRoom(roomId, beforeId)
+                        .orElseThrow(() -> BusinessException.badRequest(
+                                "기준 메시지를 찾을 수 없습니다. 응답의 nextCursor로 조회해주세요."));
+                older = chatMessageRepository.findBeforeCursor(roomId, anchorCreatedAt, beforeId, remaining);
+            } else {
+                older = chatMessageRepository.findLatestByRoomId(roomId, remaining);
+            }
+            older.forEach(message -> messages.add(RecentMessageBuffer.RecentMessage.from(message)));
+        }
+        recentMessageBuffer.countRead(!needsDatabase);
+
+        boolean hasNext = messages.size() > pageSize;
+        List<ChatMessageResponse> content = messages.stream()
+                .limit(pageSize)
+                .map(message -> ChatMessageResponse.builder()
+                        .id(message.id())
+                        .chatRoomId(roomId)
+                        .senderDisplayName(senderDisplayName(roomId, message.senderId()))
+                        .content(message.content())
+                        .createdAt(message.createdAt())
+                        .isSystem(false)
+                        .build())
+                .collect(Collectors.toList());
 
-        return messages.map(ChatMessageResponse::from);
+        return ChatMessageHistoryResponse.builder()
+                .content(content)
+                .nextBefore(hasNext ? content.get(content.size() - 1).getId() : null)
+                .nextCursor(hasNext ? ChatMessageCursor.of(messages.get(pageSize - 1)).encode() : null)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
     }
 
     /**
@@ -329,4 +426,79 @@ public class ChatService {
 
         redisTemplate.opsForSet().remove(key, userId);
     }
+
+    /**
+     * 채팅방 응답 생성
+     * 참가자 수와 생성자 참가 여부를 참가자 인덱스에서 읽어 참가자 컬렉션을 로딩하지 않음
+     *
+     * @param chatRoom 변환할 채팅방
+     * @return 익명화된 채팅방 응답
+     */
+    private ChatRoomResponse toResponse(ChatRoom chatRoom) {
+
+        Long roomId = chatRoom.getId();
+        Long creatorId = chatRoom.getCreatedBy() != null ? chatRoom.getCreatedBy().getId() : null;
+        String createdByDisplayName = roomMembershipIndex.isMember(roomId, creatorId)
+                ? ChatRoom.anonymousDisplayName(creatorId, roomId)
+                : "Unknown";
+
+        return ChatRoomResponse.from(chatRoom, roomMembershipIndex.count(roomId), createdByDisplayName);
+    }
+
+    /**
+     * 메시지 발송자 익명 표시명
+     * 현재 참가자가 아니면 "Unknown" (ChatRoom.getAnonymousDisplayName과 동일한 규칙)
+     *
+     * @param roomId 채팅방 ID
+     * @param senderId 발송자 ID
+     * @return 익명 표시명
+     */
+    private String senderDisplayName(Long roomId, Long senderId) {
+
+        return roomMembershipIndex.isMember(roomId, senderId)
+                ? ChatRoom.anonymousDisplayName(senderId, roomId)
+                : "Unknown";
+    }
+
+    /**
+     * 참가자 권한 확인
+     * 참가자 인덱스에 없을 때만 사용자/채팅방 존재 여부를 확인하여 404와 403을 구분
+     *
+     * @param userId 사용자 ID
+     * @param roomId 채팅방 ID
+     * @param message 비참가자인 경우 오류 메시지
+     * @throws ResourceNotFoundException 존재하지 않는 사용자/채팅방인 경우
+     * @throws BusinessException 비참가자인 경우
+     */
+    private void requireParticipant(Long userId, Long roomId, String message) {
+
+        if (roomMembershipIndex.isMember(roomId, userId)) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("사용자", userId);
+        }
+        if (!chatRoomRepository.existsById(roomId)) {
+            throw new ResourceNotFoundException("채팅방", roomId);
+        }
+        throw BusinessException.forbidden(message);
+    }
+
+    /**
+     * 채팅방 참가자 변경 이벤트 발행
+     * 커밋 이후 참가자 인덱스를 갱신하고, 해당 채팅방 상세 정보와 참가자 수가 바뀐 사용자들의 참여 채팅방 목록 캐시만 무효화
+     *
+     * @param roomId 참가자가 변경된 채팅방 ID
+     * @param userId 입장/퇴장한 사용자 ID
+     * @param joined 입장이면 true
+     */
+    private void publishMembershipChanged(Long roomId, Long userId, boolean joined) {
+
+        Set<Long> userIds = Arrays.stream(roomMembershipIndex.members(roomId))
+                .boxed()
+                .collect(Collectors.toCollection(HashSet::new));
+        userIds.add(userId);
+
+        eventPublisher.publishEvent(new ChatRoomMembershipChangedEvent(roomId, userId, joined, userIds));
+    }
 }
@@ -0,0 +1,129 @@
+package com.moviebuddies.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 자동완성 검색어 정규화 유틸리티
+ *
+ * 완성형 한글 음절을 호환 자모 시퀀스로 분해하여 입력 중인 글자("어벤ㅈ", "어벤졋")도 접두 일치하도록 하고,
+ * 초성 문자열("ㅇㅂㅈㅅ")을 생성하여 초성 검색을 지원
+ * 겹받침(ㄺ)과 이중모음(ㅘ)은 입력 순서대로 두 자모로 분해하여 타이핑 도중의 상태와 일치시킴
+ */
+final class HangulNormalizer {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final String[] JUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulNormalizer() {
+    }
+
+    /**
+     * 문자열을 검색용 단어 목록으로 분리
+     * NFC 정규화 및 소문자 변환 후 문자/숫자가 아닌 문자를 구분자로 사용
+     *
+     * @param text 원본 문자열
+     * @return 정규화된 단어 목록
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (!current.isEmpty()) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * 검색어 정규화 (공백/기호 제거 후 자모 분해)
+     *
+     * @param text 사용자 입력 검색어
+     * @return 자모 분해된 검색 키
+     */
+    static String normalizeQuery(String text) {
+        return decompose(String.join("", words(text)));
+    }
+
+    /**
+     * 완성형 한글 음절을 호환 자모 시퀀스로 분해
+     * 한글 음절이 아닌 문자는 그대로 유지
+     *
+     * @param text 정규화된 문자열
+     * @return 자모 분해된 문자열
+     */
+    static String decompose(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                int offset = c - SYLLABLE_BASE;
+                sb.append(CHO[offset / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(offset % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[offset % JONG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성 문자열 생성
+     * 한글 음절은 초성으로, 그 외 문자는 그대로 유지
+     *
+     * @param text 정규화된 문자열
+     * @return 초성 문자열, 한글 음절이 없으면 null
+     */
+    static String chosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean hasSyllable = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isSyllable(c)) {
+                sb.append(CHO[(c - SYLLABLE_BASE) / (JUNG_COUNT * JONG_COUNT)]);
+                hasSyllable = true;
+            } else {
+                sb.append(c);
+            }
+        }
+        return hasSyllable ? sb.toString() : null;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+}
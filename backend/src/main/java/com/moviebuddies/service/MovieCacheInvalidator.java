@@ -0,0 +1,65 @@
+package com.moviebuddies.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+
+/**
+ * 영화 상세 정보 캐시 무효화
+ *
+ * 영화 상세 정보(movieDetail)는 영화 ID별로 캐싱되며, 내용이 바뀌는 도메인 이벤트를 받아 해당 영화의 항목만 제거
+ * (전체 삭제 시 한 사용자의 북마크 하나로 모든 영화의 캐시가 비워지는 문제 방지)
+ *
+ * - 리뷰 작성/수정/삭제: 리뷰 수, 평균 평점 변경
+ * - 북마크 추가/삭제: 북마크 수 변경
+ * - TMDB 동기화: 저장된 영화의 기본 정보, 장르, 출연진 변경
+ *
+ * 모든 무효화는 트랜잭션 커밋 이후 실행되어 롤백된 변경으로 캐시가 비워지거나,
+ * 커밋 전 이전 값이 다시 캐싱되는 일을 방지
+ * 2단계 캐시를 사용하는 경우 다른 노드의 L1 항목도 함께 제거됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MovieCacheInvalidator {
+
+    static final String MOVIE_DETAIL_CACHE = "movieDetail";
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        evictMovieDetail(event.movieId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        evictMovieDetail(event.movieId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMoviesSynced(MoviesSyncedEvent event) {
+        evictMovieDetails(event.movieIds());
+    }
+
+    private void evictMovieDetail(Long movieId) {
+        Cache cache = cacheManager.getCache(MOVIE_DETAIL_CACHE);
+        if (cache != null && movieId != null) {
+            cache.evict(movieId);
+        }
+    }
+
+    private void evictMovieDetails(Collection<Long> movieIds) {
+        Cache cache = cacheManager.getCache(MOVIE_DETAIL_CACHE);
+        if (cache == null) {
+            return;
+        }
+        movieIds.forEach(cache::evict);
+        log.debug("영화 상세 정보 캐시 무효화 - {}건", movieIds.size());
+    }
+}
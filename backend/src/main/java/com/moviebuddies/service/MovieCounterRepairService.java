@@ -0,0 +1,51 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.repository.MovieRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 영화 집계 컬럼 보정 서비스
+ *
+ * 리뷰/북마크 작성 시 원자적 UPDATE로 유지되는 review_count, rating_sum, bookmark_count가
+ * 수동 데이터 수정이나 컬럼 추가 이전 데이터 등으로 실제 값과 어긋난 경우를 일괄 재계산하여 보정
+ * 매일 새벽 스케줄로 실행되며, 관리자 API로 즉시 실행 가능
+ * 컬럼이 없는 기존 데이터베이스의 컬럼 추가와 최초 1회 값 채우기는 기동 시 db/movie-counter-columns.sql에서 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MovieCounterRepairService {
+
+    private final MovieRepository movieRepository;
+
+    /**
+     * 집계 컬럼 일괄 보정 (정기 실행)
+     * 내부 호출은 프록시를 거치지 않으므로 이 메서드에서 트랜잭션 시작
+     */
+    @Scheduled(cron = "${movie.counter-repair.cron:0 30 4 * * *}")
+    @Transactional
+    public void scheduledRepair() {
+        repairCounters();
+    }
+
+    /**
+     * 전체 영화의 리뷰 수, 평점 합계, 북마크 수를 실제 데이터 기준으로 재계산
+     *
+     * @return 보정된 영화 수
+     */
+    @Transactional
+    public int repairCounters() {
+        long start = System.currentTimeMillis();
+
+        int repaired = movieRepository.repairCounters();
+
+        log.info("영화 집계 컬럼 보정 완료 - 보정된 영화 수: {}, 소요 시간: {}ms",
+                repaired, System.currentTimeMillis() - start);
+
+        return repaired;
+    }
+}
@@ -0,0 +1,150 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.exception.BusinessException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 영화 목록 커서(키셋) 페이지네이션용 커서
+ * 정렬 기준, 마지막 영화의 정렬 값, 동점 처리를 위한 영화 ID를 하나의 불투명한 문자열로 인코딩
+ *
+ * 인코딩 형식: Base64URL("정렬기준|영화ID|정렬값")
+ * 정렬값은 제목처럼 구분자를 포함할 수 있으므로 항상 마지막에 위치
+ * 제목 외의 정렬 값이 없는 영화(개봉일, 런타임 미수집 등)는 빈 문자열로 인코딩하여 값 없는 구간임을 표시
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+class MovieCursor {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 발급한 정렬 기준 (popularity, title, release_date, vote_average, vote_count, runtime)
+     */
+    private final String sortBy;
+
+    /**
+     * 직전 페이지 마지막 영화의 ID
+     */
+    private final Long id;
+
+    /**
+     * 직전 페이지 마지막 영화의 정렬 값 (문자열 형태, 값이 없는 경우 빈 문자열)
+     */
+    private final String value;
+
+    /**
+     * 페이지의 마지막 영화로부터 다음 페이지용 커서 생성
+     *
+     * @param sortBy 정규화된 정렬 기준
+     * @param movie 페이지의 마지막 영화
+     * @return 다음 페이지 커서
+     */
+    static MovieCursor of(String sortBy, Movie movie) {
+        String value = switch (sortBy) {
+            case "title" -> movie.getTitle();
+            case "release_date" -> toCursorValue(movie.getReleaseDate());
+            case "vote_average" -> toCursorValue(movie.getVoteAverage());
+            case "vote_count" -> toCursorValue(movie.getVoteCount());
+            case "runtime" -> toCursorValue(movie.getRuntime());
+            default -> toCursorValue(movie.getPopularity());
+        };
+        return new MovieCursor(sortBy, movie.getId(), value);
+    }
+
+    /**
+     * 클라이언트가 전달한 커서 문자열 해석
+     * 형식이 잘못되었거나 정렬 값이 정렬 기준의 타입과 맞지 않으면 400 예외 발생
+     *
+     * @param encoded Base64URL로 인코딩된 커서
+     * @return 해석된 커서
+     * @throws BusinessException 유효하지 않은 커서인 경우
+     */
+    static MovieCursor decode(String encoded) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw BusinessException.badRequest("유효하지 않은 커서입니다.");
+            }
+
+            MovieCursor cursor = new MovieCursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+            cursor.validateValue();
+            return cursor;
+
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw BusinessException.badRequest("유효하지 않은 커서입니다.");
+        }
+    }
+
+    /**
+     * 커서를 URL에 안전한 문자열로 인코딩
+     *
+     * @return Base64URL 인코딩된 커서
+     */
+    String encode() {
+        String raw = sortBy + DELIMITER + id + DELIMITER + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 정렬 값이 없는 구간의 커서인지 확인 (제목순에는 해당 없음)
+     *
+     * @return 마지막 영화의 정렬 값이 없었던 경우 true
+     */
+    boolean isNullValue() {
+        return !"title".equals(sortBy) && value.isEmpty();
+    }
+
+    Double getDoubleValue() {
+        return Double.valueOf(value);
+    }
+
+    Integer getIntegerValue() {
+        return Integer.valueOf(value);
+    }
+
+    LocalDate getDateValue() {
+        return LocalDate.parse(value);
+    }
+
+    /**
+     * 정렬 값을 커서 문자열로 변환 (값이 없으면 빈 문자열)
+     */
+    private static String toCursorValue(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * 정렬 값이 정렬 기준에 맞는 타입으로 해석되는지 미리 확인
+     * 해석에 실패하면 NumberFormatException(IllegalArgumentException) 또는 DateTimeParseException 발생
+     */
+    private void validateValue() {
+        switch (sortBy) {
+            case "popularity", "vote_average" -> {
+                if (!isNullValue()) {
+                    getDoubleValue();
+                }
+            }
+            case "vote_count", "runtime" -> {
+                if (!isNullValue()) {
+                    getIntegerValue();
+                }
+            }
+            case "release_date" -> {
+                if (!isNullValue()) {
+                    getDateValue();
+                }
+            }
+            case "title" -> { }
+            default -> throw BusinessException.badRequest("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.moviebuddies.service;
 
 import com.moviebuddies.dto.request.MovieFilterRequest;
 import com.moviebuddies.dto.request.MovieSearchRequest;
+import com.moviebuddies.dto.response.GenreResponse;
 import com.moviebuddies.dto.response.MovieAutocompleteResponse;
+import com.moviebuddies.dto.response.MovieCursorPageResponse;
 import com.moviebuddies.dto.response.MovieListResponse;
 import com.moviebuddies.dto.response.MovieResponse;
 import com.moviebuddies.entity.Actor;
 import com.moviebuddies.entity.Genre;
 import com.moviebuddies.entity.Movie;
+import com.moviebuddies.exception.BusinessException;
 import com.moviebuddies.exception.ResourceNotFoundException;
 import com.moviebuddies.repository.ActorRepository;
 import com.moviebuddies.repository.GenreRepository;
@@ -23,7 +26,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,6 +42,12 @@ public class MovieService {
     private final MovieRepository movieRepository;
     private final GenreRepository genreRepository;
     private final ActorRepository actorRepository;
+    private final AutocompleteIndexService autocompleteIndexService;
+
+    /**
+     * 커서 기반 목록 조회 시 허용하는 최대 페이지 크기
+     */
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     /**
      * 영화 목록 조회 
@@ -46,7 +59,7 @@ public class MovieService {
      * @param sortBy 정렬 기준 (popularity, title, release_date, vote_average, vote_count, runtime)
      * @return 정렬된 영화 목록 (List 형태로 캐싱됨)
      */
-    @Cacheable(value = "movies", key = "#pageable.pageNumber + '_' + #pageable.pageSize + '_' + #sortBy")
+    @Cacheable(value = "movies", key = "#pageable.pageNumber + '_' + #pageable.pageSize + '_' + #sortBy", sync = true)
     public List<MovieListResponse> getMovieList(Pageable pageable, String sortBy) {
 
         // 정렬된 Pageable 생성
@@ -62,9 +75,7 @@ public class MovieService {
             default -> movieRepository.findAllByOrderByPopularityDesc(sortedPageable);
         };
 
-        return moviePage.getContent().stream()
-                .map(MovieListResponse::from)
-                .collect(Collectors.toList());
+        return toListResponses(moviePage.getContent());
     }
 
     public Page<MovieListResponse> getMovies(Pageable pageable, String sortBy) {
@@ -74,15 +85,151 @@ public class MovieService {
         return new PageImpl<>(movies, pageable, total);
     }
 
+    /**
+     * 커서 기반 영화 목록 조회 (무한 스크롤용)
+     * OFFSET 대신 직전 페이지 마지막 영화의 (정렬 값, ID)를 기준으로 다음 페이지를 조회하므로
+     * 페이지 깊이와 관계없이 일정한 비용으로 조회 가능
+     * 전체 개수 조회(count)는 includeTotal이 true인 경우에만 수행
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1 - 100)
+     * @param sortBy 정렬 기준 (popularity, title, release_date, vote_average, vote_count, runtime)
+     * @param includeTotal 전체 영화 수 포함 여부
+     * @return 영화 목록과 다음 페이지 커서
+     * @throws BusinessException 커서가 유효하지 않거나 정렬 기준과 일치하지 않는 경우
+     */
+    public MovieCursorPageResponse getMoviesByCursor(String cursor, int size, String sortBy, boolean includeTotal) {
+        String sortKey = normalizeSortKey(sortBy);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        MovieCursor after = (cursor != null && !cursor.isBlank()) ? MovieCursor.decode(cursor) : null;
+        if (after != null && !after.getSortBy().equals(sortKey)) {
+            throw BusinessException.badRequest("커서의 정렬 기준이 요청한 정렬 기준과 일치하지 않습니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<Movie> movies = findMoviesAfterCursor(sortKey, after, PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = movies.size() > pageSize;
+        if (hasNext) {
+            movies = movies.subList(0, pageSize);
+        }
+
+        String nextCursor = hasNext ? MovieCursor.of(sortKey, movies.get(movies.size() - 1)).encode() : null;
+
+        return MovieCursorPageResponse.builder()
+                .content(toListResponses(movies))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .totalElements(includeTotal ? movieRepository.count() : null)
+                .build();
+    }
+
+    /**
+     * 정렬 기준에 따른 키셋 쿼리 선택
+     *
+     * @param sortKey 정규화된 정렬 기준
+     * @param after 직전 페이지 커서 (첫 페이지는 null)
+     * @param limit 조회 개수 제한
+     * @return 커서 이후의 영화 목록
+     */
+    private List<Movie> findMoviesAfterCursor(String sortKey, MovieCursor after, Pageable limit) {
+        return switch (sortKey) {
+            case "title" -> after == null
+                    ? movieRepository.findByTitleKeyset(limit)
+                    : movieRepository.findByTitleKeysetAfter(after.getValue(), after.getId(), limit);
+            case "release_date" -> {
+                if (after != null && after.isNullValue()) {
+                    yield movieRepository.findByReleaseDateKeysetAfterUndated(after.getId(), limit);
+                }
+                List<Movie> dated = after == null
+                        ? movieRepository.findByReleaseDateKeyset(limit)
+                        : movieRepository.findByReleaseDateKeysetAfter(after.getDateValue(), after.getId(), limit);
+                yield withNullTail(dated, limit, movieRepository::findByReleaseDateKeysetUndated);
+            }
+            case "vote_average" -> {
+                if (after != null && after.isNullValue()) {
+                    yield movieRepository.findByVoteAverageKeysetAfterNull(after.getId(), limit);
+                }
+                List<Movie> rated = after == null
+                        ? movieRepository.findByVoteAverageKeyset(limit)
+                        : movieRepository.findByVoteAverageKeysetAfter(after.getDoubleValue(), after.getId(), limit);
+                yield withNullTail(rated, limit, movieRepository::findByVoteAverageKeysetNull);
+            }
+            case "vote_count" -> {
+                if (after != null && after.isNullValue()) {
+                    yield movieRepository.findByVoteCountKeysetAfterNull(after.getId(), limit);
+                }
+                List<Movie> counted = after == null
+                        ? movieRepository.findByVoteCountKeyset(limit)
+                        : movieRepository.findByVoteCountKeysetAfter(after.getIntegerValue(), after.getId(), limit);
+                yield withNullTail(counted, limit, movieRepository::findByVoteCountKeysetNull);
+            }
+            case "runtime" -> {
+                if (after != null && after.isNullValue()) {
+                    yield movieRepository.findByRuntimeKeysetAfterNull(after.getId(), limit);
+                }
+                List<Movie> timed = after == null
+                        ? movieRepository.findByRuntimeKeyset(limit)
+                        : movieRepository.findByRuntimeKeysetAfter(after.getIntegerValue(), after.getId(), limit);
+                yield withNullTail(timed, limit, movieRepository::findByRuntimeKeysetNull);
+            }
+            default -> {
+                if (after != null && after.isNullValue()) {
+                    yield movieRepository.findByPopularityKeysetAfterNull(after.getId(), limit);
+                }
+                List<Movie> popular = after == null
+                        ? movieRepository.findByPopularityKeyset(limit)
+                        : movieRepository.findByPopularityKeysetAfter(after.getDoubleValue(), after.getId(), limit);
+                yield withNullTail(popular, limit, movieRepository::findByPopularityKeysetNull);
+            }
+        };
+    }
+
+    /**
+     * 정렬 값이 있는 구간을 모두 읽어 요청 크기보다 적게 조회된 경우 값 없는 구간의 처음부터 남은 개수만큼 이어서 조회
+     *
+     * @param valued 정렬 값이 있는 구간 조회 결과
+     * @param limit 조회 개수 제한
+     * @param nullTail 값 없는 구간 첫 조회 쿼리
+     * @return 값 있는 영화 뒤에 값 없는 영화를 이어 붙인 목록
+     */
+    private List<Movie> withNullTail(List<Movie> valued, Pageable limit, Function<Pageable, List<Movie>> nullTail) {
+        int remaining = limit.getPageSize() - valued.size();
+        if (remaining <= 0) {
+            return valued;
+        }
+        List<Movie> movies = new ArrayList<>(valued);
+        movies.addAll(nullTail.apply(PageRequest.of(0, remaining)));
+        return movies;
+    }
+
+    /**
+     * 정렬 기준 문자열 정규화
+     * 지원하지 않는 정렬 기준은 인기도순으로 처리 (createSortedPageable과 동일한 규칙)
+     *
+     * @param sortBy 요청된 정렬 기준
+     * @return 정규화된 정렬 기준
+     */
+    private String normalizeSortKey(String sortBy) {
+        String key = sortBy != null ? sortBy.toLowerCase() : "popularity";
+        return switch (key) {
+            case "title", "release_date", "vote_average", "vote_count", "runtime" -> key;
+            default -> "popularity";
+        };
+    }
+
     /**
      * 영화 상세 정보 조회
      * 장르, 출연진, 리뷰 통계 등 모든 상세 정보 포함
+     * 영화 ID별로 캐싱하며, 리뷰/북마크/TMDB 동기화 커밋 후 해당 영화의 항목만 무효화 (MovieCacheInvalidator)
      *
      * @param movieId 조회할 영화 ID
      * @return 영화 상세 정보
      * @throws ResourceNotFoundException 영화를 찾을 수 없는 경우
      */
-//    @Cacheable(value = "movieDetail", key = "#movieId")
+    @Cacheable(value = "movieDetail", key = "#movieId", sync = true)
     public MovieResponse getMovieDetail(Long movieId) {
         log.info("영화 상세 정보 조회 - ID: {}", movieId);
 
@@ -98,14 +245,12 @@ public class MovieService {
      *
      * @return 현재 상영중인 인기 영화 5편
      */
-    @Cacheable(value = "nowPlayingTop5")
+    @Cacheable(value = "nowPlayingTop5", sync = true)
     public List<MovieListResponse> getNowPlayingTop5() {
         log.info("현재 상영중인 영화 TOP 5 조회");
 
         List<Movie> movies = movieRepository.findTop5ByIsNowPlayingTrueOrderByPopularityDesc();
-        return movies.stream()
-                .map(MovieListResponse::from)
-                .collect(Collectors.toList());
+        return toListResponses(movies);
     }
 
     /**
@@ -115,7 +260,7 @@ public class MovieService {
      * @return 해당 장르의 인기 영화 5편
      * @throws ResourceNotFoundException 장르를 찾을 수 없는 경우
      */
-    @Cacheable(value = "genreTop5", key = "#genreId")
+    @Cacheable(value = "genreTop5", key = "#genreId", sync = true)
     public List<MovieListResponse> getGenreTop5(Long genreId) {
         log.info("장르별 인기 영화 TOP 5 조회 - 장르 ID: {}", genreId);
 
@@ -126,29 +271,48 @@ public class MovieService {
         Pageable top5 = PageRequest.of(0, 5);
         List<Movie> movies = movieRepository.findTop5ByGenreIdOrderByPopularityDesc(genreId, top5);
 
-        return movies.stream()
-                .map(MovieListResponse::from)
-                .collect(Collectors.toList());
+        return toListResponses(movies);
     }
 
     /**
      * 영화 검색 (네비게이션 검색용)
      * 키워드를 기반으로 영화 제목이나 배우 이름에서 검색
+     * 정렬 기준이 relevance(기본값)이면 트라이그램/전문 검색 인덱스 기반 관련도 검색을 사용하고,
+     * 그 외 정렬 기준은 해당 컬럼 순으로 정렬
      *
      * @param searchRequest 검색 키워드와 검색 타입을 담은 요청 객체
      * @param pageable 페이징 정보
+     * @param sortBy 정렬 기준 (relevance, popularity, title, release_date, vote_average, vote_count, runtime)
      * @return 검색 결과 영화 목록
      */
-    public Page<MovieListResponse> searchMovies(MovieSearchRequest searchRequest, Pageable pageable) {
-        log.info("영화 검색 - 키워드: {}, 타입: {}", searchRequest.getKeyword(), searchRequest.getSearchType());
+    public Page<MovieListResponse> searchMovies(MovieSearchRequest searchRequest, Pageable pageable, String sortBy) {
+        log.info("영화 검색 - 키워드: {}, 타입: {}, 정렬: {}", searchRequest.getKeyword(), searchRequest.getSearchType(), sortBy);
+
+        String keyword = searchRequest.getKeyword().trim();
+
+        if (sortBy == null || sortBy.equalsIgnoreCase("relevance")) {
+            // 관련도 점수로 정렬하므로 요청 정렬은 제거
+            Pageable unsorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            String compact = MovieRepository.escapeLike(keyword.toLowerCase().replaceAll("\\s+", ""));
+
+            Page<Movie> movies = switch (searchRequest.getSearchType().toLowerCase()) {
+                case "title" -> movieRepository.searchRankedByTitle(keyword, compact, unsorted);
+                case "actor" -> movieRepository.searchRankedByActor(keyword, compact, unsorted);
+                default -> movieRepository.searchRanked(keyword, compact, unsorted);
+            };
+            return toListResponsePage(movies);
+        }
+
+        Pageable sortedPageable = createSortedPageable(pageable, sortBy);
+        String pattern = MovieRepository.escapeLike(keyword);
 
         Page<Movie> movies = switch (searchRequest.getSearchType().toLowerCase()) {
-            case "title" -> movieRepository.searchByTitle(searchRequest.getKeyword(), pageable);
-            case "actor" -> movieRepository.searchByActor(searchRequest.getKeyword(), pageable);
-            default -> movieRepository.searchByTitleAndActor(searchRequest.getKeyword(), pageable);
+            case "title" -> movieRepository.searchByTitle(pattern, sortedPageable);
+            case "actor" -> movieRepository.searchByActor(pattern, sortedPageable);
+            default -> movieRepository.searchByTitleAndActor(pattern, sortedPageable);
         };
 
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -168,7 +332,7 @@ public class MovieService {
                 .orElseThrow(() -> new ResourceNotFoundException("장르", genreId));
 
         Page<Movie> movies = movieRepository.findByGenreId(genreId, pageable);
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -187,7 +351,7 @@ public class MovieService {
                 .orElseThrow(() -> new ResourceNotFoundException("배우", actorId));
 
         Page<Movie> movies = movieRepository.findByActorId(actorId, pageable);
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -198,7 +362,7 @@ public class MovieService {
      * @return 추천 영화 목록 (최대 10편)
      * @throws ResourceNotFoundException 기준 영화를 찾을 수 없는 경우
      */
-    @Cacheable(value = "recommendedMovies", key = "#movieId")
+    @Cacheable(value = "recommendedMovies", key = "#movieId", sync = true)
     public List<MovieListResponse> getRecommendedMovies(Long movieId) {
         log.info("영화 추천 조회 - 기준 영화 ID: {}", movieId);
 
@@ -217,9 +381,7 @@ public class MovieService {
         PageRequest top10 = PageRequest.of(0, 10);
         List<Movie> recommendedMovies = movieRepository.findRecommendedMoviesByGenres(genreIds, movieId, top10);
 
-        return recommendedMovies.stream()
-                .map(MovieListResponse::from)
-                .collect(Collectors.toList());
+        return toListResponses(recommendedMovies);
     }
 
     /**
@@ -233,7 +395,7 @@ public class MovieService {
         log.info("연도별 영화 조회 - 연도: {}", year);
 
         Page<Movie> movies = movieRepository.findByReleaseYear(year, pageable);
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -248,7 +410,7 @@ public class MovieService {
         log.info("평점 범위 영화 조회 - 범위: {}분 ~ {}분", minRating, maxRating);
 
         Page<Movie> movies = movieRepository.findByVoteAverageBetween(minRating, maxRating, pageable);
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -263,7 +425,7 @@ public class MovieService {
         log.info("런타임 범위 영화 조회 - 범위: {}분 ~ {}분", minRuntime, maxRuntime);
 
         Page<Movie> movies = movieRepository.findByRuntimeBetween(minRuntime, maxRuntime, pageable);
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
@@ -309,22 +471,36 @@ public class MovieService {
                 pageable
         );
 
-        return movies.map(MovieListResponse::from);
+        return toListResponsePage(movies);
     }
 
     /**
      * 검색어 자동완성 제안
      * 사용자가 입력한 키워드를 포함하는 영화와 배우를 각각 최대 5개씩 제안
      * 인기도 순으로 정렬하여 가장 관련성 높은 결과를 우선 표시
+     * 메모리 내 접두 검색 인덱스를 사용하며 초성 검색("ㅇㅂㅈㅅ")과 입력 중인 글자("어벤ㅈ")도 지원
      *
      * @param keyword 자동완성할 검색 키워드
      * @return 추천 영화와 배우 목록이 포함된 자동완성 응답
      */
     public MovieAutocompleteResponse getAutocomplete(String keyword) {
+        // 메모리 인덱스가 준비되어 있으면 데이터베이스 조회 없이 처리
+        return autocompleteIndexService.suggest(keyword, 5)
+                .orElseGet(() -> getAutocompleteFromDatabase(keyword));
+    }
+
+    /**
+     * 데이터베이스 기반 자동완성 (인덱스 구축 전 대체 경로)
+     *
+     * @param keyword 자동완성할 검색 키워드
+     * @return 추천 영화와 배우 목록이 포함된 자동완성 응답
+     */
+    private MovieAutocompleteResponse getAutocompleteFromDatabase(String keyword) {
         Pageable top5 = PageRequest.of(0, 5);
+        String pattern = MovieRepository.escapeLike(keyword);
 
-        List<Movie> movies = movieRepository.findTop5ByTitleContainingIgnoreCase(keyword, top5);
-        List<Actor> actors = actorRepository.findTop5ByNameContainingIgnoreCase(keyword, top5);
+        List<Movie> movies = movieRepository.findTop5ByTitleContainingIgnoreCase(pattern, top5);
+        List<Actor> actors = actorRepository.findTop5ByNameContainingIgnoreCase(pattern, top5);
 
         List<MovieAutocompleteResponse.MovieSuggestion> movieSuggestions = movies.stream()
                 .map(movie -> MovieAutocompleteResponse.MovieSuggestion.builder()
@@ -348,4 +524,43 @@ public class MovieService {
                 .actors(actorSuggestions)
                 .build();
     }
+
+    /**
+     * 영화 엔티티 목록을 목록 응답 DTO로 일괄 변환
+     * 장르는 영화 ID 기준 일괄 쿼리로 조회하고 리뷰/북마크 수는 비정규화 컬럼을 사용하여
+     * 페이지 크기와 관계없이 고정된 수의 쿼리로 변환 (영화별 지연 로딩 방지)
+     *
+     * @param movies 변환할 영화 목록 (순서 유지)
+     * @return 목록 응답 DTO 리스트
+     */
+    private List<MovieListResponse> toListResponses(List<Movie> movies) {
+        if (movies.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> movieIds = movies.stream()
+                .map(Movie::getId)
+                .collect(Collectors.toList());
+
+        // 영화 ID별 장르 목록
+        Map<Long, List<GenreResponse>> genresByMovieId = new HashMap<>();
+        for (Object[] row : movieRepository.findGenresByMovieIds(movieIds)) {
+            genresByMovieId.computeIfAbsent((Long) row[0], id -> new ArrayList<>())
+                    .add(GenreResponse.from((Genre) row[1]));
+        }
+
+        return movies.stream()
+                .map(movie -> MovieListResponse.of(movie, genresByMovieId.getOrDefault(movie.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 영화 엔티티 페이지를 목록 응답 DTO 페이지로 일괄 변환
+     *
+     * @param movies 변환할 영화 페이지
+     * @return 페이징 정보가 유지된 목록 응답 DTO 페이지
+     */
+    private Page<MovieListResponse> toListResponsePage(Page<Movie> movies) {
+        return new PageImpl<>(toListResponses(movies.getContent()), movies.getPageable(), movies.getTotalElements());
+    }
 }
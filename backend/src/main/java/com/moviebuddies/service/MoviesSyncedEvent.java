@@ -0,0 +1,12 @@
+package com.moviebuddies.service;
+
+import java.util.Collection;
+
+/**
+ * TMDB 동기화로 영화 정보가 저장된 이벤트
+ * 동기화 청크 트랜잭션마다 발행되며, 커밋 이후 해당 영화들의 상세 정보 캐시 무효화에 사용
+ *
+ * @param movieIds 저장된 영화 ID 목록 (내용 해시가 같아 쓰기를 생략한 영화는 제외)
+ */
+public record MoviesSyncedEvent(Collection<Long> movieIds) {
+}
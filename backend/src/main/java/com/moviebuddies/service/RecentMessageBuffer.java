@@ -0,0 +1,375 @@
+package com.moviebuddies.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebuddies.entity.ChatMessage;
+import com.moviebuddies.repository.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 채팅방 최근 메시지 버퍼
+ *
+ * 채팅방별 최근 capacity개 메시지를 보관하여 대화 기록 첫 페이지(와 버퍼 범위 안의 이전 페이지)를 DB 조회 없이 응답
+ * 메시지 전송 경로에서 직접 추가하므로 쓰기 지연 저장(ChatMessageWriter)으로 아직 DB에 없는 메시지도 바로 조회됨
+ *
+ * 저장 구조:
+ * - 노드 로컬: 채팅방별 크기 제한 원형 버퍼 (ArrayDeque, 오래된 메시지부터 밀려남)
+ * - Redis: chat:room:recent:{roomId} List (최신순, LTRIM으로 크기 유지)와 :complete 표시 키
+ *   (표시 키가 있으면 DB의 최근 메시지까지 채워진 목록, 없으면 전송 경로에서 추가된 메시지만 있는 목록)
+ *
+ * 동기화:
+ * - 전송 시 Redis 목록 추가와 다른 노드 알림을 스크립트 한 번으로 처리하고, 다른 노드는 받은 메시지를 로컬 버퍼에 추가
+ * - 순서가 어긋난 메시지를 받으면 로컬 버퍼를 버리고 Redis에서 다시 적재
+ * - Redis 추가에 실패하면 표시 키를 지워 다음 조회 때 DB와 합쳐 다시 채움
+ * - 로컬 버퍼는 local-ttl-seconds 후 만료되어 Redis에서 다시 적재 (알림 유실 대비)
+ *
+ * 메트릭:
+ * - chat.history.reads (source=buffer|database): 대화 기록 조회 응답 출처
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecentMessageBuffer {
+
+    /**
+     * 버퍼에 보관하는 메시지 (발송자 ID만 보관하고 표시명은 조회 시 계산)
+     *
+     * @param id 메시지 ID
+     * @param senderId 발송자 ID
+     * @param content 메시지 내용
+     * @param createdAt 전송 시각
+     */
+    public record RecentMessage(Long id, Long senderId, String content, LocalDateTime createdAt) {
+
+        static RecentMessage from(ChatMessage message) {
+            return new RecentMessage(message.getId(), message.getSender().getId(),
+                    message.getContent(), message.getCreatedAt());
+        }
+    }
+
+    /**
+     * 버퍼 조회 결과
+     *
+     * @param messages 기준 메시지 이전의 메시지 목록 (최신순)
+     * @param truncated 버퍼가 가득 차 있어 버퍼보다 오래된 메시지가 DB에 더 있을 수 있는지 여부
+     */
+    public record Window(List<RecentMessage> messages, boolean truncated) {
+    }
+
+    /**
+     * 다른 노드에 전달하는 메시지 추가 알림
+     */
+    record Appended(String origin, Long roomId, RecentMessage message) {
+    }
+
+    private static final String KEY_PREFIX = "chat:room:recent:";
+    private static final String COMPLETE_SUFFIX = ":complete";
+
+    /**
+     * 최근 메시지 추가: 목록 앞에 추가 후 크기 유지, 만료 연장, 다른 노드에 알림
+     */
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('LPUSH', KEYS[1], ARGV[1])
+            redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('EXPIRE', KEYS[2], ARGV[3])
+            end
+            redis.call('PUBLISH', ARGV[4], ARGV[5])
+            return 1
+            """, Long.class);
+
+    /**
+     * 표시 키 존재 여부와 목록을 함께 조회 (첫 항목이 "1"이면 채워진 목록)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            local result = redis.call('LRANGE', KEYS[1], 0, -1)
+            table.insert(result, 1, tostring(redis.call('EXISTS', KEYS[2])))
+            return result
+            """, List.class);
+
+    /**
+     * DB에서 읽은 메시지와 합친 목록으로 교체
+     * 조회 이후 다른 요청이 메시지를 추가했으면(목록 첫 항목이 달라졌으면) 교체하지 않음
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            local head = redis.call('LINDEX', KEYS[1], 0)
+            if (head or '') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            if #ARGV > 2 then
+                redis.call('RPUSH', KEYS[1], unpack(ARGV, 3))
+                redis.call('EXPIRE', KEYS[1], ARGV[2])
+            end
+            redis.call('SET', KEYS[2], '1', 'EX', ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.recent-buffer.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.recent-buffer.capacity:200}")
+    private int capacity;
+
+    @Value("${chat.recent-buffer.local-max-rooms:1000}")
+    private long localMaxRooms;
+
+    @Value("${chat.recent-buffer.local-ttl-seconds:300}")
+    private long localTtlSeconds;
+
+    @Value("${chat.recent-buffer.redis-ttl-seconds:86400}")
+    private long redisTtlSeconds;
+
+    @Value("${chat.recent-buffer.channel:chat:recent-appended}")
+    private String channel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private Cache<Long, RoomBuffer> localBuffers;
+    private Counter bufferReads;
+    private Counter databaseReads;
+
+    @PostConstruct
+    void init() {
+        bufferReads = meterRegistry.counter("chat.history.reads", "source", "buffer");
+        databaseReads = meterRegistry.counter("chat.history.reads", "source", "database");
+        if (!enabled) {
+            return;
+        }
+
+        localBuffers = Caffeine.newBuilder()
+                .maximumSize(localMaxRooms)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+
+        listenerContainer.addMessageListener((message, pattern) -> onAppended(message.getBody()),
+                new ChannelTopic(channel));
+        log.info("채팅 최근 메시지 버퍼 활성화 - 채팅방별 {}개", capacity);
+    }
+
+    /**
+     * 전송된 메시지를 버퍼에 추가
+     * Redis 장애 시에도 전송은 계속되며, 해당 채팅방 목록은 다음 조회 때 DB와 합쳐 다시 채워짐
+     *
+     * @param roomId 채팅방 ID
+     * @param message 전송된 메시지
+     */
+    public void append(Long roomId, RecentMessage message) {
+        if (!enabled) {
+            return;
+        }
+        appendLocal(roomId, message);
+
+        String key = KEY_PREFIX + roomId;
+        try {
+            redisTemplate.execute(APPEND_SCRIPT, List.of(key, key + COMPLETE_SUFFIX),
+                    objectMapper.writeValueAsString(message), String.valueOf(capacity), String.valueOf(redisTtlSeconds),
+                    channel, objectMapper.writeValueAsString(new Appended(nodeId, roomId, message)));
+        } catch (Exception e) {
+            log.warn("최근 메시지 Redis 추가 실패 (다음 조회 시 다시 채움) - 방 ID: {}, 오류: {}", roomId, e.getMessage());
+            deleteQuietly(key + COMPLETE_SUFFIX);
+        }
+    }
+
+    /**
+     * 기준 메시지 이전의 최근 메시지 조회
+     *
+     * @param roomId 채팅방 ID
+     * @param beforeId 기준 메시지 ID (null이면 가장 최근 메시지부터)
+     * @param limit 최대 개수
+     * @return 버퍼 조회 결과, 버퍼를 사용할 수 없으면 null (DB에서 조회)
+     */
+    public Window read(Long roomId, Long beforeId, int limit) {
+        if (!enabled) {
+            return null;
+        }
+        RoomBuffer buffer = localBuffers.getIfPresent(roomId);
+        if (buffer == null) {
+            buffer = load(roomId);
+            if (buffer == null) {
+                return null;
+            }
+        }
+        return buffer.before(beforeId, limit);
+    }
+
+    void countRead(boolean fromBuffer) {
+        (fromBuffer ? bufferReads : databaseReads).increment();
+    }
+
+    private void appendLocal(Long roomId, RecentMessage message) {
+        RoomBuffer buffer = localBuffers.getIfPresent(roomId);
+        if (buffer != null && !buffer.append(message)) {
+            localBuffers.invalidate(roomId);
+        }
+    }
+
+    private void onAppended(byte[] body) {
+        try {
+            Appended appended = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), Appended.class);
+            if (!nodeId.equals(appended.origin())) {
+                appendLocal(appended.roomId(), appended.message());
+            }
+        } catch (Exception e) {
+            log.warn("최근 메시지 추가 알림 처리 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 목록으로 로컬 버퍼 적재, 채워지지 않은 목록이면 DB의 최근 메시지와 합쳐 채움
+     * 채우는 도중 다른 메시지가 추가되었으면 이번 조회에만 사용하고 로컬에 보관하지 않음
+     *
+     * @return 로컬 버퍼, Redis 장애 시 null
+     */
+    private RoomBuffer load(Long roomId) {
+        String key = KEY_PREFIX + roomId;
+        List<?> stored;
+        try {
+            stored = redisTemplate.execute(READ_SCRIPT, List.of(key, key + COMPLETE_SUFFIX));
+        } catch (Exception e) {
+            log.warn("최근 메시지 Redis 조회 실패 (DB 조회) - 방 ID: {}, 오류: {}", roomId, e.getMessage());
+            return null;
+        }
+        if (stored == null || stored.isEmpty()) {
+            return null;
+        }
+
+        List<String> entries = new ArrayList<>();
+        for (int i = 1; i < stored.size(); i++) {
+            entries.add(String.valueOf(stored.get(i)));
+        }
+        List<RecentMessage> messages = parse(entries);
+
+        if ("1".equals(String.valueOf(stored.get(0)))) {
+            RoomBuffer buffer = new RoomBuffer(capacity, messages);
+            localBuffers.put(roomId, buffer);
+            return buffer;
+        }
+
+        // 전송 경로에서 추가된 메시지(아직 DB에 없을 수 있음)와 DB의 최근 메시지를 ID 기준으로 합침
+        Map<Long, RecentMessage> merged = new LinkedHashMap<>();
+        chatMessageRepository.findLatestByRoomId(roomId, capacity)
+                .forEach(message -> merged.put(message.getId(), RecentMessage.from(message)));
+        messages.forEach(message -> merged.put(message.id(), message));
+        List<RecentMessage> seeded = merged.values().stream()
+                .sorted(Comparator.comparing(RecentMessage::id).reversed())
+                .limit(capacity)
+                .toList();
+
+        RoomBuffer buffer = new RoomBuffer(capacity, seeded);
+        try {
+            List<String> args = new ArrayList<>(seeded.size() + 2);
+            args.add(entries.isEmpty() ? "" : entries.get(0));
+            args.add(String.valueOf(redisTtlSeconds));
+            for (RecentMessage message : seeded) {
+                args.add(objectMapper.writeValueAsString(message));
+            }
+            Long replaced = redisTemplate.execute(SEED_SCRIPT, List.of(key, key + COMPLETE_SUFFIX), args.toArray());
+            if (Long.valueOf(1).equals(replaced)) {
+                localBuffers.put(roomId, buffer);
+            }
+        } catch (Exception e) {
+            log.warn("최근 메시지 Redis 채우기 실패 - 방 ID: {}, 오류: {}", roomId, e.getMessage());
+        }
+        return buffer;
+    }
+
+    /**
+     * Redis 목록 항목을 오래된 순으로 변환 (읽을 수 없는 항목은 건너뜀)
+     */
+    private List<RecentMessage> parse(List<String> entries) {
+        List<RecentMessage> messages = new ArrayList<>(entries.size());
+        for (String entry : entries) {
+            try {
+                messages.add(objectMapper.readValue(entry, RecentMessage.class));
+            } catch (Exception e) {
+                log.debug("최근 메시지 항목 형식 오류 - 오류: {}", e.getMessage());
+            }
+        }
+        messages.sort(Comparator.comparing(RecentMessage::id));
+        return messages;
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception ignored) {
+            // Redis 장애 시 redis-ttl-seconds 후 만료
+        }
+    }
+
+    /**
+     * 채팅방 하나의 크기 제한 원형 버퍼 (오래된 메시지가 앞, 최신 메시지가 뒤)
+     */
+    private static final class RoomBuffer {
+
+        private final int capacity;
+        private final ArrayDeque<RecentMessage> messages;
+
+        RoomBuffer(int capacity, List<RecentMessage> initial) {
+            this.capacity = capacity;
+            this.messages = new ArrayDeque<>(capacity);
+            initial.stream()
+                    .sorted(Comparator.comparing(RecentMessage::id))
+                    .forEach(this::append);
+        }
+
+        /**
+         * @return 추가했거나 이미 있는 메시지이면 true, 순서가 어긋나 추가할 수 없으면 false
+         */
+        synchronized boolean append(RecentMessage message) {
+            RecentMessage last = messages.peekLast();
+            if (last != null && last.id() >= message.id()) {
+                return messages.stream().anyMatch(existing -> existing.id().equals(message.id()));
+            }
+            messages.addLast(message);
+            if (messages.size() > capacity) {
+                messages.removeFirst();
+            }
+            return true;
+        }
+
+        synchronized Window before(Long beforeId, int limit) {
+            List<RecentMessage> result = new ArrayList<>(Math.min(limit, messages.size()));
+            Iterator<RecentMessage> newestFirst = messages.descendingIterator();
+            while (newestFirst.hasNext() && result.size() < limit) {
+                RecentMessage message = newestFirst.next();
+                if (beforeId == null || message.id() < beforeId) {
+                    result.add(message);
+                }
+            }
+            return new Window(result, messages.size() >= capacity);
+        }
+    }
+}
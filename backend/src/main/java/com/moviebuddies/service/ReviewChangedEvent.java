@@ -0,0 +1,11 @@
+package com.moviebuddies.service;
+
+/**
+ * 리뷰 작성/수정/삭제 이벤트
+ * 커밋 이후 해당 영화의 상세 정보 캐시(리뷰 수, 평균 평점) 무효화 등에 사용
+ *
+ * @param movieId 리뷰 대상 영화 ID
+ * @param userId 리뷰 작성자 ID
+ */
+public record ReviewChangedEvent(Long movieId, Long userId) {
+}
@@ -15,6 +15,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final MovieRepository movieRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 특정 영화의 모든 리뷰 조회 (영화 상세 페이지용)
@@ -109,6 +111,11 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+
+        // 영화 리뷰 수/평점 합계 집계 컬럼 갱신 (동일 트랜잭션 내 원자적 UPDATE)
+        movieRepository.incrementReviewStats(movie.getId(), savedReview.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(movie.getId(), userId));
+
         log.info("리뷰 작성 완료 - 리뷰 ID: {}", savedReview.getId());
 
         return ReviewResponse.from(savedReview);
@@ -136,9 +143,18 @@ public class ReviewService {
             throw BusinessException.conflict("평점은 1에서 5 사이여야 합니다.");
         }
 
+        int previousRating = review.getRating();
         review.updateReview(request.getContent(), request.getRating());
 
         Review updatedReview = reviewRepository.save(review);
+
+        // 평점이 바뀐 경우 영화 평점 합계 보정
+        int ratingDelta = updatedReview.getRating() - previousRating;
+        if (ratingDelta != 0) {
+            movieRepository.adjustRatingSum(movieId, ratingDelta);
+        }
+        eventPublisher.publishEvent(new ReviewChangedEvent(movieId, userId));
+
         log.info("리뷰 수정 완료 - 리뷰 ID: {}", updatedReview.getId());
 
         return ReviewResponse.from(updatedReview);
@@ -171,6 +187,11 @@ public class ReviewService {
         }
 
         reviewRepository.delete(review);
+
+        // 영화 리뷰 수/평점 합계 집계 컬럼 갱신
+        movieRepository.decrementReviewStats(movieId, review.getRating());
+        eventPublisher.publishEvent(new ReviewChangedEvent(movieId, userId));
+
         log.info("리뷰 삭제 완료 - 리뷰 ID: {}", reviewId);
     }
 
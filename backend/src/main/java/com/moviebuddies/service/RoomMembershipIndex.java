@@ -0,0 +1,296 @@
+package com.moviebuddies.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.moviebuddies.repository.ChatRoomRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 채팅방 참가자 목록 인덱스
+ *
+ * 메시지 전송/조회, 입장/퇴장 시 참가 여부 확인과 채팅방 응답의 참가자 수를 엔티티 로딩 없이 처리
+ * (ChatRoom.participants 지연 로딩 컬렉션은 확인할 때마다 최대 인원만큼의 사용자 행을 읽음)
+ *
+ * 저장 구조:
+ * - 노드 로컬: 채팅방별 정렬된 long[] 사용자 ID 배열 (이진 탐색, 변경 시 새 배열로 교체)
+ * - Redis: chat:room:members:{roomId} Set (노드 간 공유, 적재 완료 표시 항목 포함)
+ *   chat:room:members:{roomId}:version 변경 횟수 (적재 중 커밋된 변경을 덮어쓰지 않도록 확인)
+ * - 원본: chat_room_participants 테이블 (Redis에 없으면 DB에서 읽어 적재)
+ *
+ * 변경 반영:
+ * - 입장/퇴장 트랜잭션 커밋 후 Redis Set을 갱신하고 다른 노드에 로컬 항목 제거 알림
+ * - 알림 유실에 대비해 로컬 항목은 local-ttl-seconds 후 만료, Redis 항목은 redis-ttl-seconds 후 DB에서 다시 적재
+ * - DB에서 읽는 동안 변경이 커밋되면(변경 횟수 증가) 읽은 목록으로 Redis를 채우지 않고 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomMembershipIndex {
+
+    private static final String KEY_PREFIX = "chat:room:members:";
+
+    /**
+     * Redis Set이 DB에서 적재되었음을 나타내는 항목 (참가자가 없는 채팅방도 키가 유지되도록)
+     */
+    private static final String LOADED_MARKER = "-";
+
+    private static final String VERSION_SUFFIX = ":version";
+
+    /**
+     * DB 적재 재시도 횟수 (적재 중 변경이 계속 커밋되는 경우)
+     */
+    private static final int LOAD_ATTEMPTS = 3;
+
+    /**
+     * 변경 횟수를 올리고 적재된 Set에만 변경 반영 (적재 전이면 다음 조회 때 DB에서 전체 적재)
+     */
+    private static final RedisScript<Long> APPLY_CHANGE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if ARGV[1] == '1' then
+                redis.call('SADD', KEYS[1], ARGV[2])
+            else
+                redis.call('SREM', KEYS[1], ARGV[2])
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * DB에서 읽은 목록으로 Set 적재
+     * 이미 적재되었으면 0, DB를 읽기 전에 확인한 변경 횟수와 다르면(그사이 변경 커밋) -1을 반환하고 쓰지 않음
+     */
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            local version = redis.call('GET', KEYS[2]) or ''
+            if version ~= ARGV[1] then
+                return -1
+            end
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    @Value("${chat.membership.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    @Value("${chat.membership.redis-ttl-seconds:3600}")
+    private long redisTtlSeconds;
+
+    @Value("${chat.membership.invalidation-channel:chat:membership-changed}")
+    private String invalidationChannel;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private Cache<Long, long[]> localMembers;
+
+    @PostConstruct
+    void init() {
+        localMembers = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                localMembers.invalidate(Long.parseLong(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("채팅방 참가자 변경 알림 형식 오류 - 오류: {}", e.getMessage());
+            }
+        }, new ChannelTopic(invalidationChannel));
+    }
+
+    /**
+     * 채팅방 참가 여부 확인
+     *
+     * @param roomId 채팅방 ID
+     * @param userId 사용자 ID
+     * @return 참가 중이면 true
+     */
+    public boolean isMember(Long roomId, Long userId) {
+        return userId != null && Arrays.binarySearch(current(roomId), userId) >= 0;
+    }
+
+    /**
+     * @param roomId 채팅방 ID
+     * @return 현재 참가자 수
+     */
+    public int count(Long roomId) {
+        return current(roomId).length;
+    }
+
+    /**
+     * @param roomId 채팅방 ID
+     * @return 현재 참가자 ID 목록 (정렬된 복사본)
+     */
+    public long[] members(Long roomId) {
+        return current(roomId).clone();
+    }
+
+    /**
+     * 입장/퇴장 커밋 후 Redis와 로컬 인덱스 갱신, 다른 노드에 알림
+     * Redis 갱신 실패 시 Redis 항목을 지워 다음 조회 때 DB에서 다시 적재
+     * 채팅방 캐시 무효화(ScopedCacheInvalidator)보다 먼저 실행되어 다시 캐싱되는 참가자 수가 갱신된 값이 되도록 함
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        String key = KEY_PREFIX + event.roomId();
+        try {
+            redisTemplate.execute(APPLY_CHANGE_SCRIPT, List.of(key, key + VERSION_SUFFIX),
+                    event.joined() ? "1" : "0", String.valueOf(event.userId()), String.valueOf(redisTtlSeconds));
+        } catch (Exception e) {
+            log.warn("채팅방 참가자 Redis 갱신 실패 (다시 적재) - 방 ID: {}, 오류: {}", event.roomId(), e.getMessage());
+            deleteQuietly(key);
+        }
+
+        localMembers.asMap().computeIfPresent(event.roomId(),
+                (roomId, members) -> event.joined() ? with(members, event.userId()) : without(members, event.userId()));
+
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, nodeId + ":" + event.roomId());
+        } catch (Exception e) {
+            log.warn("채팅방 참가자 변경 알림 발행 실패 - 방 ID: {}, 오류: {}", event.roomId(), e.getMessage());
+        }
+    }
+
+    private long[] current(Long roomId) {
+        return localMembers.get(roomId, this::load);
+    }
+
+    /**
+     * Redis에서 참가자 목록 조회, 없으면 DB에서 읽어 Redis에 적재
+     * DB를 읽는 동안 다른 노드가 Set을 채웠거나 변경이 커밋되었으면 Redis부터 다시 조회
+     */
+    private long[] load(Long roomId) {
+        String key = KEY_PREFIX + roomId;
+        String versionKey = key + VERSION_SUFFIX;
+        long[] members = EMPTY;
+
+        for (int attempt = 0; attempt < LOAD_ATTEMPTS; attempt++) {
+            String version;
+            try {
+                Set<String> cached = redisTemplate.opsForSet().members(key);
+                if (cached != null && cached.contains(LOADED_MARKER)) {
+                    return cached.stream()
+                            .filter(member -> !LOADED_MARKER.equals(member))
+                            .mapToLong(Long::parseLong)
+                            .sorted()
+                            .toArray();
+                }
+                version = redisTemplate.opsForValue().get(versionKey);
+            } catch (Exception e) {
+                log.warn("채팅방 참가자 Redis 조회 실패 (DB 조회) - 방 ID: {}, 오류: {}", roomId, e.getMessage());
+                return findParticipants(roomId);
+            }
+
+            members = findParticipants(roomId);
+            if (seed(roomId, key, versionKey, version, members)) {
+                return members;
+            }
+        }
+
+        log.debug("채팅방 참가자 Redis 적재 재시도 초과 (DB 조회 결과 사용) - 방 ID: {}", roomId);
+        return members;
+    }
+
+    private long[] findParticipants(Long roomId) {
+        long[] members = chatRoomRepository.findParticipantIds(roomId).stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        return members.length == 0 ? EMPTY : members;
+    }
+
+    /**
+     * DB에서 읽은 목록으로 Redis Set 적재
+     *
+     * @param version DB를 읽기 전에 확인한 변경 횟수 (없으면 null)
+     * @return 적재했거나 Redis 장애로 적재를 건너뛴 경우 true, 다시 조회해야 하면 false
+     */
+    private boolean seed(Long roomId, String key, String versionKey, String version, long[] members) {
+        List<String> args = new ArrayList<>(members.length + 3);
+        args.add(version != null ? version : "");
+        args.add(String.valueOf(redisTtlSeconds));
+        args.add(LOADED_MARKER);
+        for (long member : members) {
+            args.add(String.valueOf(member));
+        }
+
+        try {
+            Long result = redisTemplate.execute(SEED_SCRIPT, List.of(key, versionKey), args.toArray());
+            return result == null || result == 1;
+        } catch (Exception e) {
+            log.warn("채팅방 참가자 Redis 적재 실패 - 방 ID: {}, 오류: {}", roomId, e.getMessage());
+            return true;
+        }
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            redisTemplate.delete(key);
+        } catch (Exception ignored) {
+            // Redis 장애 시 redis-ttl-seconds 후 만료
+        }
+    }
+
+    private static long[] with(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index >= 0) {
+            return members;
+        }
+        int insertAt = -index - 1;
+        long[] updated = new long[members.length + 1];
+        System.arraycopy(members, 0, updated, 0, insertAt);
+        updated[insertAt] = userId;
+        System.arraycopy(members, insertAt, updated, insertAt + 1, members.length - insertAt);
+        return updated;
+    }
+
+    private static long[] without(long[] members, long userId) {
+        int index = Arrays.binarySearch(members, userId);
+        if (index < 0) {
+            return members;
+        }
+        long[] updated = new long[members.length - 1];
+        System.arraycopy(members, 0, updated, 0, index);
+        System.arraycopy(members, index + 1, updated, index, members.length - index - 1);
+        return updated;
+    }
+}
@@ -0,0 +1,46 @@
+package com.moviebuddies.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 북마크/채팅방 캐시의 키 단위 무효화
+ *
+ * 변경된 사용자, 영화, 채팅방의 항목만 제거하여 쓰기 한 번에 캐시 전체가 비워지는 문제 방지
+ * - 북마크 추가/삭제: 해당 사용자의 북마크 목록(페이지별 키는 CacheKeyIndex로 추적), 사용자/영화별 북마크 수
+ * - 채팅방 입장/퇴장: 해당 채팅방 상세 정보, 참가자 수가 바뀐 사용자들의 참여 채팅방 목록
+ *
+ * 모든 무효화는 트랜잭션 커밋 이후 실행 (영화 상세 정보는 MovieCacheInvalidator에서 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScopedCacheInvalidator {
+
+    static final String USER_BOOKMARKS_CACHE = "userBookmarks";
+
+    private final CacheManager cacheManager;
+    private final CacheKeyIndex cacheKeyIndex;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookmarkChanged(BookmarkChangedEvent event) {
+        cacheKeyIndex.evictTracked(USER_BOOKMARKS_CACHE, event.userId());
+        evict("userBookmarkCount", event.userId());
+        evict("movieBookmarkCount", event.movieId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChatRoomMembershipChanged(ChatRoomMembershipChangedEvent event) {
+        evict("chatRoomDetail", event.roomId());
+        event.userIds().forEach(userId -> evict("userChatRooms", userId));
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+}
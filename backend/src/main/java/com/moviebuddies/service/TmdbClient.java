@@ -0,0 +1,127 @@
+package com.moviebuddies.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * TMDB HTTP 클라이언트
+ *
+ * 모든 TMDB 호출이 하나의 토큰 버킷을 공유하도록 하여 병렬 수집 시에도 전체 호출 속도를 제한
+ * 429(Too Many Requests) 응답은 Retry-After 헤더만큼 대기 후 재시도
+ * 호출 결과별(성공/실패/재시도) 응답 시간을 tmdb.client.requests 메트릭으로 기록
+ */
+@Slf4j
+@Component
+public class TmdbClient {
+
+    private static final int MAX_RETRIES = 3;
+    private static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TokenBucket rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final String apiKey;
+    private final String baseUrl;
+
+    public TmdbClient(MeterRegistry meterRegistry,
+                      @Value("${tmdb.api-key}") String apiKey,
+                      @Value("${tmdb.base-url}") String baseUrl,
+                      @Value("${tmdb.rate-limit.requests-per-second:40}") double requestsPerSecond,
+                      @Value("${tmdb.rate-limit.burst:20}") int burst,
+                      @Value("${tmdb.client.timeout-millis:10000}") int timeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.rateLimiter = new TokenBucket(requestsPerSecond, burst);
+        this.meterRegistry = meterRegistry;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * TMDB API GET 호출 (한국어 응답)
+     *
+     * @param path API 경로 (예: /movie/popular)
+     * @param params 추가 쿼리 파라미터
+     * @return 응답 JSON
+     * @throws IOException 응답 파싱 실패 시
+     * @throws InterruptedException 속도 제한 대기 중 인터럽트된 경우
+     */
+    public JsonNode get(String path, Map<String, ?> params) throws IOException, InterruptedException {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + path)
+                .queryParam("api_key", apiKey)
+                .queryParam("language", "ko-KR");
+        params.forEach((name, value) -> builder.queryParam(name, value));
+        String url = builder.toUriString();
+
+        for (int attempt = 0; ; attempt++) {
+            rateLimiter.acquire();
+
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                String body = restTemplate.getForObject(url, String.class);
+                sample.stop(requestTimer("success"));
+                return objectMapper.readTree(body);
+
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                sample.stop(requestTimer("throttled"));
+                if (attempt >= MAX_RETRIES) {
+                    throw e;
+                }
+                long retryAfterMillis = retryAfterMillis(e);
+                log.warn("TMDB 호출 제한 초과 - {}ms 후 재시도 ({}/{}): {}", retryAfterMillis, attempt + 1, MAX_RETRIES, path);
+                Thread.sleep(retryAfterMillis);
+
+            } catch (RuntimeException e) {
+                sample.stop(requestTimer("error"));
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * TMDB API GET 호출 (추가 파라미터 없음)
+     *
+     * @param path API 경로
+     * @return 응답 JSON
+     * @throws IOException 응답 파싱 실패 시
+     * @throws InterruptedException 속도 제한 대기 중 인터럽트된 경우
+     */
+    public JsonNode get(String path) throws IOException, InterruptedException {
+        return get(path, Map.of());
+    }
+
+    private Timer requestTimer(String outcome) {
+        return Timer.builder("tmdb.client.requests")
+                .description("TMDB API 호출 응답 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private long retryAfterMillis(HttpClientErrorException e) {
+        String retryAfter = e.getResponseHeaders() != null ? e.getResponseHeaders().getFirst("Retry-After") : null;
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 기본 대기 시간 사용
+            }
+        }
+        return DEFAULT_RETRY_AFTER_MILLIS;
+    }
+}
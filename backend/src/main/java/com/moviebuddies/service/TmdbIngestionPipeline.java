@@ -0,0 +1,276 @@
+package com.moviebuddies.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * TMDB 데이터 수집 파이프라인
+ *
+ * 단계:
+ * 1. 수집(fetch): 고정 크기 스레드 풀에서 병렬로 TMDB API 호출 (호출 속도는 TmdbClient의 토큰 버킷이 제한)
+ * 2. 전달: 크기가 제한된 큐로 저장 단계에 전달 (저장이 느리면 수집 스레드가 대기하여 메모리 사용량 제한)
+ * 3. 저장(write): 호출 스레드에서 청크 단위로 모아 청크마다 별도 트랜잭션으로 커밋
+ *
+ * 전체 동기화를 하나의 트랜잭션으로 묶지 않으므로 DB 커넥션은 청크 저장 중에만 점유되며,
+ * 한 청크의 실패가 이미 커밋된 다른 청크에 영향을 주지 않음
+ *
+ * 진행 상황은 TmdbSyncProgress에 단계별로 기록되며, 취소가 요청되면 남은 수집을 중단하고
+ * 아직 저장하지 않은 청크를 버린 뒤 CancellationException으로 종료
+ *
+ * 메트릭:
+ * - tmdb.ingest.items (pipeline, outcome=written|failed): 처리 건수
+ * - tmdb.ingest.chunk.write (pipeline): 청크 저장 시간
+ * - tmdb.ingest.queue.depth (pipeline): 저장 대기 큐 길이
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TmdbIngestionPipeline {
+
+    private static final long PROGRESS_LOG_INTERVAL_MILLIS = 5000;
+
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+
+    @Value("${tmdb.ingest.concurrency:8}")
+    private int concurrency;
+
+    @Value("${tmdb.ingest.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${tmdb.ingest.chunk-size:50}")
+    private int chunkSize;
+
+    /**
+     * 입력 하나에 대한 수집 작업 (HTTP 호출 및 응답 파싱)
+     *
+     * @param <I> 입력 타입
+     * @param <R> 수집 결과 타입
+     */
+    @FunctionalInterface
+    public interface Fetcher<I, R> {
+        R fetch(I input) throws Exception;
+    }
+
+    /**
+     * 파이프라인 실행 결과
+     *
+     * @param name 파이프라인 이름
+     * @param total 전체 입력 수
+     * @param written 저장 완료 건수
+     * @param failed 수집 또는 저장 실패 건수
+     * @param elapsedMillis 소요 시간
+     */
+    public record Result(String name, int total, int written, int failed, long elapsedMillis) {
+
+        /**
+         * @return 초당 처리 건수
+         */
+        public double throughput() {
+            return elapsedMillis > 0 ? (written + failed) * 1000.0 / elapsedMillis : 0.0;
+        }
+    }
+
+    /**
+     * 파이프라인 실행
+     * 모든 입력의 수집과 저장이 끝날 때까지 호출 스레드에서 대기
+     *
+     * @param name 파이프라인 이름 (로그 및 메트릭 태그)
+     * @param inputs 수집 대상 목록
+     * @param fetcher 입력별 수집 작업 (수집 스레드에서 실행)
+     * @param chunkWriter 청크 저장 작업 (호출 스레드에서 청크마다 새 트랜잭션으로 실행)
+     * @param progress 진행 상황 기록 및 취소 요청 확인
+     * @return 실행 결과
+     * @throws CancellationException 실행 중 취소가 요청된 경우
+     */
+    public <I, R> Result run(String name, List<I> inputs, Fetcher<I, R> fetcher, Consumer<List<R>> chunkWriter,
+                             TmdbSyncProgress progress) {
+        long start = System.currentTimeMillis();
+        int total = inputs.size();
+        progress.throwIfCancelled();
+        progress.startStage(name, total);
+        if (total == 0) {
+            return new Result(name, 0, 0, 0, 0);
+        }
+
+        log.info("TMDB 수집 파이프라인 시작 - {}: {}건 (동시 수집: {}, 청크 크기: {})", name, total, concurrency, chunkSize);
+
+        BlockingQueue<Optional<R>> queue = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger queueDepth = queueDepthGauge(name);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, total), threadFactory(name));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        int processed = 0;
+        int written = 0;
+        int failed = 0;
+        boolean cancelled = false;
+
+        try {
+            for (I input : inputs) {
+                executor.execute(() -> fetchInto(name, input, fetcher, queue, progress));
+            }
+            executor.shutdown();
+
+            List<R> chunk = new ArrayList<>(chunkSize);
+            long lastProgressLog = System.currentTimeMillis();
+
+            while (processed < total) {
+                if (progress.isCancelled()) {
+                    cancelled = true;
+                    break;
+                }
+
+                Optional<R> item = queue.poll(500, TimeUnit.MILLISECONDS);
+                queueDepth.set(queue.size());
+
+                if (item == null) {
+                    if (executor.isTerminated() && queue.isEmpty()) {
+                        break;
+                    }
+                    continue;
+                }
+
+                processed++;
+                if (item.isPresent()) {
+                    chunk.add(item.get());
+                } else {
+                    failed++;
+                }
+
+                if (chunk.size() >= chunkSize) {
+                    int chunkWritten = writeChunk(name, chunk, chunkWriter, transactionTemplate, progress);
+                    written += chunkWritten;
+                    failed += chunk.size() - chunkWritten;
+                    chunk.clear();
+                }
+
+                if (System.currentTimeMillis() - lastProgressLog >= PROGRESS_LOG_INTERVAL_MILLIS) {
+                    logProgress(name, processed, total, start, queue.size());
+                    lastProgressLog = System.currentTimeMillis();
+                }
+            }
+
+            if (!cancelled && !chunk.isEmpty()) {
+                int chunkWritten = writeChunk(name, chunk, chunkWriter, transactionTemplate, progress);
+                written += chunkWritten;
+                failed += chunk.size() - chunkWritten;
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("TMDB 수집 파이프라인 중단 - {}: {}/{}건 처리", name, processed, total);
+
+        } finally {
+            executor.shutdownNow();
+            queueDepth.set(0);
+        }
+
+        if (cancelled) {
+            log.warn("TMDB 수집 파이프라인 취소 - {}: {}/{}건 처리, 저장 {}건", name, processed, total, written);
+            throw new CancellationException("TMDB 수집 파이프라인이 취소되었습니다: " + name);
+        }
+
+        Result result = new Result(name, total, written, failed, System.currentTimeMillis() - start);
+        log.info("TMDB 수집 파이프라인 완료 - {}: 저장 {}건, 실패 {}건, 소요 시간 {}ms, 처리량 {}건/초",
+                name, result.written(), result.failed(), result.elapsedMillis(), String.format("%.1f", result.throughput()));
+        return result;
+    }
+
+    /**
+     * 수집 스레드: 입력 하나를 수집하여 큐에 전달 (실패 시 빈 결과 전달)
+     */
+    private <I, R> void fetchInto(String name, I input, Fetcher<I, R> fetcher, BlockingQueue<Optional<R>> queue,
+                                  TmdbSyncProgress progress) {
+        if (progress.isCancelled()) {
+            return;
+        }
+
+        Optional<R> result;
+        try {
+            result = Optional.ofNullable(fetcher.fetch(input));
+            progress.recordFetched(name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            log.warn("TMDB 수집 실패 - {}: {} ({})", name, input, e.getMessage());
+            progress.recordFailed(name, 1);
+            result = Optional.empty();
+        }
+
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 청크 저장 (청크 단위 트랜잭션)
+     *
+     * @return 저장된 건수 (실패 시 0)
+     */
+    private <R> int writeChunk(String name, List<R> chunk, Consumer<List<R>> chunkWriter,
+                               TransactionTemplate transactionTemplate, TmdbSyncProgress progress) {
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> chunkWriter.accept(chunk));
+            meterRegistry.counter("tmdb.ingest.items", "pipeline", name, "outcome", "written").increment(chunk.size());
+            return chunk.size();
+
+        } catch (Exception e) {
+            log.error("TMDB 수집 청크 저장 실패 - {}: {}건", name, chunk.size(), e);
+            meterRegistry.counter("tmdb.ingest.items", "pipeline", name, "outcome", "failed").increment(chunk.size());
+            progress.recordFailed(name, chunk.size());
+            return 0;
+
+        } finally {
+            meterRegistry.timer("tmdb.ingest.chunk.write", "pipeline", name)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void logProgress(String name, int processed, int total, long start, int queueSize) {
+        long elapsed = Math.max(System.currentTimeMillis() - start, 1);
+        log.info("TMDB 수집 진행 - {}: {}/{}건 ({}%), {}건/초, 대기 큐: {}",
+                name, processed, total, processed * 100 / total,
+                String.format("%.1f", processed * 1000.0 / elapsed), queueSize);
+    }
+
+    private AtomicInteger queueDepthGauge(String name) {
+        return queueDepths.computeIfAbsent(name, key ->
+                meterRegistry.gauge("tmdb.ingest.queue.depth", Tags.of("pipeline", key), new AtomicInteger()));
+    }
+
+    private ThreadFactory threadFactory(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "tmdb-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
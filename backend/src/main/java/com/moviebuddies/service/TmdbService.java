@@ -1,26 +1,42 @@
 package com.moviebuddies.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.moviebuddies.entity.Actor;
 import com.moviebuddies.entity.Genre;
 import com.moviebuddies.entity.Movie;
-import com.moviebuddies.repository.ActorRepository;
 import com.moviebuddies.repository.GenreRepository;
 import com.moviebuddies.repository.MovieRepository;
+import com.moviebuddies.repository.TmdbBulkUpsertRepository;
+import com.moviebuddies.repository.TmdbBulkUpsertRepository.ActorRow;
+import com.moviebuddies.repository.TmdbBulkUpsertRepository.MovieDetailsRow;
+import com.moviebuddies.repository.TmdbBulkUpsertRepository.MovieRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * TMDB API 연동 서비스
@@ -31,23 +47,59 @@ import java.util.List;
  * 2. 영화 기본 정보 동기화 (인기 영화, 현재 상영작)
  * 3. 영화 상세 정보 동기화
  * 4. 출연진 정보 동기화 (주요 배우 10명)
+ *
+ * 목록 페이지와 영화별 상세 정보는 TmdbIngestionPipeline으로 병렬 수집하고 청크 단위로 커밋
+ * API 호출 속도 제한은 TmdbClient가 담당
+ * 영화/배우 및 연결 테이블 저장은 TmdbBulkUpsertRepository의 JDBC 배치 업서트로 처리
+ *
+ * 증분 동기화:
+ * - 영화별 마지막 상세 동기화 시각(tmdbSyncedAt)과 내용 해시(tmdbContentHash)를 기록
+ * - TMDB 변경 목록(/movie/changes)에 포함된 영화와 상세 정보를 아직 받지 않은 영화만 다시 수집
+ * - 내용 해시가 같으면 영화/배우/연결 테이블 쓰기를 모두 생략
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TmdbService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final MovieRepository movieRepository;
-    private final GenreRepository genreRepository;
-    private final ActorRepository actorRepository;
+    /**
+     * TMDB 변경 목록 API가 허용하는 최대 조회 기간 (일)
+     */
+    private static final int CHANGES_MAX_DAYS = 14;
+
+    /**
+     * 변경 목록 조회 시작 시각에 더하는 여유 시간 (TMDB 변경 반영 지연 보정)
+     */
+    private static final long CHANGES_OVERLAP_HOURS = 1;
+
+    /**
+     * 변경 목록 최대 조회 페이지 수 (TMDB 제한)
+     * 변경 목록은 하루 단위로 나누어 조회하므로 하루치 변경이 이 페이지 수를 넘는 경우에만 도달
+     */
+    private static final int CHANGES_MAX_PAGES = 500;
 
-    @Value("${tmdb.api-key}")
-    private String apiKey;
+    /**
+     * 증분 동기화 기준 시각 저장 키 (재시작 후에도 유지, 노드 간 공유)
+     */
+    private static final String DETAILS_WATERMARK_KEY = "tmdb:sync:details-watermark";
 
-    @Value("${tmdb.base-url}")
-    private String baseUrl;
+    /**
+     * 직전 동기화에서 상세 정보 수집/저장에 실패한 TMDB 영화 ID (다음 증분 동기화에서 다시 처리)
+     */
+    private static final String DETAILS_RETRY_KEY = "tmdb:sync:details-retry";
+
+    /**
+     * IN 절 하나에 넣는 TMDB ID 수
+     */
+    private static final int TMDB_ID_BATCH_SIZE = 1000;
+
+    private final TmdbClient tmdbClient;
+    private final TmdbIngestionPipeline ingestionPipeline;
+    private final MovieRepository movieRepository;
+    private final GenreRepository genreRepository;
+    private final TmdbBulkUpsertRepository bulkUpsertRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate redisTemplate;
 
     @Value("${tmdb.image-url}")
     private String imageBaseUrl;
@@ -68,14 +120,8 @@ public class TmdbService {
         log.info("TMDB 장르 데이터 동기화 시작");
 
         try {
-            // TMDB 장르 목록 API URL 구성
-            String url = UriComponentsBuilder.fromUriString(baseUrl + "/genre/movie/list")
-                    .queryParam("api_key", apiKey)
-                    .queryParam("language", "ko-KR")    // 한국어 장르명
-                    .toUriString();
-
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
+            // TMDB 장르 목록 API 호출 (한국어 장르명)
+            JsonNode rootNode = tmdbClient.get("/genre/movie/list");
             JsonNode genresNode = rootNode.get("genres");
 
             if (genresNode != null && genresNode.isArray()) {
@@ -106,46 +152,20 @@ public class TmdbService {
      * TMDB의 인기 영화 목록을 페이지별로 가져와 저장
      *
      * 동기화 과정:
-     * 1. 지정된 페이지 수만큼 반복 호출
+     * 1. 지정된 페이지들을 병렬로 호출 (호출 속도는 TmdbClient가 제한)
      * 2. 각 페이지의 영화 목록 파싱
-     * 3. processMovieData()로 개별 영화 처리
-     * 4. API 호출 제한을 위해 0.04초 대기 (초당 25회 제한)
+     * 3. writeMovies()로 페이지 묶음 단위 일괄 업서트 및 커밋
      *
      * @param totalPages 동기화할 총 페이지 수 (페이지당 20개 영화)
+     * @param progress 진행 상황 기록 및 취소 요청 확인
      */
-    @Transactional
-    public void syncPopularMovies(int totalPages) {
+    public void syncPopularMovies(int totalPages, TmdbSyncProgress progress) {
         log.info("TMDB 인기 영화 데이터 동기화 시작 - 페이지 수: {}", totalPages);
 
-        for (int page = 1; page <= totalPages; page++) {
-            try {
-                String url = UriComponentsBuilder.fromUriString(baseUrl + "/movie/popular")
-                        .queryParam("api_key", apiKey)
-                        .queryParam("language", "ko-KR")
-                        .queryParam("region", "KR")    // 한국 지역 설정
-                        .queryParam("page", page)
-                        .toUriString();
-
-                ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode moviesNode = rootNode.get("results");
-
-                if (moviesNode != null && moviesNode.isArray()) {
-                    for (JsonNode movieNode : moviesNode) {
-                        processMovieData(movieNode, false);   // 일반 인기 영화로 처리
-                    }
-                }
-
-                // API 호출 제한 고려
-                // 공식 문서에 따르면 API 속도 제한은 비활성화되었지만 여전히 상한선은 존재(초당 50건의 요청 범위 어딘가)하므로 안전하게 초당 25회로 제한
-                Thread.sleep(40);
-
-            } catch (Exception e) {
-                log.error("TMDB 인기 영화 데이터 동기화 실패 - 페이지: {}", page, e);
-            }
-        }
+        syncMovieListPages("popular", "/movie/popular", totalPages, false, progress);   // 일반 인기 영화로 처리
 
         log.info("TMDB 인기 영화 데이터 동기화 완료");
+        eventPublisher.publishEvent(new TmdbSyncCompletedEvent("popular"));
     }
 
     /**
@@ -153,38 +173,48 @@ public class TmdbService {
      * 극장에서 현재 상영 중인 영화들을 별도로 표시하여 저장
      *
      * @param totalPages 동기화할 총 페이지 수
+     * @param progress 진행 상황 기록 및 취소 요청 확인
      */
-    @Transactional
-    public void syncNowPlayingMovies(int totalPages) {
+    public void syncNowPlayingMovies(int totalPages, TmdbSyncProgress progress) {
         log.info("TMDB 현재 상영중인 영화 데이터 동기화 시작 - 페이지 수: {}", totalPages);
 
-        for (int page = 1; page <= totalPages; page++) {
-            try {
-                String url = UriComponentsBuilder.fromUriString(baseUrl + "/movie/now_playing")
-                        .queryParam("api_key", apiKey)
-                        .queryParam("language", "ko-KR")
-                        .queryParam("region", "KR")
-                        .queryParam("page", page)
-                        .toUriString();
-
-                ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-                JsonNode rootNode = objectMapper.readTree(response.getBody());
-                JsonNode moviesNode = rootNode.get("results");
-
-                if (moviesNode != null && moviesNode.isArray()) {
-                    for (JsonNode movieNode : moviesNode) {
-                        processMovieData(movieNode, true);  // 현재 상영작으로 표시
-                    }
-                }
+        syncMovieListPages("now-playing", "/movie/now_playing", totalPages, true, progress);  // 현재 상영작으로 표시
 
-                Thread.sleep(40);
+        log.info("TMDB 현재 상영중인 영화 데이터 동기화 완료");
+        eventPublisher.publishEvent(new TmdbSyncCompletedEvent("now-playing"));
+    }
 
-            } catch (Exception e) {
-                log.error("TMDB 현재 상영중인 영화 데이터 동기화 실패 - 페이지: {}", page, e);
-            }
-        }
+    /**
+     * 영화 목록 API 페이지 병렬 수집 및 저장
+     *
+     * @param name 파이프라인 이름
+     * @param path 목록 API 경로
+     * @param totalPages 수집할 페이지 수
+     * @param isNowPlaying 현재 상영 중인 영화 여부
+     * @param progress 진행 상황 기록 및 취소 요청 확인
+     */
+    private void syncMovieListPages(String name, String path, int totalPages, boolean isNowPlaying,
+                                    TmdbSyncProgress progress) {
+        List<Integer> pages = IntStream.rangeClosed(1, totalPages).boxed().collect(Collectors.toList());
+
+        // 장르 매핑은 동기화마다 한 번만 조회
+        Map<Long, Long> genreIdsByTmdbId = bulkUpsertRepository.findGenreIdsByTmdbId();
+        UpsertStats stats = new UpsertStats();
+
+        ingestionPipeline.run(name, pages,
+                page -> tmdbClient.get(path, Map.of("region", "KR", "page", page)).get("results"),   // 한국 지역 설정
+                chunk -> {
+                    List<JsonNode> movieNodes = new ArrayList<>();
+                    for (JsonNode moviesNode : chunk) {
+                        if (moviesNode.isArray()) {
+                            moviesNode.forEach(movieNodes::add);
+                        }
+                    }
+                    stats.measure(() -> writeMovies(movieNodes, isNowPlaying, genreIdsByTmdbId, progress));
+                },
+                progress);
 
-        log.info("TMDB 현재 상영중인 영화 데이터 동기화 완료");
+        stats.report(name);
     }
 
     /**
@@ -203,31 +233,91 @@ public class TmdbService {
             return;
         }
 
-        // 영화 상세 정보 조회
-        syncMovieDetails(movie);
+        try {
+            // 영화 상세 정보 및 출연진 정보 조회 후 반영
+            writeMovieDetails(List.of(fetchMovieDetails(new SyncTarget(movie.getId(), movie.getTmdbId()))),
+                    bulkUpsertRepository.findGenreIdsByTmdbId(), new UpsertStats(), new TmdbSyncProgress());
 
-        // 출연진 정보 조회
-        syncMovieCast(movie);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+
+        } catch (Exception e) {
+            log.error("영화 상세 정보 및 출연진 동기화 실패 - TMDB ID: {}", movie.getTmdbId(), e);
+            return;
+        }
+
+        eventPublisher.publishEvent(new TmdbSyncCompletedEvent("details"));
     }
 
     /**
-     * 핵심 메서드: 개별 영화 데이터 처리
-     * JSON 응답에서 영화 정보를 파싱하여 엔티티로 변환 후 저장
+     * 핵심 메서드: 영화 목록 일괄 저장
+     * JSON 응답에서 영화 정보를 파싱하여 일괄 업서트 후 장르 연결
      *
      * 처리 과정:
      * 1. JSON에서 영화 기본 정보 추출 (제목, 줄거리, 개봉일 등)
-     * 2. 날짜 형식 변환 및 예외 처리
-     * 3. 기존 영화 찾기 또는 새 영화 생성
-     * 4. 영화 속성 설정
-     * 5. 장르 연결 (TMDB 장르 ID로 매핑)
-     * 6. 데이터베이스 저장
+     * 2. 장르 연결 대상 수집 (TMDB 장르 ID를 로컬 장르 ID로 매핑)
+     * 3. 영화 일괄 업서트 (TMDB ID 기준)
+     * 4. 영화-장르 연결 교체
      *
-     * @param movieNode TMDB API 응답의 개별 영화 JSON 노드
+     * @param movieNodes TMDB API 응답의 개별 영화 JSON 노드 목록
      * @param isNowPlaying 현재 상영 중인 영화 여부
+     * @param genreIdsByTmdbId TMDB 장르 ID → 로컬 장르 ID 매핑
+     * @param progress 저장한 영화 수 기록
+     * @return 저장된 행 수 (영화 + 장르 연결)
+     */
+    private int writeMovies(List<JsonNode> movieNodes, boolean isNowPlaying, Map<Long, Long> genreIdsByTmdbId,
+                            TmdbSyncProgress progress) {
+        List<MovieRow> rows = new ArrayList<>();
+        Map<Long, Set<Long>> genreIdsByMovieTmdbId = new LinkedHashMap<>();
+
+        for (JsonNode movieNode : movieNodes) {
+            MovieRow row = toMovieRow(movieNode, isNowPlaying);
+            if (row == null) {
+                continue;
+            }
+            rows.add(row);
+
+            JsonNode genreIdsNode = movieNode.get("genre_ids");
+            if (genreIdsNode != null && genreIdsNode.isArray()) {
+                Set<Long> genreIds = new LinkedHashSet<>();
+                for (JsonNode genreIdNode : genreIdsNode) {
+                    Long genreId = genreIdsByTmdbId.get(genreIdNode.asLong());
+                    if (genreId != null) {
+                        genreIds.add(genreId);
+                    }
+                }
+                genreIdsByMovieTmdbId.put(row.tmdbId(), genreIds);
+            }
+        }
+
+        Map<Long, Long> movieIds = bulkUpsertRepository.upsertMovies(rows);
+        progress.recordMoviesUpserted(rows.size());
+        if (!movieIds.isEmpty()) {
+            // 청크 커밋 이후 저장된 영화의 상세 정보 캐시 무효화
+            eventPublisher.publishEvent(new MoviesSyncedEvent(List.copyOf(movieIds.values())));
+        }
+
+        Map<Long, Set<Long>> genreLinks = new HashMap<>();
+        genreIdsByMovieTmdbId.forEach((tmdbId, genreIds) -> {
+            Long movieId = movieIds.get(tmdbId);
+            if (movieId != null) {
+                genreLinks.put(movieId, genreIds);
+            }
+        });
+
+        return rows.size() + bulkUpsertRepository.replaceMovieGenres(genreLinks);
+    }
+
+    /**
+     * 개별 영화 JSON 파싱
+     *
+     * @param movieNode TMDB API 응답의 개별 영화 JSON 노드
+     * @param isNowPlaying 현재 상영 중인 영화 여부 (상세 API처럼 알 수 없으면 null)
+     * @return 영화 기본 정보 (파싱 실패 시 null)
      */
-    private void processMovieData(JsonNode movieNode, boolean isNowPlaying) {
+    private MovieRow toMovieRow(JsonNode movieNode, Boolean isNowPlaying) {
         try {
-            // 1. JSON에서 기본 정보 추출
             Long tmdbId = movieNode.get("id").asLong();
             String title = movieNode.get("title").asText();
             String overview = movieNode.has("overview") ? movieNode.get("overview").asText() : "";
@@ -240,7 +330,7 @@ public class TmdbService {
             String backdropPath = movieNode.has("backdrop_path") && !movieNode.get("backdrop_path").isNull() ?
                     movieNode.get("backdrop_path").asText() : null;
 
-            // 2. 개봉일 파싱 (YYYY-MM-DD 형식)
+            // 개봉일 파싱 (YYYY-MM-DD 형식)
             LocalDate releaseDate = null;
             if (releaseDateStr != null && !releaseDateStr.isEmpty()) {
                 try {
@@ -250,132 +340,197 @@ public class TmdbService {
                 }
             }
 
-            // 3. 기존 영화 찾기 또는 새 영화 생성
-            Movie movie = movieRepository.findByTmdbId(tmdbId).orElse(new Movie());
-
-            // 4. 영화 속성 설정
-            movie.setTmdbId(tmdbId);
-            movie.setTitle(title);
-            movie.setOverview(overview);
-            movie.setReleaseDate(releaseDate);
-            movie.setPopularity(popularity);
-            movie.setVoteAverage(voteAverage);
-            movie.setVoteCount(voteCount);
-            movie.setIsNowPlaying(isNowPlaying);
-
-            // 이미지 경로 설정 (null 체크)
-            if (posterPath != null) {
-                movie.setPosterPath(posterPath);
-            }
-            if (backdropPath != null) {
-                movie.setBackdropPath(backdropPath);
-            }
-
-            // 5. 장르 연결 (TMDB 장르 ID 배열을 Genre 엔티티 리스트로 변환)
-            JsonNode genreIdsNode = movieNode.get("genre_ids");
-            if (genreIdsNode != null && genreIdsNode.isArray()) {
-                List<Genre> genres = new ArrayList<>();
-                for (JsonNode genreIdNode : genreIdsNode) {
-                    Long genreId = genreIdNode.asLong();
-                    genreRepository.findByTmdbId(genreId).ifPresent(genres::add);
-                }
-                movie.setGenres(genres);
-            }
-
-            // 6. 데이터베이스 저장
-            movieRepository.save(movie);
-            log.debug("영화 데이터 처리 완료: {}", title);
+            // 이미지 경로가 null이면 업서트 시 기존 값 유지
+            return new MovieRow(tmdbId, title, overview, releaseDate, popularity, voteAverage, voteCount,
+                    posterPath, backdropPath, isNowPlaying);
 
         } catch (Exception e) {
             log.error("영화 데이터 처리 중 오류 발생", e);
+            return null;
         }
     }
 
     /**
-     * 영화 상세 정보 동기화
+     * 영화 상세 정보 및 출연진 수집
+     * append_to_response로 상세 정보와 출연진을 한 번의 호출로 가져옴
      *
-     * @param movie 상세 정보를 가져올 영화 엔티티
+     * @param target 동기화 대상 영화
+     * @return 수집 결과
      */
-    private void syncMovieDetails(Movie movie) {
-        try {
-            String url = UriComponentsBuilder.fromUriString(baseUrl + "/movie/" + movie.getTmdbId())
-                    .queryParam("api_key", apiKey)
-                    .queryParam("language", "ko-KR")
-                    .toUriString();
-
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode movieNode = objectMapper.readTree(response.getBody());
-
-            // 런타임 정보 추가
-            if (movieNode.has("runtime") && !movieNode.get("runtime").isNull()) {
-                movie.setRuntime(movieNode.get("runtime").asInt());
-            }
-
-            movieRepository.save(movie);
-
-        } catch (Exception e) {
-            log.info("영화 상세 정보 동기화 실패 - TMDB ID: {}", movie.getTmdbId(), e);
-        }
+    private MovieDetailsPayload fetchMovieDetails(SyncTarget target) throws Exception {
+        JsonNode details = tmdbClient.get("/movie/" + target.tmdbId(), Map.of("append_to_response", "credits"));
+        return new MovieDetailsPayload(target.movieId(), details);
     }
 
     /**
-     * 영화 출연진 정보 동기화
-     * 주요 출연진 최대 10명의 정보를 가져와 저장
+     * 영화 상세 정보 및 출연진 일괄 저장
      *
      * 처리 과정:
-     * 1. TMDB /movie/{id}/credits API 호출
-     * 2. 출연진 배열에서 상위 10명 선택
-     * 3. 각 배우의 TMDB ID로 기존 배우 찾기 또는 새로 생성
-     * 4. 배우 정보 업데이트 및 저장
-     * 5. 영화-배우 관계 설정
+     * 1. 상세 정보와 출연진(영화별 상위 10명)에서 내용 해시 계산
+     * 2. 마지막으로 반영한 해시와 같은 영화는 생략
+     * 3. 변경된 영화의 상세 정보 일괄 갱신 (동기화 시각, 해시 기록)
+     * 4. 배우 일괄 업서트 (청크 내 중복 배우는 한 번만 저장)
+     * 5. 영화-장르, 영화-배우 연결 교체
      *
-     * @param movie 출연진 정보를 가져올 영화 엔티티
+     * @param payloads 영화별 상세 정보/출연진 수집 결과
+     * @param genreIdsByTmdbId TMDB 장르 ID → 로컬 장르 ID 매핑
+     * @param stats 처리량 집계 (생략 건수 기록)
+     * @param progress 저장한 영화 수 기록
+     * @return 저장된 행 수 (영화 + 배우 + 연결)
      */
-    private void syncMovieCast(Movie movie) {
-        try {
-            String url = UriComponentsBuilder.fromUriString(baseUrl + "/movie/" + movie.getTmdbId() + "/credits")
-                    .queryParam("api_key", apiKey)
-                    .queryParam("language", "ko-KR")
-                    .toUriString();
+    private int writeMovieDetails(List<MovieDetailsPayload> payloads, Map<Long, Long> genreIdsByTmdbId,
+                                  UpsertStats stats, TmdbSyncProgress progress) {
+        Map<Long, String> storedHashes = bulkUpsertRepository.findContentHashes(
+                payloads.stream().map(MovieDetailsPayload::movieId).toList());
+
+        List<MovieDetailsRow> detailRows = new ArrayList<>();
+        Map<Long, ActorRow> actors = new LinkedHashMap<>();
+        Map<Long, List<Long>> castTmdbIdsByMovieId = new LinkedHashMap<>();
+        Map<Long, Set<Long>> genreLinks = new HashMap<>();
+
+        for (MovieDetailsPayload payload : payloads) {
+            JsonNode movieNode = payload.details();
+            MovieRow movie = toMovieRow(movieNode, null);
+            if (movie == null) {
+                continue;
+            }
 
-            ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-            JsonNode rootNode = objectMapper.readTree(response.getBody());
-            JsonNode castNode = rootNode.get("cast");
+            // 런타임 정보
+            Integer runtime = movieNode.has("runtime") && !movieNode.get("runtime").isNull() ?
+                    movieNode.get("runtime").asInt() : null;
 
-            if (castNode != null && castNode.isArray()) {
-                List<Actor> actors = new ArrayList<>();
+            // 장르 (상세 API는 [{id, name}] 형식)
+            Set<Long> genreTmdbIds = new TreeSet<>();
+            JsonNode genresNode = movieNode.get("genres");
+            if (genresNode != null && genresNode.isArray()) {
+                for (JsonNode genreNode : genresNode) {
+                    genreTmdbIds.add(genreNode.get("id").asLong());
+                }
+            }
 
-                // 주요 출연진만 처리 (최대 10명)
-                int count = 0;
+            // 주요 출연진만 처리 (최대 10명)
+            List<ActorRow> cast = new ArrayList<>();
+            JsonNode creditsNode = movieNode.get("credits");
+            JsonNode castNode = creditsNode != null ? creditsNode.get("cast") : null;
+            if (castNode != null && castNode.isArray()) {
                 for (JsonNode actorNode : castNode) {
-                    if (count >= 10) break;
-
-                    Long tmdbId = actorNode.get("id").asLong();
-                    String name = actorNode.get("name").asText();
-                    String profilePath = actorNode.has("profile_path") && !actorNode.get("profile_path").isNull() ?
-                            actorNode.get("profile_path").asText() : null;
-                    Double popularity = actorNode.has("popularity") ? actorNode.get("popularity").asDouble() : 0.0;
-
-                    // 기존 배우 찾기 또는 새 배우 생성
-                    Actor actor = actorRepository.findByTmdbId(tmdbId).orElse(new Actor());
-                    actor.setTmdbId(tmdbId);
-                    actor.setName(name);
-                    actor.setProfilePath(profilePath);
-                    actor.setPopularity(popularity);
-
-                    actorRepository.save(actor);
-                    actors.add(actor);
-                    count++;
+                    if (cast.size() >= 10) break;
+                    cast.add(toActorRow(actorNode));
                 }
+            }
 
-                // 영화-배우 관계 설정
-                movie.setActors(actors);
-                movieRepository.save(movie);
+            // 내용이 바뀌지 않은 영화는 쓰기 생략
+            String contentHash = contentHash(movie, runtime, genreTmdbIds, cast);
+            if (contentHash.equals(storedHashes.get(payload.movieId()))) {
+                stats.skip();
+                continue;
             }
 
-        } catch (Exception e) {
-            log.error("영화 출연진 정보 동기화 실패 - TMDB ID: {}", movie.getTmdbId(), e);
+            detailRows.add(new MovieDetailsRow(payload.movieId(), movie, runtime, contentHash));
+
+            if (genresNode != null && genresNode.isArray()) {
+                Set<Long> genreIds = new LinkedHashSet<>();
+                for (Long genreTmdbId : genreTmdbIds) {
+                    Long genreId = genreIdsByTmdbId.get(genreTmdbId);
+                    if (genreId != null) {
+                        genreIds.add(genreId);
+                    }
+                }
+                genreLinks.put(payload.movieId(), genreIds);
+            }
+
+            if (castNode != null && castNode.isArray()) {
+                List<Long> castTmdbIds = new ArrayList<>();
+                for (ActorRow actor : cast) {
+                    actors.put(actor.tmdbId(), actor);
+                    castTmdbIds.add(actor.tmdbId());
+                }
+                castTmdbIdsByMovieId.put(payload.movieId(), castTmdbIds);
+            }
+        }
+
+        if (detailRows.isEmpty()) {
+            return 0;
         }
+
+        bulkUpsertRepository.updateMovieDetails(detailRows);
+        progress.recordMoviesUpserted(detailRows.size());
+        eventPublisher.publishEvent(new MoviesSyncedEvent(detailRows.stream().map(MovieDetailsRow::movieId).toList()));
+        Map<Long, Long> actorIds = bulkUpsertRepository.upsertActors(actors.values());
+
+        Map<Long, Set<Long>> actorLinks = new HashMap<>();
+        castTmdbIdsByMovieId.forEach((movieId, castTmdbIds) -> {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Long tmdbId : castTmdbIds) {
+                Long actorId = actorIds.get(tmdbId);
+                if (actorId != null) {
+                    ids.add(actorId);
+                }
+            }
+            actorLinks.put(movieId, ids);
+        });
+
+        return detailRows.size() + actors.size()
+                + bulkUpsertRepository.replaceMovieGenres(genreLinks)
+                + bulkUpsertRepository.replaceMovieActors(actorLinks);
+    }
+
+    /**
+     * 상세 정보 내용 해시 (SHA-256)
+     * 매일 변동하는 인기도(영화, 배우)는 제외하여 실제 내용이 바뀐 경우에만 쓰기가 일어나도록 함
+     * 인기도는 목록 동기화(인기 영화, 현재 상영작)에서 갱신
+     */
+    private String contentHash(MovieRow movie, Integer runtime, Set<Long> genreTmdbIds, List<ActorRow> cast) {
+        StringBuilder content = new StringBuilder()
+                .append(movie.title()).append('\u001f')
+                .append(movie.overview()).append('\u001f')
+                .append(movie.releaseDate()).append('\u001f')
+                .append(movie.voteAverage()).append('\u001f')
+                .append(movie.voteCount()).append('\u001f')
+                .append(movie.posterPath()).append('\u001f')
+                .append(movie.backdropPath()).append('\u001f')
+                .append(runtime).append('\u001f')
+                .append(genreTmdbIds);
+        for (ActorRow actor : cast) {
+            content.append('\u001e')
+                    .append(actor.tmdbId()).append('\u001f')
+                    .append(actor.name()).append('\u001f')
+                    .append(actor.profilePath());
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private ActorRow toActorRow(JsonNode actorNode) {
+        Long tmdbId = actorNode.get("id").asLong();
+        String name = actorNode.get("name").asText();
+        String profilePath = actorNode.has("profile_path") && !actorNode.get("profile_path").isNull() ?
+                actorNode.get("profile_path").asText() : null;
+        Double popularity = actorNode.has("popularity") ? actorNode.get("popularity").asDouble() : 0.0;
+        return new ActorRow(tmdbId, name, profilePath, popularity);
+    }
+
+    /**
+     * 상세 정보 동기화 대상 영화
+     *
+     * @param movieId 로컬 DB의 영화 ID
+     * @param tmdbId TMDB 영화 ID
+     */
+    private record SyncTarget(Long movieId, Long tmdbId) {
+    }
+
+    /**
+     * 영화 한 편의 상세 정보와 출연진 수집 결과
+     *
+     * @param movieId 로컬 DB의 영화 ID
+     * @param details TMDB /movie/{id}?append_to_response=credits 응답
+     */
+    private record MovieDetailsPayload(Long movieId, JsonNode details) {
     }
 
     /**
@@ -385,37 +540,308 @@ public class TmdbService {
      * 1. 장르 동기화 (필수 선행 작업)
      * 2. 인기 영화 동기화 (10페이지 = 약 200개 영화)
      * 3. 현재 상영 영화 동기화 (5페이지 = 약 100개 영화)
-     * 4. 모든 영화의 상세 정보 및 출연진 동기화
+     * 4. 모든 영화의 상세 정보 및 출연진 동기화 (병렬 수집, 청크 단위 커밋)
+     *
+     * 전체를 하나의 트랜잭션으로 묶지 않으므로 중간에 실패하더라도 이미 커밋된 청크는 유지됨
      */
-    @Transactional
     public void syncAllData() {
+        syncAllData(new TmdbSyncProgress());
+    }
+
+    /**
+     * 전체 데이터 동기화 (진행 상황 기록)
+     *
+     * @param progress 진행 상황 기록 및 취소 요청 확인
+     * @throws java.util.concurrent.CancellationException 실행 중 취소가 요청된 경우
+     */
+    public void syncAllData(TmdbSyncProgress progress) {
         log.info("TMDB 전체 데이터 동기화 시작");
 
         // 1단계: 장르 동기화 (영화-장르 매핑을 위해 선행되어야 함)
         syncGenres();
 
         // 2단계: 인기 영화 동기화 (10페이지 = 최대 200개)
-        syncPopularMovies(10);
+        syncPopularMovies(10, progress);
 
         // 3단계: 현재 상영 중인 영화 동기화 (5페이지 = 최대 100개)
-        syncNowPlayingMovies(5);
+        syncNowPlayingMovies(5, progress);
+
+        // 4단계: 모든 영화의 추가 정보 동기화 (내용이 바뀌지 않은 영화는 쓰기 생략)
+        LocalDateTime startedAt = LocalDateTime.now();
+        if (syncMovieDetails(toSyncTargets(movieRepository.findTmdbSyncTargets()), "details", progress)) {
+            saveDetailsWatermark(startedAt);
+        }
+
+        log.info("TMDB 전체 데이터 동기화 완료");
+        eventPublisher.publishEvent(new TmdbSyncCompletedEvent("all"));
+    }
+
+    /**
+     * 증분 동기화
+     * 마지막 동기화 이후 TMDB에서 변경된 영화와 상세 정보를 아직 받지 않은 영화만 다시 수집
+     * 재동기화 비용이 전체 영화 수가 아니라 변경된 영화 수에 비례
+     *
+     * 실행 순서:
+     * 1. 인기 영화, 현재 상영작 목록 동기화 (변경 없는 행은 갱신 생략)
+     * 2. TMDB 변경 목록(/movie/changes)에서 변경된 영화 ID 수집
+     * 3. 로컬에 저장된 변경 영화 + 상세 정보 미수집 영화의 상세 정보/출연진 동기화
+     *
+     * 동기화 이력이 없으면 변경 목록 없이 상세 정보 미수집 영화만 처리 (사실상 전체 동기화)
+     * 변경 목록을 끝까지 읽지 못하면 예외로 종료하고 기준 시각을 유지하여 다음 실행에서 같은 기간을 다시 조회
+     * 직전 실행에서 실패한 영화는 재시도 목록에서 읽어 대상에 포함
+     */
+    public void syncChangedMovies() {
+        syncChangedMovies(new TmdbSyncProgress());
+    }
+
+    /**
+     * 증분 동기화 (진행 상황 기록)
+     *
+     * @param progress 진행 상황 기록 및 취소 요청 확인
+     * @throws java.util.concurrent.CancellationException 실행 중 취소가 요청된 경우
+     */
+    public void syncChangedMovies(TmdbSyncProgress progress) {
+        log.info("TMDB 증분 동기화 시작");
+
+        syncPopularMovies(10, progress);
+        syncNowPlayingMovies(5, progress);
 
-        // 4단계: 모든 영화의 추가 정보 동기화
-        List<Movie> movies = movieRepository.findAll();
-        for (Movie movie : movies) {
-            if (movie.getTmdbId() != null) {
-                syncMovieDetailsAndCast(movie.getId());
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = loadDetailsWatermark();
+        if (since == null) {
+            since = movieRepository.findLatestTmdbSyncedAt();
+        }
+
+        Map<Long, SyncTarget> targets = new LinkedHashMap<>();
+        toSyncTargets(movieRepository.findUnsyncedTmdbSyncTargets()).forEach(target -> targets.put(target.movieId(), target));
+
+        Set<Long> retryTmdbIds = loadRetryTmdbIds();
+        Set<Long> tmdbIds = new LinkedHashSet<>(retryTmdbIds);
+        if (since != null) {
+            tmdbIds.addAll(fetchChangedMovieIds(since, progress));
+        }
+        if (!tmdbIds.isEmpty()) {
+            List<Long> changedTmdbIds = new ArrayList<>(tmdbIds);
+            for (int from = 0; from < changedTmdbIds.size(); from += TMDB_ID_BATCH_SIZE) {
+                List<Long> batch = changedTmdbIds.subList(from, Math.min(from + TMDB_ID_BATCH_SIZE, changedTmdbIds.size()));
+                toSyncTargets(movieRepository.findTmdbSyncTargetsByTmdbIds(batch))
+                        .forEach(target -> targets.put(target.movieId(), target));
+            }
+        }
+
+        log.info("TMDB 증분 동기화 대상 - {}건 (기준 시각: {}, 재시도: {}건)", targets.size(), since, retryTmdbIds.size());
+        if (syncMovieDetails(new ArrayList<>(targets.values()), "changes", progress)) {
+            saveDetailsWatermark(startedAt);
+        }
 
+        log.info("TMDB 증분 동기화 완료");
+        eventPublisher.publishEvent(new TmdbSyncCompletedEvent("incremental"));
+    }
+
+    /**
+     * TMDB 변경 목록에서 기준 시각 이후 변경된 영화 ID 수집
+     * TMDB는 최대 14일 범위만 조회할 수 있으므로 그보다 오래된 기준 시각은 잘라냄
+     * 페이지 수 제한에 걸리지 않도록 하루 단위로 나누어 조회하며, 모든 페이지를 읽은 경우에만 결과 반환
+     *
+     * @param since 기준 시각
+     * @param progress 취소 요청 확인
+     * @return 변경된 TMDB 영화 ID 집합
+     * @throws IllegalStateException 변경 목록 조회에 실패했거나 하루치 변경이 페이지 수 제한을 넘는 경우
+     * @throws java.util.concurrent.CancellationException 실행 중 취소되거나 인터럽트된 경우
+     */
+    private Set<Long> fetchChangedMovieIds(LocalDateTime since, TmdbSyncProgress progress) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate = since.minusHours(CHANGES_OVERLAP_HOURS).toLocalDate();
+        LocalDate earliest = endDate.minusDays(CHANGES_MAX_DAYS - 1);
+        if (startDate.isBefore(earliest)) {
+            log.warn("마지막 동기화가 {}일보다 오래되어 그 이전 변경은 반영되지 않습니다. 전체 동기화를 권장합니다.", CHANGES_MAX_DAYS);
+            startDate = earliest;
+        }
+
+        Set<Long> changedIds = new LinkedHashSet<>();
+        for (LocalDate day = startDate; !day.isAfter(endDate); day = day.plusDays(1)) {
+            int totalPages = 1;
+            for (int page = 1; page <= totalPages; page++) {
+                progress.throwIfCancelled();
+                JsonNode rootNode;
                 try {
-                    Thread.sleep(40); // API 호출 제한 고려
+                    rootNode = tmdbClient.get("/movie/changes", Map.of(
+                            "start_date", day.toString(),
+                            "end_date", day.toString(),
+                            "page", page));
+
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
-                    break;
+                    throw new CancellationException("TMDB 변경 목록 조회 중 중단되었습니다.");
+
+                } catch (Exception e) {
+                    throw new IllegalStateException("TMDB 변경 목록 조회 실패 - 날짜: " + day + ", 페이지: " + page, e);
+                }
+
+                totalPages = rootNode.path("total_pages").asInt(1);
+                if (totalPages > CHANGES_MAX_PAGES) {
+                    throw new IllegalStateException("TMDB 변경 목록이 조회 가능한 페이지 수를 넘습니다 - 날짜: "
+                            + day + ", 페이지 수: " + totalPages + " (전체 동기화 필요)");
+                }
+
+                for (JsonNode changeNode : rootNode.path("results")) {
+                    changedIds.add(changeNode.get("id").asLong());
                 }
             }
         }
 
-        log.info("TMDB 전체 데이터 동기화 완료");
+        log.info("TMDB 변경 목록 조회 완료 - {} ~ {}: {}건", startDate, endDate, changedIds.size());
+        return changedIds;
+    }
+
+    /**
+     * 저장된 증분 동기화 기준 시각 조회
+     *
+     * @return 마지막 상세 정보 동기화 시작 시각, 기록이 없거나 Redis 장애 시 null
+     */
+    private LocalDateTime loadDetailsWatermark() {
+        try {
+            String value = redisTemplate.opsForValue().get(DETAILS_WATERMARK_KEY);
+            return value != null ? LocalDateTime.parse(value) : null;
+        } catch (Exception e) {
+            log.warn("증분 동기화 기준 시각 조회 실패 (영화별 동기화 시각 사용) - 오류: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 재시도할 TMDB 영화 ID 조회
+     *
+     * @return 직전 동기화에서 실패한 TMDB 영화 ID (기록이 없거나 Redis 장애 시 빈 집합)
+     */
+    private Set<Long> loadRetryTmdbIds() {
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(DETAILS_RETRY_KEY);
+            if (members == null) {
+                return Set.of();
+            }
+            return members.stream().map(Long::valueOf).collect(Collectors.toCollection(LinkedHashSet::new));
+        } catch (Exception e) {
+            log.warn("TMDB 재시도 목록 조회 실패 - 오류: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    /**
+     * 재시도 목록을 이번 동기화에서 실패한 영화로 교체
+     *
+     * @param failedTmdbIds 이번 동기화에서 실패한 TMDB 영화 ID
+     * @return 저장 성공 여부
+     */
+    private boolean saveRetryTmdbIds(Set<Long> failedTmdbIds) {
+        try {
+            redisTemplate.delete(DETAILS_RETRY_KEY);
+            if (!failedTmdbIds.isEmpty()) {
+                redisTemplate.opsForSet().add(DETAILS_RETRY_KEY,
+                        failedTmdbIds.stream().map(String::valueOf).toArray(String[]::new));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("TMDB 재시도 목록 저장 실패 - {}건, 오류: {}", failedTmdbIds.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 증분 동기화 기준 시각 저장 (대상 기간을 모두 처리한 뒤에만 호출)
+     * 저장에 실패하면 다음 실행은 영화별 최근 동기화 시각을 기준으로 하므로 변경이 누락되지 않음
+     *
+     * @param startedAt 이번 동기화 시작 시각
+     */
+    private void saveDetailsWatermark(LocalDateTime startedAt) {
+        try {
+            redisTemplate.opsForValue().set(DETAILS_WATERMARK_KEY, startedAt.toString());
+        } catch (Exception e) {
+            log.warn("증분 동기화 기준 시각 저장 실패 - 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 영화 상세 정보 및 출연진 병렬 동기화
+     * 영화별 상세 API를 수집 스레드에서 호출하고, 반영은 청크 단위 트랜잭션에서 처리
+     * 수집 또는 저장에 실패한 영화는 재시도 목록에 기록하여 다음 증분 동기화에서 다시 처리
+     *
+     * @param targets 동기화 대상 영화 목록
+     * @param name 파이프라인 이름
+     * @param progress 진행 상황 기록 및 취소 요청 확인
+     * @return 실패한 영화가 없거나 모두 재시도 목록에 기록된 경우 true (증분 동기화 기준 시각을 진행해도 됨)
+     */
+    private boolean syncMovieDetails(List<SyncTarget> targets, String name, TmdbSyncProgress progress) {
+        // 장르 매핑은 동기화마다 한 번만 조회
+        Map<Long, Long> genreIdsByTmdbId = bulkUpsertRepository.findGenreIdsByTmdbId();
+        UpsertStats stats = new UpsertStats();
+        Map<Long, Long> tmdbIdsByMovieId = new HashMap<>();
+        targets.forEach(target -> tmdbIdsByMovieId.put(target.movieId(), target.tmdbId()));
+        Set<Long> failedTmdbIds = ConcurrentHashMap.newKeySet();
+
+        TmdbIngestionPipeline.Fetcher<SyncTarget, MovieDetailsPayload> fetcher = target -> {
+            try {
+                return fetchMovieDetails(target);
+            } catch (Exception e) {
+                failedTmdbIds.add(target.tmdbId());
+                throw e;
+            }
+        };
+
+        TmdbIngestionPipeline.Result result = ingestionPipeline.run(name, targets, fetcher,
+                chunk -> {
+                    try {
+                        stats.measure(() -> writeMovieDetails(chunk, genreIdsByTmdbId, stats, progress));
+                    } catch (RuntimeException e) {
+                        chunk.forEach(payload -> failedTmdbIds.add(tmdbIdsByMovieId.get(payload.movieId())));
+                        throw e;
+                    }
+                },
+                progress);
+
+        stats.report(name);
+
+        if (result.failed() > failedTmdbIds.size()) {
+            // 커밋 실패 등 어떤 영화가 실패했는지 알 수 없는 경우 기준 시각을 유지하여 같은 기간을 다시 조회
+            log.warn("TMDB 상세 동기화 실패 영화를 특정할 수 없어 기준 시각을 유지합니다 - {}: 실패 {}건", name, result.failed());
+            return false;
+        }
+        if (!failedTmdbIds.isEmpty()) {
+            log.warn("TMDB 상세 동기화 실패 영화 {}건을 다음 증분 동기화에서 다시 처리합니다 - {}", failedTmdbIds.size(), name);
+        }
+        return saveRetryTmdbIds(failedTmdbIds);
+    }
+
+    private List<SyncTarget> toSyncTargets(List<Object[]> rows) {
+        return rows.stream()
+                .map(row -> new SyncTarget((Long) row[0], (Long) row[1]))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 일괄 업서트 처리량 집계 (저장 단계는 호출 스레드 하나에서만 실행되므로 동기화 불필요)
+     */
+    private static final class UpsertStats {
+
+        private long rows;
+        private long skipped;
+        private long nanos;
+
+        void measure(IntSupplier write) {
+            long start = System.nanoTime();
+            rows += write.getAsInt();
+            nanos += System.nanoTime() - start;
+        }
+
+        void skip() {
+            skipped++;
+        }
+
+        void report(String name) {
+            double rowsPerSecond = nanos > 0 ? rows * 1_000_000_000.0 / nanos : 0.0;
+            log.info("TMDB 일괄 업서트 - {}: {}행, 변경 없음 {}건, 저장 소요 시간 {}ms, {}행/초",
+                    name, rows, skipped, nanos / 1_000_000, String.format("%.1f", rowsPerSecond));
+        }
     }
 
     /**
@@ -0,0 +1,10 @@
+package com.moviebuddies.service;
+
+/**
+ * TMDB 데이터 동기화 완료 이벤트
+ * 동기화 트랜잭션 커밋 이후 자동완성 인덱스 갱신 등 후속 작업을 트리거하기 위해 발행
+ *
+ * @param source 동기화 종류 (popular, now-playing, details, all 등)
+ */
+public record TmdbSyncCompletedEvent(String source) {
+}
@@ -0,0 +1,92 @@
+package com.moviebuddies.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * TMDB 동기화 작업
+ *
+ * 관리자 API로 요청된 동기화 한 건의 상태와 진행 상황을 보관
+ * 상태는 작업 실행 스레드에서만 변경하고, 조회 스레드는 volatile 필드와 TmdbSyncProgress를 통해 읽음
+ */
+@Getter
+public class TmdbSyncJob {
+
+    /**
+     * 동기화 작업 종류
+     */
+    public enum Type {
+        /** 전체 동기화 (장르, 목록, 전체 영화 상세 정보) */
+        ALL,
+        /** 증분 동기화 (목록, 변경된 영화 상세 정보) */
+        CHANGES
+    }
+
+    /**
+     * 동기화 작업 상태
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Type type;
+    private final TmdbSyncProgress progress = new TmdbSyncProgress();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String errorMessage;
+
+    public TmdbSyncJob(Type type) {
+        this.type = type;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markCompleted() {
+        finish(Status.COMPLETED, null);
+    }
+
+    void markCancelled() {
+        finish(Status.CANCELLED, null);
+    }
+
+    void markFailed(String errorMessage) {
+        finish(Status.FAILED, errorMessage);
+    }
+
+    private void finish(Status finalStatus, String message) {
+        finishedAt = LocalDateTime.now();
+        errorMessage = message;
+        status = finalStatus;
+    }
+
+    /**
+     * @return 초당 처리 건수 (실행 시작 이후 수집 성공 + 실패 기준)
+     */
+    public double getThroughput() {
+        LocalDateTime start = startedAt;
+        if (start == null) {
+            return 0.0;
+        }
+        LocalDateTime end = finishedAt != null ? finishedAt : LocalDateTime.now();
+        long elapsedMillis = Duration.between(start, end).toMillis();
+        return elapsedMillis > 0 ? progress.getProcessed() * 1000.0 / elapsedMillis : 0.0;
+    }
+}
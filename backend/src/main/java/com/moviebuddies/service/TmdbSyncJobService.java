@@ -0,0 +1,209 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * TMDB 동기화 작업 관리 서비스
+ *
+ * 관리자 API의 동기화 요청을 전용 단일 스레드 실행기에서 백그라운드로 실행하고 작업 ID를 즉시 반환
+ * 클라이언트는 작업 ID로 진행 상황(단계별 수집 건수, 저장한 영화 수, 오류 수, 처리량)을 조회하거나 취소할 수 있음
+ *
+ * - 동시에 하나의 동기화만 실행 (진행 중인 작업이 있으면 새 요청은 409 Conflict)
+ * - 작업 이력은 메모리에 최근 MAX_RETAINED_JOBS건만 보관 (서버 재시작 시 초기화)
+ * - 주기적 증분 동기화도 같은 경로로 실행되어 관리자 요청과 중복 실행되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TmdbSyncJobService {
+
+    /**
+     * 메모리에 보관하는 작업 이력 수 (종료된 작업부터 오래된 순으로 제거)
+     */
+    private static final int MAX_RETAINED_JOBS = 50;
+
+    private final TmdbService tmdbService;
+
+    private final Map<String, TmdbSyncJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<TmdbSyncJob> activeJob = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tmdb-sync-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${tmdb.incremental-sync.enabled:true}")
+    private boolean incrementalSyncEnabled;
+
+    /**
+     * 동기화 작업 등록 및 백그라운드 실행
+     *
+     * @param type 동기화 작업 종류
+     * @return 등록된 작업 (대기 상태)
+     * @throws BusinessException 진행 중인 동기화 작업이 있는 경우 (409)
+     */
+    public TmdbSyncJob submit(TmdbSyncJob.Type type) {
+        TmdbSyncJob job = new TmdbSyncJob(type);
+
+        if (!activeJob.compareAndSet(null, job)) {
+            TmdbSyncJob running = activeJob.get();
+            throw BusinessException.conflict("이미 진행 중인 TMDB 동기화 작업이 있습니다. 작업 ID: "
+                    + (running != null ? running.getId() : "-"));
+        }
+
+        jobs.put(job.getId(), job);
+        pruneFinishedJobs();
+
+        try {
+            executor.execute(() -> execute(job));
+        } catch (RuntimeException e) {
+            activeJob.compareAndSet(job, null);
+            job.markFailed(e.getMessage());
+            throw BusinessException.internalServerError("TMDB 동기화 작업을 시작할 수 없습니다.");
+        }
+
+        log.info("TMDB 동기화 작업 등록 - ID: {}, 종류: {}", job.getId(), type);
+        return job;
+    }
+
+    /**
+     * 동기화 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업
+     * @throws ResourceNotFoundException 작업이 없는 경우
+     */
+    public TmdbSyncJob getJob(String jobId) {
+        TmdbSyncJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("동기화 작업", "작업 ID", jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 최근 동기화 작업 목록
+     *
+     * @return 최근 등록 순 작업 목록
+     */
+    public List<TmdbSyncJob> getRecentJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing(TmdbSyncJob::getCreatedAt).reversed())
+                .toList();
+    }
+
+    /**
+     * 동기화 작업 취소 요청
+     * 실행 중인 작업은 진행 중인 청크 저장이 끝난 뒤 남은 수집을 멈추고 취소 상태로 종료
+     * 이미 커밋된 청크는 되돌리지 않음
+     *
+     * @param jobId 작업 ID
+     * @return 취소 요청된 작업
+     * @throws ResourceNotFoundException 작업이 없는 경우
+     * @throws BusinessException 이미 종료된 경우 (409)
+     */
+    public TmdbSyncJob cancel(String jobId) {
+        TmdbSyncJob job = getJob(jobId);
+        if (job.getStatus().isFinished()) {
+            throw BusinessException.conflict("이미 종료된 동기화 작업입니다. 상태: " + job.getStatus());
+        }
+
+        job.getProgress().cancel();
+        log.info("TMDB 동기화 작업 취소 요청 - ID: {}", jobId);
+        return job;
+    }
+
+    /**
+     * 주기적 증분 동기화
+     * tmdb.incremental-sync.enabled가 false이면 실행하지 않음
+     * 관리자 요청으로 동기화가 진행 중이면 이번 주기는 건너뜀
+     */
+    @Scheduled(cron = "${tmdb.incremental-sync.cron:0 0 */6 * * *}")
+    public void scheduledIncrementalSync() {
+        if (!incrementalSyncEnabled) {
+            return;
+        }
+
+        try {
+            submit(TmdbSyncJob.Type.CHANGES);
+        } catch (BusinessException e) {
+            log.info("TMDB 주기적 증분 동기화 건너뜀 - {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        TmdbSyncJob job = activeJob.get();
+        if (job != null) {
+            job.getProgress().cancel();
+        }
+        executor.shutdownNow();
+    }
+
+    /**
+     * 작업 실행 (전용 실행기 스레드)
+     */
+    private void execute(TmdbSyncJob job) {
+        try {
+            job.getProgress().throwIfCancelled();
+            job.markRunning();
+            log.info("TMDB 동기화 작업 시작 - ID: {}, 종류: {}", job.getId(), job.getType());
+
+            switch (job.getType()) {
+                case ALL -> tmdbService.syncAllData(job.getProgress());
+                case CHANGES -> tmdbService.syncChangedMovies(job.getProgress());
+            }
+
+            job.markCompleted();
+            log.info("TMDB 동기화 작업 완료 - ID: {}, 저장한 영화 수: {}, 오류: {}건, 처리량: {}건/초",
+                    job.getId(), job.getProgress().getMoviesUpserted(), job.getProgress().getErrors(),
+                    String.format("%.1f", job.getThroughput()));
+
+        } catch (CancellationException e) {
+            job.markCancelled();
+            log.warn("TMDB 동기화 작업 취소됨 - ID: {}, 저장한 영화 수: {}",
+                    job.getId(), job.getProgress().getMoviesUpserted());
+
+        } catch (Exception e) {
+            job.markFailed(e.getMessage());
+            log.error("TMDB 동기화 작업 실패 - ID: {}", job.getId(), e);
+
+        } finally {
+            activeJob.compareAndSet(job, null);
+        }
+    }
+
+    /**
+     * 보관 한도를 넘으면 종료된 작업을 오래된 순으로 제거
+     */
+    private void pruneFinishedJobs() {
+        int excess = jobs.size() - MAX_RETAINED_JOBS;
+        if (excess <= 0) {
+            return;
+        }
+
+        jobs.values().stream()
+                .filter(job -> job.getStatus().isFinished())
+                .sorted(Comparator.comparing(TmdbSyncJob::getCreatedAt))
+                .limit(excess)
+                .map(TmdbSyncJob::getId)
+                .toList()
+                .forEach(jobs::remove);
+    }
+}
@@ -0,0 +1,146 @@
+package com.moviebuddies.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TMDB 동기화 진행 상황 및 취소 요청
+ *
+ * 동기화를 실행하는 스레드와 수집 스레드가 함께 갱신하고, 관리자 API가 조회 스레드에서 읽음
+ * 단계(stage)는 수집 파이프라인 하나에 대응 (popular, now-playing, details, changes 등)
+ */
+public class TmdbSyncProgress {
+
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final AtomicLong moviesUpserted = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+
+    private volatile String currentStage;
+    private volatile boolean cancelled;
+
+    /**
+     * 단계별 진행 상황
+     *
+     * @param name 단계 이름
+     * @param total 전체 수집 대상 수
+     * @param fetched 수집 완료 수
+     * @param failed 수집 실패 수
+     */
+    public record StageSnapshot(String name, int total, int fetched, int failed) {
+    }
+
+    private static final class Stage {
+        private final int total;
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private Stage(int total) {
+            this.total = total;
+        }
+    }
+
+    /**
+     * 새 단계 시작
+     *
+     * @param name 단계 이름
+     * @param total 전체 수집 대상 수
+     */
+    public void startStage(String name, int total) {
+        synchronized (stages) {
+            stages.put(name, new Stage(total));
+        }
+        currentStage = name;
+    }
+
+    /**
+     * 수집 성공 1건 기록
+     */
+    public void recordFetched(String stage) {
+        Stage current = stage(stage);
+        if (current != null) {
+            current.fetched.incrementAndGet();
+        }
+    }
+
+    /**
+     * 수집 또는 저장 실패 기록
+     */
+    public void recordFailed(String stage, int count) {
+        Stage current = stage(stage);
+        if (current != null) {
+            current.failed.addAndGet(count);
+        }
+        errors.addAndGet(count);
+    }
+
+    /**
+     * 저장한 영화 수 기록
+     */
+    public void recordMoviesUpserted(int count) {
+        moviesUpserted.addAndGet(count);
+    }
+
+    /**
+     * 취소 요청
+     * 실행 중인 파이프라인은 다음 확인 시점에 수집을 멈추고 CancellationException으로 종료
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 취소가 요청된 경우 CancellationException 발생
+     * 단계 사이에서 호출하여 남은 단계를 건너뜀
+     */
+    public void throwIfCancelled() {
+        if (cancelled) {
+            throw new CancellationException("TMDB 동기화가 취소되었습니다.");
+        }
+    }
+
+    public String getCurrentStage() {
+        return currentStage;
+    }
+
+    public long getMoviesUpserted() {
+        return moviesUpserted.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    /**
+     * @return 전체 단계의 처리 건수 (수집 성공 + 실패)
+     */
+    public long getProcessed() {
+        return getStages().stream().mapToLong(stage -> stage.fetched() + stage.failed()).sum();
+    }
+
+    /**
+     * @return 단계별 진행 상황 (시작 순서)
+     */
+    public List<StageSnapshot> getStages() {
+        List<StageSnapshot> snapshots = new ArrayList<>();
+        synchronized (stages) {
+            stages.forEach((name, stage) ->
+                    snapshots.add(new StageSnapshot(name, stage.total, stage.fetched.get(), stage.failed.get())));
+        }
+        return snapshots;
+    }
+
+    private Stage stage(String name) {
+        synchronized (stages) {
+            return stages.get(name);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.moviebuddies.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 방식의 요청 속도 제한기
+ *
+ * 초당 refillPerSecond개의 토큰이 채워지며 최대 capacity개까지 누적 (순간 버스트 허용)
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드를 대기시킴
+ * 여러 수집 스레드가 하나의 버킷을 공유하여 전체 호출 속도를 외부 API 제한 이하로 유지
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /**
+     * @param refillPerSecond 초당 보충되는 토큰 수
+     * @param capacity 최대 누적 토큰 수 (버스트 크기)
+     */
+    TokenBucket(double refillPerSecond, int capacity) {
+        if (refillPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("토큰 버킷 설정값은 0보다 커야 합니다.");
+        }
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 (토큰이 없으면 대기)
+     *
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                waitNanos = (long) Math.ceil((1 - tokens) / refillPerNano);
+            }
+            // 잠금 밖에서 대기하여 다른 스레드의 토큰 계산을 막지 않음
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MICROSECONDS.toNanos(100)));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
@@ -0,0 +1,10 @@
+package com.moviebuddies.service;
+
+/**
+ * 사용자 계정 변경 이벤트
+ * 비밀번호 변경, 계정 비활성화 등 인증 정보가 바뀐 경우 트랜잭션 커밋 이후 인증 주체 캐시를 무효화하기 위해 발행
+ *
+ * @param userId 변경된 사용자 ID
+ */
+public record UserAccountChangedEvent(Long userId) {
+}
@@ -0,0 +1,196 @@
+package com.moviebuddies.service;
+
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.security.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 회원가입 중복 확인용 사용자 식별 정보 인덱스
+ *
+ * 사용자명/이메일/닉네임별 블룸 필터를 메모리에 유지하여 가입 폼의 입력마다 호출되는 중복 확인을
+ * 데이터베이스 조회 없이 처리
+ *
+ * - 필터에 "없음"이면 확실히 사용 가능하므로 바로 응답
+ * - "있을 수 있음"(실제 사용 중 또는 오탐)일 때만 데이터베이스에서 확인
+ * - 애플리케이션 기동 완료 후 비동기로 구축하며, 구축 전에는 항상 데이터베이스에서 확인
+ *
+ * 갱신:
+ * - 회원가입/프로필 변경 커밋 후 새 값을 추가하고 Redis pub/sub으로 다른 노드에도 추가
+ * - 블룸 필터는 삭제를 지원하지 않으므로 변경 전 값은 남아 오탐이 늘어남 → 주기적으로 전체 재구축
+ * - 재구축 중 추가된 값은 새 필터에도 함께 기록하여 교체 시 유실 방지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAvailabilityIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * 중복 확인 대상 필드
+     */
+    public enum Field {
+        USERNAME, EMAIL, NICKNAME
+    }
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 필드별 최소 예상 원소 수 (가입자 수의 2배와 비교해 큰 값으로 필터 크기 결정)
+     */
+    @Value("${user.availability-index.min-expected-insertions:100000}")
+    private long minExpectedInsertions;
+
+    @Value("${user.availability-index.channel:user:identifier-added}")
+    private String channel;
+
+    private volatile Map<Field, BloomFilter> filters;
+    private volatile Map<Field, BloomFilter> building;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.indexOf('|');
+            try {
+                addLocal(Field.valueOf(body.substring(0, separator)), body.substring(separator + 1));
+            } catch (RuntimeException e) {
+                log.warn("잘못된 사용자 식별 정보 추가 메시지: {}", body);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    /**
+     * 애플리케이션 기동 후 인덱스 구축
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 인덱스 전체 재구축
+     * 변경 전 값으로 늘어난 오탐을 정리하고 가입자 증가에 맞춰 필터 크기를 조정
+     * 이미 재구축 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${user.availability-index.rebuild-interval-ms:21600000}",
+            initialDelayString = "${user.availability-index.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+
+            // 조회 이후 추가되는 값도 새 필터에 기록되도록 조회 전에 새 필터를 먼저 등록
+            long expectedInsertions = Math.max(minExpectedInsertions, userRepository.count() * 2);
+            Map<Field, BloomFilter> next = new EnumMap<>(Field.class);
+            for (Field field : Field.values()) {
+                next.put(field, new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE));
+            }
+            building = next;
+
+            List<Object[]> rows = userRepository.findAvailabilityIndexRows();
+            for (Object[] row : rows) {
+                next.get(Field.USERNAME).put((String) row[0]);
+                next.get(Field.EMAIL).put((String) row[1]);
+                next.get(Field.NICKNAME).put((String) row[2]);
+            }
+
+            filters = next;
+            log.info("사용자 식별 정보 인덱스 구축 완료 - 사용자 {}명, 필드당 {}KB, {}ms", rows.size(),
+                    next.get(Field.USERNAME).sizeInBytes() / 1024, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            log.error("사용자 식별 정보 인덱스 구축 실패", e);
+        } finally {
+            building = null;
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 값이 이미 사용 중일 수 있는지 확인
+     *
+     * @param field 확인할 필드
+     * @param value 확인할 값
+     * @return false면 확실히 사용 가능, true면 데이터베이스 확인 필요 (인덱스 구축 전에도 true)
+     */
+    public boolean mightExist(Field field, String value) {
+        Map<Field, BloomFilter> current = filters;
+        boolean mightExist = current == null || value == null || current.get(field).mightContain(value);
+
+        meterRegistry.counter("user.availability.checks",
+                "field", field.name().toLowerCase(), "source", mightExist ? "db" : "index").increment();
+        return mightExist;
+    }
+
+    /**
+     * 사용자 계정 변경(프로필 수정 등) 커밋 후 변경된 닉네임/이메일 추가
+     *
+     * @param event 사용자 계정 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        userRepository.findById(event.userId()).ifPresent(user -> {
+            add(Field.EMAIL, user.getEmail());
+            add(Field.NICKNAME, user.getNickname());
+        });
+    }
+
+    /**
+     * 새로 사용된 값 추가 (이 노드와 다른 노드)
+     * 커밋 전에 추가되거나 트랜잭션이 롤백되어도 오탐이 하나 늘어날 뿐 결과는 정확함
+     *
+     * @param field 필드
+     * @param value 추가할 값 (null이면 무시)
+     */
+    public void add(Field field, String value) {
+        if (value == null) {
+            return;
+        }
+
+        addLocal(field, value);
+        try {
+            redisTemplate.convertAndSend(channel, field.name() + "|" + value);
+        } catch (Exception e) {
+            log.warn("사용자 식별 정보 추가 메시지 발행 실패 - 필드: {}, 오류: {}", field, e.getMessage());
+        }
+    }
+
+    private void addLocal(Field field, String value) {
+        Map<Field, BloomFilter> current = filters;
+        if (current != null) {
+            current.get(field).put(value);
+        }
+        Map<Field, BloomFilter> next = building;
+        if (next != null) {
+            next.get(field).put(value);
+        }
+    }
+}
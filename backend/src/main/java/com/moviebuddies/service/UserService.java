@@ -7,13 +7,18 @@ import com.moviebuddies.entity.User;
 import com.moviebuddies.exception.BusinessException;
 import com.moviebuddies.exception.ResourceNotFoundException;
 import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.security.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 /**
@@ -39,6 +44,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final FileService fileService;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserAvailabilityIndex availabilityIndex;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 사용자 ID로 사용자 정보 조회
@@ -96,14 +105,15 @@ public class UserService {
     /**
      * 사용자 프로필 정보 수정
      * 
-     * 닉네임과 이메일의 중복 여부를 확인한 후 프로필을 업데이트
+     * 닉네임과 이메일의 중복 여부를 데이터베이스에서 확인한 후 프로필을 업데이트
      * null이 아닌 필드만 수정되며, 기존 값과 동일한 경우 중복 검사를 생략
+     * 확인 이후 다른 요청이 같은 이메일을 먼저 사용한 경우 유니크 제약 위반을 409로 응답
      * 
      * @param userId 수정할 사용자 ID
      * @param request 수정할 프로필 정보
      * @return 수정된 사용자 정보 DTO
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
-     * @throws BusinessException 닉네임 또는 이메일이 중복된 경우
+     * @throws BusinessException 닉네임 또는 이메일이 중복된 경우 (409)
      */
     @Transactional  // 쓰기 작업이므로 트랜잭션 적용
     public UserResponse updateUser(Long userId, UserUpdateRequest request) {
@@ -128,7 +138,20 @@ public class UserService {
 
         // 프로필 정보 업데이트 (null이 아닌 값만 업데이트)
         user.updateProfile(request.getNickname(), request.getEmail(), null);
-        User updatedUser = userRepository.save(user);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사 이후 다른 요청이 먼저 같은 이메일을 사용한 경우 (이메일 유니크 제약)
+            throw BusinessException.conflict("이미 사용 중인 이메일입니다.");
+        }
+
+        // 사용 가능 여부 확인(/check)이 새 값을 사용 중으로 응답하도록 인덱스에 추가
+        availabilityIndex.add(UserAvailabilityIndex.Field.NICKNAME, updatedUser.getNickname());
+        availabilityIndex.add(UserAvailabilityIndex.Field.EMAIL, updatedUser.getEmail());
+
+        // 인증 주체 캐시에 남은 이전 프로필 정보 제거 (커밋 이후)
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
 
         log.info("사용자 프로필 수정 완료 - 사용자 ID: {}", userId);
         return UserResponse.from(updatedUser);
@@ -139,39 +162,55 @@ public class UserService {
      *
      * 보안을 위해 현재 비밀번호를 먼저 확인 후 새 비밀번호로 변경
      * 새 비밀번호와 확인 비밀번호의 일치 여부도 검증
+     * 해싱은 전용 실행기에서 트랜잭션 밖에서 수행하고, 저장만 짧은 트랜잭션으로 처리 (대기 중 DB 커넥션 점유 방지)
      *
      * @param userId 비밀번호를 변경할 사용자 ID
      * @param request 비밀번호 변경 요청 정보
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
-     * @throws BusinessException 현재 비밀번호가 틀렸거나 새 비밀번호가 일치하는 경우
+     * @throws BusinessException 현재 비밀번호가 틀렸거나 새 비밀번호가 일치하는 경우,
+     *                           확인 중 다른 요청이 비밀번호를 먼저 변경한 경우 (409)
      */
-    @Transactional  // 쓰기 작업이므로 트랜잭션 적용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void changePassword(Long userId, PasswordChangeRequest request) {
 
         log.info("비밀번호 변경 요청 - 사용자 ID: {}", userId);
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
-
-        // 1. 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
-            throw BusinessException.badRequest("현재 비밀번호가 일치하지 않습니다.");
-        }
+        String currentHash = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("사용자", userId))
+                .getPassword();
 
-        // 2. 새 비밀번호와 확인 비밀번호 일치 여부 확인
+        // 1. 새 비밀번호와 확인 비밀번호 일치 여부 확인 (해싱 없이 먼저 검사)
         if (!request.getNewPassword().equals(request.getConfirmPassword())) {
             throw BusinessException.badRequest("새 비밀번호와 확인 비밀번호가 일치하지 않습니다.");
         }
 
-        // 3. 새 비밀번호와 현재 비밀번호 동일한지 확인
-        if (passwordEncoder.matches(request.getNewPassword(), user.getPassword())) {
+        // 2. 새 비밀번호와 현재 비밀번호 동일한지 확인
+        // (현재 비밀번호가 아래에서 해시와 일치해야 하므로 평문 비교로 충분, BCrypt 비교 1회 절약)
+        if (request.getNewPassword().equals(request.getCurrentPassword())) {
             throw BusinessException.badRequest("새 비밀번호는 현재 비밀번호와 달라야 합니다.");
         }
-        
-        // 4. 비밀번호 암호화 후 저장
-        String encodedNewPassword = passwordEncoder.encode(request.getNewPassword());
-        user.changePassword(encodedNewPassword);
-        userRepository.save(user);
+
+        // 3. 현재 비밀번호 확인 후 새 비밀번호 암호화 (비밀번호 해싱 전용 실행기에서 실행)
+        String encodedNewPassword = passwordHashingExecutor.execute("change-password", () -> {
+            if (!passwordEncoder.matches(request.getCurrentPassword(), currentHash)) {
+                throw BusinessException.badRequest("현재 비밀번호가 일치하지 않습니다.");
+            }
+            return passwordEncoder.encode(request.getNewPassword());
+        });
+
+        // 4. 비밀번호 저장 (확인한 해시가 그사이 바뀌었으면 다른 요청이 먼저 변경한 것이므로 거부)
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("사용자", userId));
+            if (!currentHash.equals(user.getPassword())) {
+                throw BusinessException.conflict("비밀번호가 다른 요청에서 이미 변경되었습니다. 다시 시도해주세요.");
+            }
+            user.changePassword(encodedNewPassword);
+            userRepository.save(user);
+
+            // 인증 주체 캐시 무효화 (커밋 이후)
+            eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
+        });
 
         log.info("비밀번호 변경 완료 - 사용자 ID: {}", userId);
     }
@@ -237,6 +276,9 @@ public class UserService {
         user.setIsActive(false);
         userRepository.save(user);
 
+        // 인증 주체 캐시 무효화 (커밋 이후) - 비활성화된 사용자의 토큰은 다음 요청부터 인증 실패
+        eventPublisher.publishEvent(new UserAccountChangedEvent(userId));
+
         log.info("사용자 계정 삭제 완료 - 사용자 ID: {}", userId);
     }
 }
@@ -0,0 +1,181 @@
+package com.moviebuddies.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis pub/sub 기반 채팅 브로드캐스트 노드 간 전달
+ *
+ * 내장 단순 브로커는 같은 JVM에 연결된 구독자에게만 메시지를 전달하므로,
+ * chat.broker.mode가 redis이면 브로커 채널로 가는 /topic 메시지를 Redis 채널로도 발행하고
+ * 다른 노드가 발행한 메시지는 받아서 자신의 단순 브로커로 전달
+ *
+ * - 다른 노드에서 받은 메시지에는 전달 표시 헤더를 붙여 다시 발행되지 않도록 함
+ * - 메시지 본문은 이미 변환된 바이트(JSON)를 그대로 전달 (노드 간 재직렬화 없음)
+ * - Redis 발행 실패 시 같은 노드의 구독자에게는 그대로 전달됨
+ *
+ * 메트릭:
+ * - chat.fanout.messages (direction=published|received|failed): 노드별 발행/수신 메시지 수
+ * - chat.fanout.latency: 다른 노드가 발행한 시점부터 이 노드 브로커에 전달하기까지의 시간 (노드 간 시계 차이 포함)
+ */
+@Slf4j
+@Component
+public class ChatBrokerFanout implements ChannelInterceptor {
+
+    private static final String FORWARDED_HEADER = "chatFanoutForwarded";
+    private static final String TOPIC_PREFIX = "/topic/";
+
+    /**
+     * 노드 간 전달 메시지
+     *
+     * @param origin 발행 노드 ID
+     * @param destination 브로드캐스트 경로 (/topic/chat/{roomId})
+     * @param contentType 본문 형식
+     * @param payload 변환된 본문
+     * @param publishedAt 발행 시각 (epoch 밀리초)
+     */
+    record FanoutMessage(String origin, String destination, String contentType, byte[] payload, long publishedAt) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MessageChannel brokerChannel;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final String channel;
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter failed;
+    private final Timer latency;
+
+    public ChatBrokerFanout(StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${chat.broker.mode:simple}") String mode,
+                            @Value("${chat.broker.redis.channel:chat:fanout}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.brokerChannel = brokerChannel;
+        this.objectMapper = objectMapper;
+        this.enabled = "redis".equalsIgnoreCase(mode);
+        this.channel = channel;
+        this.published = counter(meterRegistry, "published");
+        this.received = counter(meterRegistry, "received");
+        this.failed = counter(meterRegistry, "failed");
+        this.latency = Timer.builder("chat.fanout.latency")
+                .description("다른 노드가 발행한 채팅 메시지가 이 노드 브로커에 전달되기까지의 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        if (!enabled) {
+            return;
+        }
+        listenerContainer.addMessageListener((message, pattern) -> forwardToLocalBroker(message.getBody()),
+                new ChannelTopic(channel));
+        log.info("채팅 브로드캐스트 Redis 전달 활성화 - 채널: {}, 노드: {}", channel, nodeId);
+    }
+
+    /**
+     * @return Redis 전달 모드 여부 (WebSocketConfig에서 브로커 채널 인터셉터 등록 여부 결정)
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 브로커 채널로 가는 /topic 메시지를 다른 노드에 발행
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!enabled || message.getHeaders().containsKey(FORWARDED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(TOPIC_PREFIX)) {
+            return message;
+        }
+
+        MimeType contentType = accessor.getContentType();
+        try {
+            FanoutMessage fanout = new FanoutMessage(nodeId, destination,
+                    contentType != null ? contentType.toString() : null, payload, System.currentTimeMillis());
+            redisTemplate.convertAndSend(this.channel, objectMapper.writeValueAsString(fanout));
+            published.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("채팅 메시지 노드 간 발행 실패 (이 노드에만 전달) - 경로: {}, 오류: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * 다른 노드가 발행한 메시지를 이 노드의 단순 브로커로 전달
+     */
+    private void forwardToLocalBroker(byte[] body) {
+        FanoutMessage fanout;
+        try {
+            fanout = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), FanoutMessage.class);
+        } catch (Exception e) {
+            log.warn("채팅 메시지 노드 간 수신 실패 - 오류: {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(fanout.origin())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(fanout.destination());
+        if (fanout.contentType() != null) {
+            accessor.setContentType(MimeType.valueOf(fanout.contentType()));
+        }
+        accessor.setHeader(FORWARDED_HEADER, fanout.origin());
+        accessor.setLeaveMutable(true);
+        MessageHeaders headers = accessor.getMessageHeaders();
+
+        brokerChannel.send(MessageBuilder.createMessage(fanout.payload(), headers));
+        received.increment();
+        latency.record(Math.max(0, System.currentTimeMillis() - fanout.publishedAt()), TimeUnit.MILLISECONDS);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("chat.fanout.messages")
+                .description("채팅 브로드캐스트 노드 간 전달 메시지 수")
+                .tag("direction", direction)
+                .register(meterRegistry);
+    }
+}
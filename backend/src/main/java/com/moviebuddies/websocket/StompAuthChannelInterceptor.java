@@ -1,7 +1,10 @@
 package com.moviebuddies.websocket;
 
+import com.moviebuddies.security.AuthenticatedPrincipalCache;
 import com.moviebuddies.security.JwtUtil;
+import com.moviebuddies.security.TokenDenylist;
 import com.moviebuddies.security.UserDetailsImpl;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
@@ -13,7 +16,6 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 /**
@@ -26,7 +28,8 @@ import org.springframework.stereotype.Component;
 public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
     private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final AuthenticatedPrincipalCache principalCache;
+    private final TokenDenylist tokenDenylist;
 
     /**
      * 메시지 전송 전 인증 처리
@@ -51,8 +54,9 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
         // JWT 토큰 추출 시도
         String token = extractToken(accessor);
 
-        // 토큰이 없거나 유효하지 않은 경우 연결 차단
-        if (token == null || !jwtUtil.validateToken(token)) {
+        // 토큰이 없거나 유효하지 않은 경우 연결 차단 (한 번만 파싱)
+        Claims claims = token != null ? jwtUtil.parseToken(token) : null;
+        if (claims == null || tokenDenylist.isRevoked(claims)) {
             log.warn("WebSocket 연결 시 유효하지 않은 토큰 - 세션: {}",
                     accessor.getSessionId());
             return null;
@@ -60,8 +64,13 @@ public class StompAuthChannelInterceptor implements ChannelInterceptor {
 
         // 토큰이 유효한 경우 사용자 인증 정보 설정
         try {
-            String username = jwtUtil.getUsernameFromToken(token);
-            UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+            String username = claims.getSubject();
+            UserDetailsImpl userDetails = principalCache.get(claims);
+            if (userDetails == null) {
+                log.warn("WebSocket 연결 시 비활성 또는 존재하지 않는 사용자 - 사용자: {}, 세션: {}",
+                        username, accessor.getSessionId());
+                return null;
+            }
 
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
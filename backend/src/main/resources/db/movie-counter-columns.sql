@@ -0,0 +1,45 @@
+-- 영화 집계 컬럼(리뷰 수, 평점 합계, 북마크 수) 추가 및 1회 보정
+-- ddl-auto=validate 환경에서는 JPA가 컬럼을 만들지 않으므로 스키마 검증 전에 실행 (spring.sql.init)
+-- 컬럼이 하나라도 없을 때만 추가하고 기존 리뷰/북마크 데이터로 값을 채우므로 반복 실행에 안전
+-- 테이블이 아직 없는 새 데이터베이스에서는 아무것도 하지 않음
+-- 스크립트 전체를 한 문장으로 실행 (spring.sql.init.separator)
+DO $$
+DECLARE
+    missing BOOLEAN;
+BEGIN
+    IF to_regclass('movies') IS NULL THEN
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) < 3 INTO missing
+    FROM information_schema.columns
+    WHERE table_schema = current_schema()
+      AND table_name = 'movies'
+      AND column_name IN ('review_count', 'rating_sum', 'bookmark_count');
+
+    IF NOT missing THEN
+        RETURN;
+    END IF;
+
+    ALTER TABLE movies
+        ADD COLUMN IF NOT EXISTS review_count INTEGER NOT NULL DEFAULT 0,
+        ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0,
+        ADD COLUMN IF NOT EXISTS bookmark_count INTEGER NOT NULL DEFAULT 0;
+
+    -- MovieRepository.repairCounters와 같은 집계
+    UPDATE movies m SET
+        review_count = s.review_count, rating_sum = s.rating_sum, bookmark_count = s.bookmark_count
+    FROM (SELECT mv.id,
+                 COALESCE(r.cnt, 0) AS review_count,
+                 COALESCE(r.total, 0) AS rating_sum,
+                 COALESCE(b.cnt, 0) AS bookmark_count
+          FROM movies mv
+          LEFT JOIN (SELECT movie_id, COUNT(*) AS cnt, SUM(rating) AS total FROM reviews GROUP BY movie_id) r
+                 ON r.movie_id = mv.id
+          LEFT JOIN (SELECT movie_id, COUNT(*) AS cnt FROM bookmarks GROUP BY movie_id) b
+                 ON b.movie_id = mv.id) s
+    WHERE m.id = s.id
+      AND (m.review_count <> s.review_count OR m.rating_sum <> s.rating_sum OR m.bookmark_count <> s.bookmark_count);
+
+    RAISE NOTICE '영화 집계 컬럼 추가 및 보정 완료';
+END $$;
@@ -0,0 +1,62 @@
+package com.moviebuddies;
+
+import com.moviebuddies.config.TwoTierCacheManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 키의 동시 캐시 미스가 원본 조회 한 번으로 합쳐지는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class CacheStampedeTests {
+
+	@Autowired
+	private TwoTierCacheManager cacheManager;
+
+	@Test
+	void concurrentMissesOnSameKeyRunLoaderOnce() throws Exception {
+		Cache cache = cacheManager.getCache("genreTop5");
+		cache.evict(990101L);
+
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return cache.get(990101L, () -> {
+						loads.incrementAndGet();
+						Thread.sleep(200);
+						return "top5";
+					});
+				}));
+			}
+			start.countDown();
+
+			for (Future<String> result : results) {
+				assertThat(result.get()).isEqualTo("top5");
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(cache.get(990101L).get()).isEqualTo("top5");
+	}
+}
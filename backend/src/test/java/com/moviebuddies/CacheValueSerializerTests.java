@@ -0,0 +1,55 @@
+package com.moviebuddies;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.moviebuddies.config.CacheValueSerializer;
+import com.moviebuddies.dto.response.GenreResponse;
+import com.moviebuddies.dto.response.MovieListResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smile 캐시 값이 JSON보다 작고 같은 값으로 복원되며, 기존 JSON 값도 계속 읽히는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class CacheValueSerializerTests {
+
+	@Autowired
+	@Qualifier("redisObjectMapper")
+	private ObjectMapper redisObjectMapper;
+
+	@Test
+	void smileValuesAreSmallerAndLegacyJsonStaysReadable() {
+		CacheValueSerializer json = new CacheValueSerializer(redisObjectMapper, CacheValueSerializer.Format.JSON, 0);
+		CacheValueSerializer smile = new CacheValueSerializer(redisObjectMapper, CacheValueSerializer.Format.SMILE, 1024);
+
+		List<MovieListResponse> movies = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			movies.add(MovieListResponse.builder()
+					.id((long) i)
+					.title("Serializer Movie " + i)
+					.releaseDate(LocalDate.of(2024, 1, 1).plusDays(i))
+					.popularity(100.0 - i)
+					.genres(List.of(GenreResponse.builder().id(28L).name("액션").tmdbId(28L).build()))
+					.build());
+		}
+
+		byte[] jsonBytes = json.serialize(movies);
+		byte[] smileBytes = smile.serialize(movies);
+
+		assertThat(smileBytes.length).isLessThan(jsonBytes.length / 2);
+		assertThat(smile.deserialize(smileBytes)).isEqualTo(movies);
+		// 형식을 바꾼 뒤에도 기존 JSON 값과 Smile 값을 모두 읽음
+		assertThat(smile.deserialize(jsonBytes)).isEqualTo(movies);
+		assertThat(json.deserialize(smileBytes)).isEqualTo(movies);
+	}
+}
@@ -0,0 +1,80 @@
+package com.moviebuddies;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * redis 브로커 모드에서 /topic 브로드캐스트가 Redis로 발행되고, 다른 노드의 메시지는 이 노드 브로커로 전달되는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "chat.broker.mode=redis")
+class ChatBrokerFanoutTests {
+
+	@Autowired
+	private SimpMessagingTemplate messagingTemplate;
+
+	@Autowired
+	private StringRedisTemplate redisTemplate;
+
+	@Autowired
+	private RedisMessageListenerContainer listenerContainer;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void topicMessagesAreFannedOutAcrossNodes() throws Exception {
+		BlockingQueue<String> published = new LinkedBlockingQueue<>();
+		listenerContainer.addMessageListener(
+				(message, pattern) -> published.add(new String(message.getBody(), StandardCharsets.UTF_8)),
+				new ChannelTopic("chat:fanout"));
+		Thread.sleep(200);
+
+		// 이 노드의 브로드캐스트는 Redis로 발행
+		messagingTemplate.convertAndSend("/topic/chat/42", Map.of("content", "hello"));
+		String body = published.poll(5, TimeUnit.SECONDS);
+		assertThat(body).isNotNull();
+		JsonNode node = objectMapper.readTree(body);
+		assertThat(node.get("destination").asText()).isEqualTo("/topic/chat/42");
+
+		// 다른 노드가 발행한 메시지는 이 노드 브로커로 전달 (다시 발행하지 않음)
+		double receivedBefore = count("received");
+		double publishedBefore = count("published");
+		String foreign = objectMapper.writeValueAsString(Map.of(
+				"origin", "other-node",
+				"destination", "/topic/chat/42",
+				"contentType", "application/json",
+				"payload", Base64.getEncoder().encodeToString("{\"content\":\"hi\"}".getBytes(StandardCharsets.UTF_8)),
+				"publishedAt", System.currentTimeMillis()));
+		redisTemplate.convertAndSend("chat:fanout", foreign);
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> count("received") == receivedBefore + 1);
+		assertThat(count("published")).isEqualTo(publishedBefore);
+	}
+
+	private double count(String direction) {
+		return meterRegistry.counter("chat.fanout.messages", "direction", direction).count();
+	}
+}
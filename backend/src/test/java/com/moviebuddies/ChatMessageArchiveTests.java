@@ -0,0 +1,106 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.ChatRoomCreateRequest;
+import com.moviebuddies.dto.response.ChatMessageHistoryResponse;
+import com.moviebuddies.dto.response.ChatMessageResponse;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.repository.ChatMessageBatchRepository;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.ChatMessageArchiveService;
+import com.moviebuddies.service.ChatService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 보존 기간이 지난 메시지만 배치 단위로 보관 테이블로 이동하고,
+ * (생성일, ID) 커서 조회가 버퍼 범위를 넘어 DB에서 빠짐없이 이어지는지 검증
+ * 기준 메시지(before)가 보관된 경우 빈 기록 대신 오류를 반환하는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"chat.archive.retention-days=30",
+		"chat.archive.batch-size=7",
+		"chat.archive.pause-ms=0",
+		"chat.recent-buffer.capacity=5"
+})
+class ChatMessageArchiveTests {
+
+	@Autowired
+	private ChatService chatService;
+
+	@Autowired
+	private ChatMessageArchiveService chatMessageArchiveService;
+
+	@Autowired
+	private ChatMessageBatchRepository chatMessageBatchRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void oldMessagesAreArchivedInBatchesAndHistoryPagesByCursor() {
+		User user = userRepository.save(User.builder()
+				.username("chat_archive")
+				.password("{noop}password")
+				.email("chat_archive@example.com")
+				.nickname("chat_archive")
+				.isActive(true)
+				.build());
+		Long roomId = chatService.createRoom(user.getId(),
+				new ChatRoomCreateRequest("archive room", "test", 10)).getId();
+
+		// 보존 기간이 지난 메시지 20건, 최근 메시지 12건 (같은 생성 시각 포함)
+		LocalDateTime old = LocalDateTime.now().minusDays(60);
+		LocalDateTime recent = LocalDateTime.now().minusMinutes(5);
+		List<ChatMessageBatchRepository.NewMessage> messages = new ArrayList<>();
+		for (long i = 1; i <= 32; i++) {
+			LocalDateTime createdAt = i <= 20 ? old.plusSeconds(i) : recent.plusSeconds(i / 2);
+			messages.add(new ChatMessageBatchRepository.NewMessage(
+					9_000_000_000L + i, roomId, user.getId(), "message " + i, createdAt));
+		}
+		chatMessageBatchRepository.insertAll(messages);
+
+		int archived = chatMessageArchiveService.archiveOldMessages();
+
+		assertThat(archived).isGreaterThanOrEqualTo(20);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM chat_messages WHERE chat_room_id = ?", Long.class, roomId)).isEqualTo(12);
+		assertThat(jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM chat_messages_archive WHERE chat_room_id = ?", Long.class, roomId)).isEqualTo(20);
+
+		// 버퍼(5건)를 넘어서는 페이지는 커서로 DB에서 이어서 조회
+		List<String> received = new ArrayList<>();
+		ChatMessageHistoryResponse page = chatService.getRecentMessages(user.getId(), roomId, null, null, 4);
+		while (true) {
+			page.getContent().stream().map(ChatMessageResponse::getContent).forEach(received::add);
+			if (!page.isHasNext()) {
+				break;
+			}
+			page = chatService.getRecentMessages(user.getId(), roomId, null, page.getNextCursor(), 4);
+		}
+
+		assertThat(received).hasSize(12).doesNotHaveDuplicates().allMatch(content -> {
+			int number = Integer.parseInt(content.substring("message ".length()));
+			return number > 20;
+		});
+		assertThat(received.get(0)).isEqualTo("message 32");
+
+		// 보관된 메시지를 before로 지정하면 기록이 끝난 것처럼 빈 페이지를 주지 않고 400
+		assertThatThrownBy(() -> chatService.getRecentMessages(user.getId(), roomId, 9_000_000_001L, null, 4))
+				.isInstanceOf(BusinessException.class);
+	}
+}
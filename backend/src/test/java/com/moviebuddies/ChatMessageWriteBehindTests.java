@@ -0,0 +1,63 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.ChatMessageRequest;
+import com.moviebuddies.dto.request.ChatRoomCreateRequest;
+import com.moviebuddies.dto.response.ChatMessageResponse;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.ChatMessageRepository;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.ChatService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 채팅 메시지가 전송 즉시 ID를 받아 응답되고, 쓰기 지연 저장으로 같은 ID와 순서 그대로 DB에 저장되는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class ChatMessageWriteBehindTests {
+
+	@Autowired
+	private ChatService chatService;
+
+	@Autowired
+	private ChatMessageRepository chatMessageRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void sentMessagesAreAssignedIdsAndPersistedInBatches() {
+		User user = userRepository.save(User.builder()
+				.username("write_behind")
+				.password("{noop}password")
+				.email("write_behind@example.com")
+				.nickname("write_behind")
+				.isActive(true)
+				.build());
+		Long roomId = chatService.createRoom(user.getId(),
+				new ChatRoomCreateRequest("write-behind room", "test", 10)).getId();
+
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			ChatMessageResponse response = chatService.sendMessage(user.getId(), roomId, new ChatMessageRequest("message " + i));
+			ids.add(response.getId());
+		}
+
+		// 발급 ID는 전송 순서대로 증가하며 JavaScript에서 손실 없이 표현 가능한 범위
+		assertThat(ids).isSorted().doesNotHaveDuplicates();
+		assertThat(ids.get(ids.size() - 1)).isLessThan(1L << 53);
+
+		await().atMost(5, TimeUnit.SECONDS).until(() -> chatMessageRepository.findAllById(ids).size() == ids.size());
+		assertThat(chatMessageRepository.findById(ids.get(0)).orElseThrow().getContent()).isEqualTo("message 0");
+	}
+}
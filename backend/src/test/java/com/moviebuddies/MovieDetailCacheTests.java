@@ -0,0 +1,59 @@
+package com.moviebuddies;
+
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.MovieRepository;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.BookmarkService;
+import com.moviebuddies.service.MovieService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영화 상세 정보 캐시가 북마크 변경 시 해당 영화의 항목만 무효화되는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class MovieDetailCacheTests {
+
+	@Autowired
+	private MovieService movieService;
+
+	@Autowired
+	private BookmarkService bookmarkService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	void bookmarkEvictsOnlyTheBookmarkedMovieDetail() {
+		Movie bookmarked = movieRepository.save(Movie.builder().title("Detail Cache Movie A").tmdbId(960001L).build());
+		Movie untouched = movieRepository.save(Movie.builder().title("Detail Cache Movie B").tmdbId(960002L).build());
+		User user = TestUsers.save(userRepository, "detail_cache");
+
+		assertThat(movieService.getMovieDetail(bookmarked.getId()).getBookmarkCount()).isZero();
+		movieService.getMovieDetail(untouched.getId());
+
+		Cache cache = cacheManager.getCache("movieDetail");
+		assertThat(cache.get(bookmarked.getId())).isNotNull();
+		assertThat(cache.get(untouched.getId())).isNotNull();
+
+		bookmarkService.addBookmark(user.getId(), bookmarked.getId());
+
+		assertThat(cache.get(bookmarked.getId())).isNull();
+		assertThat(cache.get(untouched.getId())).isNotNull();
+		assertThat(movieService.getMovieDetail(bookmarked.getId()).getBookmarkCount()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,100 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.response.MovieCursorPageResponse;
+import com.moviebuddies.dto.response.MovieListResponse;
+import com.moviebuddies.entity.Genre;
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.repository.GenreRepository;
+import com.moviebuddies.repository.MovieRepository;
+import com.moviebuddies.service.MovieService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 영화 목록 조회 시 페이지 크기와 관계없이 SQL 실행 수가 고정되는지 확인
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MovieListQueryCountTests {
+
+	private static final int MOVIE_COUNT = 20;
+
+	@Autowired
+	private MovieService movieService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private GenreRepository genreRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	/**
+	 * 이 테스트가 만든 영화 ID (인기도 내림차순)
+	 */
+	private final List<Long> movieIds = new ArrayList<>();
+
+	/**
+	 * 실행마다 고유한 TMDB ID와 장르 이름으로 영화를 만들고, 기존 영화보다 인기도를 높여 첫 페이지를 차지하도록 함
+	 */
+	@BeforeEach
+	void setUp() {
+		long tmdbBase = 980_000_000L + (System.nanoTime() & 0xFFFFFF) * (MOVIE_COUNT + 2);
+		double popularityBase = movieRepository.findByPopularityKeyset(PageRequest.of(0, 1)).stream()
+				.map(Movie::getPopularity)
+				.filter(Objects::nonNull)
+				.findFirst()
+				.orElse(0.0) + 1;
+
+		transactionTemplate.executeWithoutResult(status -> {
+			Genre action = genreRepository.save(Genre.builder().name("QC-Action-" + tmdbBase).tmdbId(tmdbBase).build());
+			Genre drama = genreRepository.save(Genre.builder().name("QC-Drama-" + tmdbBase).tmdbId(tmdbBase + 1).build());
+
+			for (int i = MOVIE_COUNT - 1; i >= 0; i--) {
+				Movie movie = Movie.builder()
+						.title("Query Count Movie " + i)
+						.tmdbId(tmdbBase + 2 + i)
+						.popularity(popularityBase + i)
+						.build();
+				movie.addGenre(action);
+				if (i % 2 == 0) {
+					movie.addGenre(drama);
+				}
+				movieIds.add(movieRepository.save(movie).getId());
+			}
+		});
+	}
+
+	@Test
+	void movieListPageUsesBoundedStatementCount() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		MovieCursorPageResponse page = movieService.getMoviesByCursor(null, MOVIE_COUNT, "popularity", false);
+
+		// 페이지 조회 1 + 장르 일괄 조회 1 (리뷰/북마크 수는 비정규화 컬럼 사용)
+		assertThat(page.getContent()).extracting(MovieListResponse::getId).containsExactlyElementsOf(movieIds);
+		assertThat(page.getContent()).allSatisfy(movie -> assertThat(movie.getGenres()).isNotEmpty());
+		assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+	}
+
+}
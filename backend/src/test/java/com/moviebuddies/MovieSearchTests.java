@@ -0,0 +1,69 @@
+package com.moviebuddies;
+
+import com.moviebuddies.config.SearchIndexInitializer;
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.repository.MovieRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색어의 LIKE 와일드카드(%, _)가 문자 그대로 일치하는지,
+ * 생성 도중 실패하여 INVALID로 남은 검색 인덱스가 다시 생성되는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class MovieSearchTests {
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private SearchIndexInitializer searchIndexInitializer;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void wildcardCharactersInKeywordMatchLiterally() {
+		long tmdbBase = 990_000_000L + (System.nanoTime() & 0xFFFFFF) * 4;
+		String prefix = "QS" + tmdbBase;
+		movieRepository.saveAll(List.of(
+				Movie.builder().title(prefix + " 100% pure").tmdbId(tmdbBase).build(),
+				Movie.builder().title(prefix + " 1000 pure").tmdbId(tmdbBase + 1).build(),
+				Movie.builder().title(prefix + " a_b").tmdbId(tmdbBase + 2).build(),
+				Movie.builder().title(prefix + " axb").tmdbId(tmdbBase + 3).build()));
+
+		assertThat(movieRepository.searchByTitle(MovieRepository.escapeLike(prefix + " 100%"), PageRequest.of(0, 10)))
+				.extracting(Movie::getTitle)
+				.containsExactly(prefix + " 100% pure");
+		assertThat(movieRepository.searchByTitle(MovieRepository.escapeLike(prefix + " _"), PageRequest.of(0, 10)))
+				.isEmpty();
+
+		String compact = MovieRepository.escapeLike((prefix + "a_b").toLowerCase());
+		assertThat(movieRepository.searchRankedByTitle(prefix + " a_b", compact, PageRequest.of(0, 10)))
+				.extracting(Movie::getTitle)
+				.containsExactly(prefix + " a_b");
+	}
+
+	@Test
+	void invalidSearchIndexIsRebuilt() {
+		searchIndexInitializer.createSearchIndexes();
+
+		// CONCURRENTLY 생성이 도중에 실패한 상태 재현
+		jdbcTemplate.update("UPDATE pg_index SET indisvalid = false " +
+				"WHERE indexrelid = 'idx_movie_title_trgm'::regclass");
+
+		searchIndexInitializer.createSearchIndexes();
+
+		assertThat(jdbcTemplate.queryForObject("SELECT i.indisvalid FROM pg_index i " +
+				"WHERE i.indexrelid = 'idx_movie_title_trgm'::regclass", Boolean.class)).isTrue();
+	}
+}
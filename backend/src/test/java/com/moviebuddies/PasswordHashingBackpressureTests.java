@@ -0,0 +1,78 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.LoginRequest;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.security.PasswordHashingExecutor;
+import com.moviebuddies.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 해싱 실행기가 포화되면 로그인 요청을 대기 없이 429로 거부하는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"password.hashing.pool-size=1",
+		"password.hashing.queue-capacity=1"
+})
+class PasswordHashingBackpressureTests {
+
+	@Autowired
+	private PasswordHashingExecutor passwordHashingExecutor;
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void loginIsRejectedWhenHashingPoolIsSaturated() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+
+		// 스레드 1개와 대기열 1칸을 모두 점유
+		CompletableFuture<Void> running = CompletableFuture.runAsync(() -> passwordHashingExecutor.execute("test", () -> {
+			started.countDown();
+			await(release);
+			return null;
+		}));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<Void> queued = CompletableFuture.runAsync(() -> passwordHashingExecutor.execute("test", () -> null));
+		while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+			Thread.sleep(10);
+		}
+
+		try {
+			long begin = System.nanoTime();
+			assertThatThrownBy(() -> authService.login(new LoginRequest("hashing_saturated", "password1234")))
+					.isInstanceOf(BusinessException.class)
+					.satisfies(e -> assertThat(((BusinessException) e).getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS));
+			assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin)).isLessThan(1000);
+		} finally {
+			release.countDown();
+		}
+
+		running.get(5, TimeUnit.SECONDS);
+		queued.get(5, TimeUnit.SECONDS);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
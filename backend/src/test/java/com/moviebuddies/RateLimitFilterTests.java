@@ -0,0 +1,59 @@
+package com.moviebuddies;
+
+import com.moviebuddies.security.RateLimitFilter;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 토큰 버킷 기반 속도 제한이 경로 등급별로 초과 요청을 429와 Retry-After로 거부하는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"rate-limit.routes.search.capacity=3",
+		"rate-limit.routes.search.refill-per-second=0.1"
+})
+class RateLimitFilterTests {
+
+	@Autowired
+	private RateLimitFilter rateLimitFilter;
+
+	@Test
+	void searchRequestsBeyondBucketCapacityAreRejected() throws Exception {
+		String clientIp = "10.0." + (UUID.randomUUID().hashCode() & 0xff) + "." + (UUID.randomUUID().hashCode() & 0xff);
+		AtomicInteger passed = new AtomicInteger();
+		FilterChain chain = (req, res) -> passed.incrementAndGet();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(perform("/api/v1/movies/search", clientIp, chain).getStatus()).isEqualTo(200);
+		}
+
+		MockHttpServletResponse rejected = perform("/api/v1/movies/search", clientIp, chain);
+		assertThat(rejected.getStatus()).isEqualTo(429);
+		assertThat(Integer.parseInt(rejected.getHeader("Retry-After"))).isBetween(1, 10);
+		assertThat(passed.get()).isEqualTo(3);
+
+		// 다른 경로 등급의 버킷은 영향 없음
+		assertThat(perform("/api/v1/movies/1", clientIp, chain).getStatus()).isEqualTo(200);
+		// 제한 대상이 아닌 경로는 통과
+		assertThat(perform("/api/v1/bookmarks", clientIp, chain).getStatus()).isEqualTo(200);
+	}
+
+	private MockHttpServletResponse perform(String uri, String clientIp, FilterChain chain) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+		request.setContextPath("/api/v1");
+		request.setRemoteAddr(clientIp);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		rateLimitFilter.doFilter(request, response, chain);
+		return response;
+	}
+}
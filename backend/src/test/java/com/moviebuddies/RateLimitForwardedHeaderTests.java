@@ -0,0 +1,55 @@
+package com.moviebuddies;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프록시(nginx) 뒤에서 X-Forwarded-For의 클라이언트 주소별로 속도 제한 버킷이 분리되는지 검증
+ * (운영과 같이 forward-headers-strategy=native, 테스트 요청은 신뢰 프록시인 루프백에서 들어옴)
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"server.forward-headers-strategy=native",
+		"rate-limit.routes.search.capacity=2",
+		"rate-limit.routes.search.refill-per-second=0.01"
+})
+class RateLimitForwardedHeaderTests {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	void forwardedClientsGetSeparateBuckets() {
+		String clientA = randomClientIp();
+		String clientB = randomClientIp();
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(search(clientA)).isNotEqualTo(429);
+		}
+		assertThat(search(clientA)).isEqualTo(429);
+
+		// 같은 프록시를 거쳐도 다른 클라이언트는 자신의 버킷을 사용
+		assertThat(search(clientB)).isNotEqualTo(429);
+	}
+
+	private int search(String clientIp) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set("X-Forwarded-For", clientIp);
+		return restTemplate.exchange("/api/v1/movies/search?keyword=knight", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class).getStatusCode().value();
+	}
+
+	private static String randomClientIp() {
+		return "203.0." + (UUID.randomUUID().hashCode() & 0xff) + "." + (UUID.randomUUID().hashCode() & 0xff);
+	}
+}
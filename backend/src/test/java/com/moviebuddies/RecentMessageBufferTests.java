@@ -0,0 +1,75 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.ChatMessageRequest;
+import com.moviebuddies.dto.request.ChatRoomCreateRequest;
+import com.moviebuddies.dto.response.ChatMessageHistoryResponse;
+import com.moviebuddies.dto.response.ChatMessageResponse;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.ChatService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 메시지가 DB 저장 전에도 버퍼에서 조회되고, before 기준 키셋 페이징으로 빠짐없이 이어지는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class RecentMessageBufferTests {
+
+	@Autowired
+	private ChatService chatService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void recentMessagesArePagedWithBeforeCursor() {
+		User user = userRepository.save(User.builder()
+				.username("recent_buffer")
+				.password("{noop}password")
+				.email("recent_buffer@example.com")
+				.nickname("recent_buffer")
+				.isActive(true)
+				.build());
+		Long roomId = chatService.createRoom(user.getId(),
+				new ChatRoomCreateRequest("recent buffer room", "test", 10)).getId();
+
+		List<Long> sent = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			sent.add(chatService.sendMessage(user.getId(), roomId, new ChatMessageRequest("message " + i)).getId());
+		}
+		double bufferReads = meterRegistry.counter("chat.history.reads", "source", "buffer").count();
+
+		// 쓰기 지연 저장 완료를 기다리지 않아도 방금 보낸 메시지가 첫 페이지에 포함
+		ChatMessageHistoryResponse first = chatService.getRecentMessages(user.getId(), roomId, null, null, 10);
+		assertThat(first.getContent()).extracting(ChatMessageResponse::getContent).first().isEqualTo("message 24");
+		assertThat(first.isHasNext()).isTrue();
+		assertThat(meterRegistry.counter("chat.history.reads", "source", "buffer").count()).isGreaterThan(bufferReads);
+
+		List<Long> received = new ArrayList<>();
+		ChatMessageHistoryResponse page = first;
+		while (true) {
+			page.getContent().forEach(message -> received.add(message.getId()));
+			if (!page.isHasNext()) {
+				break;
+			}
+			page = chatService.getRecentMessages(user.getId(), roomId, page.getNextBefore(), null, 10);
+		}
+
+		Collections.reverse(sent);
+		assertThat(received).containsExactlyElementsOf(sent);
+	}
+}
@@ -0,0 +1,76 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.ChatMessageRequest;
+import com.moviebuddies.dto.request.ChatRoomCreateRequest;
+import com.moviebuddies.dto.response.ChatRoomResponse;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.ChatService;
+import com.moviebuddies.service.RoomMembershipIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 입장/퇴장이 참가자 인덱스에 반영되어 메시지 전송 권한과 참가자 수가 DB 참가자 목록과 일치하는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class RoomMembershipIndexTests {
+
+	@Autowired
+	private ChatService chatService;
+
+	@Autowired
+	private RoomMembershipIndex roomMembershipIndex;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Test
+	void joinAndLeaveUpdateMembershipChecks() {
+		User creator = saveUser("membership_creator");
+		User member = saveUser("membership_member");
+		Long roomId = chatService.createRoom(creator.getId(),
+				new ChatRoomCreateRequest("membership room", "test", 2)).getId();
+
+		assertThat(roomMembershipIndex.isMember(roomId, creator.getId())).isTrue();
+		assertThat(roomMembershipIndex.isMember(roomId, member.getId())).isFalse();
+		assertThatThrownBy(() -> chatService.sendMessage(member.getId(), roomId, new ChatMessageRequest("before join")))
+				.isInstanceOf(BusinessException.class);
+
+		chatService.joinRoom(member.getId(), roomId);
+		assertThat(roomMembershipIndex.members(roomId)).containsExactlyInAnyOrder(creator.getId(), member.getId());
+		assertThat(chatService.sendMessage(member.getId(), roomId, new ChatMessageRequest("after join")).getSenderDisplayName())
+				.startsWith("익명");
+
+		// 최대 인원(2명) 도달 및 중복 입장 거부
+		User late = saveUser("membership_late");
+		assertThatThrownBy(() -> chatService.joinRoom(late.getId(), roomId)).isInstanceOf(BusinessException.class);
+		assertThatThrownBy(() -> chatService.joinRoom(member.getId(), roomId)).isInstanceOf(BusinessException.class);
+
+		chatService.leaveRoom(member.getId(), roomId);
+		assertThat(roomMembershipIndex.isMember(roomId, member.getId())).isFalse();
+		assertThatThrownBy(() -> chatService.sendMessage(member.getId(), roomId, new ChatMessageRequest("after leave")))
+				.isInstanceOf(BusinessException.class);
+
+		ChatRoomResponse detail = chatService.getChatRoomDetail(roomId);
+		assertThat(detail.getCurrentParticipants()).isEqualTo(1);
+		assertThat(detail.getCreatedByDisplayName()).startsWith("익명");
+	}
+
+	private User saveUser(String username) {
+		return userRepository.save(User.builder()
+				.username(username)
+				.password("{noop}password")
+				.email(username + "@example.com")
+				.nickname(username)
+				.isActive(true)
+				.build());
+	}
+}
@@ -0,0 +1,70 @@
+package com.moviebuddies;
+
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.MovieRepository;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.BookmarkService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 북마크 변경 시 해당 사용자의 북마크 목록 페이지만 무효화되고 다른 사용자의 캐시는 유지되는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class ScopedCacheEvictionTests {
+
+	@Autowired
+	private BookmarkService bookmarkService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Test
+	void bookmarkEvictsOnlyTheOwnersBookmarkPages() {
+		Movie movie = movieRepository.save(Movie.builder().title("Scoped Eviction Movie").tmdbId(960101L).build());
+		User owner = saveUser("scoped_owner");
+		User other = saveUser("scoped_other");
+
+		bookmarkService.getUserBookmarks(owner.getUsername(), PageRequest.of(0, 10));
+		bookmarkService.getUserBookmarks(owner.getUsername(), PageRequest.of(1, 10));
+		bookmarkService.getUserBookmarks(other.getUsername(), PageRequest.of(0, 10));
+
+		Cache cache = cacheManager.getCache("userBookmarks");
+		assertThat(cache.get("scoped_owner_0_10")).isNotNull();
+		assertThat(cache.get("scoped_owner_1_10")).isNotNull();
+		assertThat(cache.get("scoped_other_0_10")).isNotNull();
+
+		bookmarkService.addBookmark(owner.getId(), movie.getId());
+
+		assertThat(cache.get("scoped_owner_0_10")).isNull();
+		assertThat(cache.get("scoped_owner_1_10")).isNull();
+		assertThat(cache.get("scoped_other_0_10")).isNotNull();
+		assertThat(bookmarkService.getUserBookmarks(owner.getUsername(), PageRequest.of(0, 10)).getTotalElements())
+				.isEqualTo(1);
+	}
+
+	private User saveUser(String username) {
+		return userRepository.save(User.builder()
+				.username(username)
+				.password("{noop}password")
+				.email(username + "@example.com")
+				.nickname(username)
+				.isActive(true)
+				.build());
+	}
+}
@@ -0,0 +1,30 @@
+package com.moviebuddies;
+
+import com.moviebuddies.entity.User;
+import com.moviebuddies.repository.UserRepository;
+
+/**
+ * 테스트용 활성 사용자 생성
+ */
+final class TestUsers {
+
+	private TestUsers() {
+	}
+
+	/**
+	 * 사용자명을 이메일/닉네임에도 사용하는 활성 사용자 저장 (비밀번호는 인코딩 없이 "password")
+	 *
+	 * @param userRepository 사용자 저장소
+	 * @param username 사용자명 (테스트마다 고유해야 함)
+	 * @return 저장된 사용자
+	 */
+	static User save(UserRepository userRepository, String username) {
+		return userRepository.save(User.builder()
+				.username(username)
+				.password("{noop}password")
+				.email(username + "@example.com")
+				.nickname(username)
+				.isActive(true)
+				.build());
+	}
+}
@@ -0,0 +1,258 @@
+package com.moviebuddies;
+
+import com.moviebuddies.entity.Movie;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.repository.MovieRepository;
+import com.moviebuddies.service.TmdbService;
+import com.moviebuddies.service.TmdbSyncJob;
+import com.moviebuddies.service.TmdbSyncJobService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 TMDB 서버를 대상으로 전체 동기화 파이프라인(병렬 수집 → 청크 저장)을 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"tmdb.ingest.concurrency=4",
+		"tmdb.ingest.chunk-size=3",
+		"tmdb.rate-limit.requests-per-second=200"
+})
+class TmdbIngestionPipelineTests {
+
+	private static final long GENRE_TMDB_ID = 970001L;
+	private static final long ACTOR_TMDB_ID = 969999L;
+	private static final long MOVIE_TMDB_ID_BASE = 970100L;
+	private static final int MOVIES_PER_PAGE = 2;
+
+	private static final Pattern DETAILS_PATH = Pattern.compile("/movie/(\\d+)");
+
+	private static final AtomicInteger requestCount = new AtomicInteger();
+	private static final AtomicInteger detailsRequestCount = new AtomicInteger();
+	private static final Map<Long, Integer> runtimeOverrides = new ConcurrentHashMap<>();
+	private static final Set<Long> changedTmdbIds = ConcurrentHashMap.newKeySet();
+	private static final Set<Long> failingTmdbIds = ConcurrentHashMap.newKeySet();
+	private static final HttpServer server = startStubServer();
+
+	@Autowired
+	private TmdbService tmdbService;
+
+	@Autowired
+	private TmdbSyncJobService tmdbSyncJobService;
+
+	@Autowired
+	private MovieRepository movieRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@DynamicPropertySource
+	static void tmdbProperties(DynamicPropertyRegistry registry) {
+		registry.add("tmdb.base-url", () -> "http://localhost:" + server.getAddress().getPort());
+		registry.add("tmdb.api-key", () -> "stub-key");
+	}
+
+	@AfterAll
+	static void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void syncAllDataStoresMoviesWithDetailsAndCast() {
+		// 두 번 동기화해도 업서트로 영화/배우가 중복 생성되지 않고 연결이 교체되어야 함
+		tmdbService.syncAllData();
+		tmdbService.syncAllData();
+
+		// 인기 영화 10페이지 + 현재 상영작 5페이지, 페이지당 2편 (현재 상영작은 인기 영화와 TMDB ID가 겹치지 않음)
+		int expectedMovies = (10 + 5) * MOVIES_PER_PAGE;
+
+		transactionTemplate.executeWithoutResult(status -> {
+			for (int i = 0; i < expectedMovies; i++) {
+				Movie movie = movieRepository.findByTmdbId(MOVIE_TMDB_ID_BASE + i).orElseThrow();
+				assertThat(movie.getRuntime()).isEqualTo(120);
+				assertThat(movie.getGenres()).extracting("tmdbId").containsExactly(GENRE_TMDB_ID);
+				assertThat(movie.getActors()).extracting("tmdbId").containsExactly(ACTOR_TMDB_ID);
+			}
+		});
+
+		// (장르 1 + 목록 15 + 영화별 상세(출연진 포함) 1회) x 2
+		assertThat(requestCount.get()).isGreaterThanOrEqualTo((1 + 15 + expectedMovies) * 2);
+	}
+
+	@Test
+	void incrementalSyncFetchesOnlyChangedMovies() {
+		tmdbService.syncAllData();
+
+		long changedTmdbId = MOVIE_TMDB_ID_BASE + 3;
+		runtimeOverrides.put(changedTmdbId, 95);
+		changedTmdbIds.add(changedTmdbId);
+		detailsRequestCount.set(0);
+
+		try {
+			tmdbService.syncChangedMovies();
+
+			// 변경 목록에 포함된 영화만 상세 정보를 다시 조회
+			assertThat(detailsRequestCount.get()).isEqualTo(1);
+			assertThat(movieRepository.findByTmdbId(changedTmdbId).orElseThrow().getRuntime()).isEqualTo(95);
+			assertThat(movieRepository.findByTmdbId(changedTmdbId + 1).orElseThrow().getRuntime()).isEqualTo(120);
+		} finally {
+			runtimeOverrides.clear();
+			changedTmdbIds.clear();
+		}
+	}
+
+	@Test
+	void failedDetailsAreRetriedOnNextIncrementalSync() {
+		tmdbService.syncAllData();
+
+		long failingTmdbId = MOVIE_TMDB_ID_BASE + 5;
+		runtimeOverrides.put(failingTmdbId, 80);
+		changedTmdbIds.add(failingTmdbId);
+		failingTmdbIds.add(failingTmdbId);
+
+		try {
+			tmdbService.syncChangedMovies();
+			assertThat(movieRepository.findByTmdbId(failingTmdbId).orElseThrow().getRuntime()).isEqualTo(120);
+
+			// 변경 목록에 다시 나오지 않아도 직전 실행에서 실패한 영화는 다음 증분 동기화에서 다시 처리
+			changedTmdbIds.clear();
+			failingTmdbIds.clear();
+			detailsRequestCount.set(0);
+			tmdbService.syncChangedMovies();
+
+			assertThat(detailsRequestCount.get()).isEqualTo(1);
+			assertThat(movieRepository.findByTmdbId(failingTmdbId).orElseThrow().getRuntime()).isEqualTo(80);
+		} finally {
+			runtimeOverrides.clear();
+			changedTmdbIds.clear();
+			failingTmdbIds.clear();
+		}
+	}
+
+	@Test
+	void syncJobRunsInBackgroundAndRejectsDuplicates() throws InterruptedException {
+		TmdbSyncJob job = tmdbSyncJobService.submit(TmdbSyncJob.Type.ALL);
+
+		// 진행 중인 작업이 있으면 새 작업은 거부
+		assertThatThrownBy(() -> tmdbSyncJobService.submit(TmdbSyncJob.Type.CHANGES))
+				.isInstanceOf(BusinessException.class);
+
+		long deadline = System.currentTimeMillis() + 60_000;
+		while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(100);
+		}
+
+		assertThat(job.getStatus()).isEqualTo(TmdbSyncJob.Status.COMPLETED);
+		assertThat(job.getProgress().getMoviesUpserted()).isGreaterThanOrEqualTo((10 + 5) * MOVIES_PER_PAGE);
+		assertThat(job.getProgress().getStages()).extracting("name")
+				.containsExactly("popular", "now-playing", "details");
+		assertThat(tmdbSyncJobService.getJob(job.getId())).isSameAs(job);
+	}
+
+	private static HttpServer startStubServer() {
+		try {
+			HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			httpServer.createContext("/", TmdbIngestionPipelineTests::handle);
+			httpServer.setExecutor(Executors.newFixedThreadPool(4));
+			httpServer.start();
+			return httpServer;
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		String path = exchange.getRequestURI().getPath();
+		String query = exchange.getRequestURI().getQuery();
+
+		String body;
+		if (path.equals("/genre/movie/list")) {
+			body = "{\"genres\":[{\"id\":" + GENRE_TMDB_ID + ",\"name\":\"Stub-Genre\"}]}";
+		} else if (path.equals("/movie/popular")) {
+			body = moviePage(pageOf(query) - 1);
+		} else if (path.equals("/movie/now_playing")) {
+			body = moviePage(10 + pageOf(query) - 1);
+		} else if (path.equals("/movie/changes")) {
+			StringBuilder results = new StringBuilder();
+			for (Long tmdbId : changedTmdbIds) {
+				results.append(results.length() > 0 ? "," : "").append("{\"id\":").append(tmdbId).append('}');
+			}
+			body = "{\"results\":[" + results + "],\"page\":1,\"total_pages\":1}";
+		} else {
+			Matcher matcher = DETAILS_PATH.matcher(path);
+			if (!matcher.matches()) {
+				respond(exchange, 404, "{}");
+				return;
+			}
+			detailsRequestCount.incrementAndGet();
+			long tmdbId = Long.parseLong(matcher.group(1));
+			if (failingTmdbIds.contains(tmdbId)) {
+				respond(exchange, 404, "{}");
+				return;
+			}
+			body = "{\"id\":" + tmdbId
+					+ ",\"title\":\"Stub Movie " + tmdbId + "\",\"release_date\":\"2024-01-01\""
+					+ ",\"runtime\":" + runtimeOverrides.getOrDefault(tmdbId, 120)
+					+ ",\"genres\":[{\"id\":" + GENRE_TMDB_ID + ",\"name\":\"Stub-Genre\"}]"
+					+ ",\"credits\":{\"cast\":[{\"id\":" + ACTOR_TMDB_ID + ",\"name\":\"Stub Actor\",\"popularity\":1.0}]}}";
+		}
+		respond(exchange, 200, body);
+	}
+
+	private static String moviePage(int pageIndex) {
+		StringBuilder results = new StringBuilder();
+		for (int i = 0; i < MOVIES_PER_PAGE; i++) {
+			long tmdbId = MOVIE_TMDB_ID_BASE + (long) pageIndex * MOVIES_PER_PAGE + i;
+			if (i > 0) {
+				results.append(',');
+			}
+			results.append("{\"id\":").append(tmdbId)
+					.append(",\"title\":\"Stub Movie ").append(tmdbId).append('"')
+					.append(",\"release_date\":\"2024-01-01\",\"popularity\":").append(tmdbId % 100)
+					.append(",\"genre_ids\":[").append(GENRE_TMDB_ID).append("]}");
+		}
+		return "{\"results\":[" + results + "]}";
+	}
+
+	private static int pageOf(String query) {
+		for (String param : query.split("&")) {
+			if (param.startsWith("page=")) {
+				return Integer.parseInt(param.substring("page=".length()));
+			}
+		}
+		return 1;
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.LoginRequest;
+import com.moviebuddies.dto.request.SignupRequest;
+import com.moviebuddies.dto.response.JwtResponse;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.security.JwtUtil;
+import com.moviebuddies.security.TokenDenylist;
+import com.moviebuddies.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 교체(재사용 거부)와 로그아웃 시 토큰 폐기를 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TokenRevocationTests {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private JwtUtil jwtUtil;
+
+	@Autowired
+	private TokenDenylist tokenDenylist;
+
+	@Test
+	void refreshRotatesTokenAndRejectsReuse() {
+		JwtResponse login = signupAndLogin("revoke_rotate");
+
+		JwtResponse refreshed = authService.refreshToken(login.getRefreshToken());
+		assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+
+		// 이미 사용된 리프레시 토큰은 다시 사용할 수 없음
+		assertThatThrownBy(() -> authService.refreshToken(login.getRefreshToken()))
+				.isInstanceOf(BusinessException.class);
+
+		// 새로 발급된 리프레시 토큰은 사용 가능
+		assertThat(authService.refreshToken(refreshed.getRefreshToken()).getAccessToken()).isNotBlank();
+	}
+
+	@Test
+	void logoutRevokesAccessAndRefreshTokens() {
+		JwtResponse login = signupAndLogin("revoke_logout");
+		assertThat(tokenDenylist.isRevoked(jwtUtil.parseToken(login.getAccessToken()))).isFalse();
+
+		authService.logout(login.getAccessToken(), login.getRefreshToken());
+
+		assertThat(tokenDenylist.isRevoked(jwtUtil.parseToken(login.getAccessToken()))).isTrue();
+		assertThatThrownBy(() -> authService.refreshToken(login.getRefreshToken()))
+				.isInstanceOf(BusinessException.class);
+	}
+
+	private JwtResponse signupAndLogin(String username) {
+		authService.signup(new SignupRequest(username, "password1234", username + "@example.com", username));
+		return authService.login(new LoginRequest(username, "password1234"));
+	}
+}
@@ -0,0 +1,56 @@
+package com.moviebuddies;
+
+import com.moviebuddies.config.TwoTierCache;
+import com.moviebuddies.config.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시(L1 Caffeine + L2 Redis)의 계층별 조회와 노드 간 L1 무효화를 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class TwoTierCacheTests {
+
+	@Autowired
+	private TwoTierCacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void localTierServesRepeatedReadsUntilRemoteInvalidation() {
+		Cache cache = cacheManager.getCache("genreTop5");
+		assertThat(cache).isInstanceOf(TwoTierCache.class);
+
+		cache.put(990001L, "top5");
+		double l2HitsBefore = count("l2", "hit");
+
+		// 쓰기 노드의 L1에서 바로 응답 (Redis 조회 없음)
+		assertThat(cache.get(990001L).get()).isEqualTo("top5");
+		assertThat(count("l2", "hit")).isEqualTo(l2HitsBefore);
+
+		// 다른 노드의 무효화 알림을 받으면 L1을 비우고 Redis에서 다시 읽음
+		cacheManager.handleInvalidation("other-node\u001fgenreTop5\u001f990001");
+		assertThat(cache.get(990001L).get()).isEqualTo("top5");
+		assertThat(count("l2", "hit")).isEqualTo(l2HitsBefore + 1);
+
+		cache.evict(990001L);
+		assertThat(cache.get(990001L)).isNull();
+	}
+
+	@Test
+	void cachesWithoutLocalSpecUseRedisOnly() {
+		assertThat(cacheManager.getCache("chatRooms")).isNotInstanceOf(TwoTierCache.class);
+	}
+
+	private double count(String tier, String result) {
+		return meterRegistry.counter("cache.tier.gets", "cache", "genreTop5", "tier", tier, "result", result).count();
+	}
+}
@@ -0,0 +1,93 @@
+package com.moviebuddies;
+
+import com.moviebuddies.dto.request.SignupRequest;
+import com.moviebuddies.dto.request.UserUpdateRequest;
+import com.moviebuddies.entity.User;
+import com.moviebuddies.exception.BusinessException;
+import com.moviebuddies.repository.UserRepository;
+import com.moviebuddies.service.AuthService;
+import com.moviebuddies.service.UserAvailabilityIndex;
+import com.moviebuddies.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 블룸 필터 기반 가입 가능 여부 확인이 사용 중인 값을 놓치지 않고, 사용 가능한 값은 DB 조회 없이 응답하는지 검증
+ * 가입/프로필 수정은 필터가 놓친 값도 DB에서 확인하여 409로 거부하는지 검증
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class UserAvailabilityIndexTests {
+
+	@Autowired
+	private AuthService authService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private UserAvailabilityIndex availabilityIndex;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void availableValuesAreAnsweredFromIndexAndTakenValuesAreRejected() {
+		availabilityIndex.rebuild();
+
+		double indexAnswersBefore = indexAnswers();
+		assertThat(authService.isUsernameAvailable("avail_fresh")).isTrue();
+		assertThat(indexAnswers()).isEqualTo(indexAnswersBefore + 1);
+
+		authService.signup(new SignupRequest("avail_taken", "password1234", "avail_taken@example.com", "avail_taken"));
+
+		assertThat(authService.isUsernameAvailable("avail_taken")).isFalse();
+		assertThat(authService.isEmailAvailable("avail_taken@example.com")).isFalse();
+		assertThat(authService.isNicknameAvailable("avail_taken")).isFalse();
+
+		// 재구축 후에도 DB에 있는 값은 사용 중으로 판정
+		availabilityIndex.rebuild();
+		assertThatThrownBy(() -> authService.signup(
+				new SignupRequest("avail_taken", "password1234", "avail_other@example.com", "avail_other")))
+				.isInstanceOf(BusinessException.class);
+	}
+
+	@Test
+	void writePathsCheckDatabaseEvenWhenIndexMissesValue() {
+		availabilityIndex.rebuild();
+
+		// 인덱스에 반영되지 않은 사용자 (다른 노드에서 가입했거나 인덱스 적재 전)
+		userRepository.save(User.builder()
+				.username("avail_direct")
+				.password("{noop}password")
+				.email("avail_direct@example.com")
+				.nickname("avail_direct")
+				.isActive(true)
+				.build());
+
+		assertThatThrownBy(() -> authService.signup(
+				new SignupRequest("avail_direct2", "password1234", "avail_direct2@example.com", "avail_direct")))
+				.isInstanceOf(BusinessException.class)
+				.extracting("status").isEqualTo(HttpStatus.CONFLICT);
+
+		Long otherId = authService.signup(
+				new SignupRequest("avail_updater", "password1234", "avail_updater@example.com", "avail_updater")).getId();
+		assertThatThrownBy(() -> userService.updateUser(otherId, new UserUpdateRequest(null, "avail_direct@example.com")))
+				.isInstanceOf(BusinessException.class)
+				.extracting("status").isEqualTo(HttpStatus.CONFLICT);
+	}
+
+	private double indexAnswers() {
+		return meterRegistry.counter("user.availability.checks", "field", "username", "source", "index").count();
+	}
+}